@@ -0,0 +1,59 @@
+package lingogo.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lingogo.model.FlashcardApp;
+import lingogo.model.flashcard.Flashcard;
+import lingogo.model.flashcard.LanguageType;
+import lingogo.model.flashcard.Phrase;
+
+/**
+ * Generates decks of distinct flashcards for benchmarks.
+ * The phrases share a small vocabulary, so keyword searches match a fraction of the deck, as they do in real decks.
+ */
+public class Decks {
+    public static final String[] LANGUAGE_TYPES = {"Chinese", "Japanese", "Korean", "Tamil", "French"};
+    public static final String[] ENGLISH_WORDS = {
+        "good", "morning", "evening", "thank", "you", "sorry", "happy", "birthday", "hello", "bye",
+        "water", "food", "where", "is", "the", "station", "how", "much", "please", "help"
+    };
+    private static final int FIRST_FOREIGN_CHARACTER = 0x4E00;
+    private static final int FOREIGN_CHARACTER_COUNT = 500;
+
+    /**
+     * Returns {@code size} distinct flashcards. The same {@code size} always gives the same flashcards.
+     */
+    public static List<Flashcard> generate(int size) {
+        List<Flashcard> flashcards = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            flashcards.add(generate(i, ""));
+        }
+        return flashcards;
+    }
+
+    /**
+     * Returns the flashcard at position {@code i} of the generated decks, with {@code suffix} appended to its
+     * English phrase. Flashcards with different suffixes are different flashcards.
+     */
+    public static Flashcard generate(int i, String suffix) {
+        String englishPhrase = ENGLISH_WORDS[i % ENGLISH_WORDS.length] + " "
+                + ENGLISH_WORDS[(i / 7) % ENGLISH_WORDS.length] + " " + i + suffix;
+        StringBuilder foreignPhrase = new StringBuilder();
+        for (int j = 0; j < 4; j++) {
+            foreignPhrase.appendCodePoint(FIRST_FOREIGN_CHARACTER + (i * 31 + j * 17) % FOREIGN_CHARACTER_COUNT);
+        }
+        foreignPhrase.append(i);
+        return new Flashcard(LanguageType.of(LANGUAGE_TYPES[i % LANGUAGE_TYPES.length]), new Phrase(englishPhrase),
+                new Phrase(foreignPhrase.toString()));
+    }
+
+    /**
+     * Returns a flashcard app holding a generated deck of {@code size} flashcards.
+     */
+    public static FlashcardApp generateFlashcardApp(int size) {
+        FlashcardApp flashcardApp = new FlashcardApp();
+        flashcardApp.setFlashcards(generate(size));
+        return flashcardApp;
+    }
+}
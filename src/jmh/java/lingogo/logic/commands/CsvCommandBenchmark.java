@@ -0,0 +1,66 @@
+package lingogo.logic.commands;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import lingogo.benchmark.Decks;
+import lingogo.logic.commands.exceptions.CommandException;
+import lingogo.model.Model;
+import lingogo.model.ModelManager;
+import lingogo.model.UserPrefs;
+
+/**
+ * Measures exporting a deck of {@code size} flashcards to a CSV file, and importing it into an empty flashcard app.
+ * The commands read and write the data folder, so the benchmark uses a file of its own there and deletes it after.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CsvCommandBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private Model model;
+    private String fileName;
+
+    @Setup
+    public void setUp() throws CommandException {
+        model = new ModelManager(Decks.generateFlashcardApp(size), new UserPrefs());
+        fileName = "benchmark-" + size + ".csv";
+        new ExportCommand(fileName).execute(model);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(getFilePath());
+    }
+
+    private Path getFilePath() {
+        return Paths.get("data", fileName);
+    }
+
+    @Benchmark
+    public CommandResult exportCommand() throws CommandException {
+        return new ExportCommand(fileName).execute(model);
+    }
+
+    @Benchmark
+    public Model importCommand() throws CommandException {
+        Model emptyModel = new ModelManager();
+        new ImportCommand(fileName).execute(emptyModel);
+        return emptyModel;
+    }
+}
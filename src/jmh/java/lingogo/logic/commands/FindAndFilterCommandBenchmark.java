@@ -0,0 +1,77 @@
+package lingogo.logic.commands;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import lingogo.benchmark.Decks;
+import lingogo.logic.commands.exceptions.CommandException;
+import lingogo.logic.parser.FlashcardAppParser;
+import lingogo.logic.parser.exceptions.ParseException;
+import lingogo.model.Model;
+import lingogo.model.ModelManager;
+import lingogo.model.UserPrefs;
+import lingogo.model.flashcard.Flashcard;
+import lingogo.model.flashcard.PhraseContainsKeywordsPredicate;
+
+/**
+ * Measures the {@code find} and {@code filter} commands on a deck of {@code size} flashcards, and the keyword
+ * predicate of {@code find} tested directly against every flashcard.
+ * Each command starts from the full displayed list, so the commands include showing every flashcard again.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FindAndFilterCommandBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private Model model;
+    private List<Flashcard> flashcards;
+    private Command findCommand;
+    private Command filterCommand;
+    private PhraseContainsKeywordsPredicate findPredicate;
+
+    @Setup
+    public void setUp() throws ParseException {
+        model = new ModelManager(Decks.generateFlashcardApp(size), new UserPrefs());
+        flashcards = model.getFlashcardApp().getFlashcardList();
+        FlashcardAppParser parser = new FlashcardAppParser();
+        findCommand = parser.parseCommand("find e/birthday station f/一");
+        filterCommand = parser.parseCommand("filter l/Japanese r/1 " + size);
+        findPredicate = new PhraseContainsKeywordsPredicate(List.of("birthday", "station", "一"));
+    }
+
+    @Benchmark
+    public int findCommand() throws CommandException {
+        model.updateFilteredFlashcardList(Model.PREDICATE_SHOW_ALL_FLASHCARDS);
+        findCommand.execute(model);
+        return model.getFilteredFlashcardList().size();
+    }
+
+    @Benchmark
+    public int filterCommand() throws CommandException {
+        model.updateFilteredFlashcardList(Model.PREDICATE_SHOW_ALL_FLASHCARDS);
+        filterCommand.execute(model);
+        return model.getFilteredFlashcardList().size();
+    }
+
+    @Benchmark
+    public int findPredicate() {
+        int count = 0;
+        for (Flashcard flashcard : flashcards) {
+            if (findPredicate.test(flashcard)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,62 @@
+package lingogo.logic.parser;
+
+import static lingogo.logic.parser.CliSyntax.PREFIX_ENGLISH_PHRASE;
+import static lingogo.logic.parser.CliSyntax.PREFIX_FOREIGN_PHRASE;
+import static lingogo.logic.parser.CliSyntax.PREFIX_INDEX_LIST;
+import static lingogo.logic.parser.CliSyntax.PREFIX_INDEX_RANGE;
+import static lingogo.logic.parser.CliSyntax.PREFIX_LANGUAGE_TYPE;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures tokenizing the arguments of commands. The arguments do not depend on the size of the deck, except for
+ * index lists, so the index list holds {@code indexCount} indexes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArgumentTokenizerBenchmark {
+    private static final String ADD_ARGUMENTS = " l/Chinese e/Good morning f/早安";
+    private static final String FILTER_ARGUMENTS = " l/Chinese r/1 100";
+
+    @Param({"10", "1000"})
+    private int indexCount;
+
+    private String indexListArguments;
+
+    @Setup
+    public void setUp() {
+        indexListArguments = " i/" + IntStream.rangeClosed(1, indexCount)
+                .mapToObj(Integer::toString)
+                .collect(Collectors.joining(" "));
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenize_add() {
+        return ArgumentTokenizer.tokenize(ADD_ARGUMENTS, PREFIX_LANGUAGE_TYPE, PREFIX_ENGLISH_PHRASE,
+                PREFIX_FOREIGN_PHRASE);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenize_filter() {
+        return ArgumentTokenizer.tokenize(FILTER_ARGUMENTS, PREFIX_LANGUAGE_TYPE, PREFIX_INDEX_LIST,
+                PREFIX_INDEX_RANGE);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenize_indexList() {
+        return ArgumentTokenizer.tokenize(indexListArguments, PREFIX_LANGUAGE_TYPE, PREFIX_INDEX_LIST,
+                PREFIX_INDEX_RANGE);
+    }
+}
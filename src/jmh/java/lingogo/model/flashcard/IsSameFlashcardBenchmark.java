@@ -0,0 +1,75 @@
+package lingogo.model.flashcard;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares {@link Flashcard#isSameFlashcard(Flashcard)} with the previous implementation, which created a predicate
+ * for the language type and trimmed copies of the English phrases on every call.
+ * Run with {@code gradlew jmh}, adding {@code -prof gc} to the JMH arguments to see the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IsSameFlashcardBenchmark {
+    @Param({"1000"})
+    private int size;
+
+    private Flashcard[] flashcards;
+    /** Flashcards of which every other one is the same flashcard as the flashcard at the same position. */
+    private Flashcard[] otherFlashcards;
+
+    @Setup
+    public void setUp() {
+        flashcards = new Flashcard[size];
+        otherFlashcards = new Flashcard[size];
+        for (int i = 0; i < size; i++) {
+            flashcards[i] = new Flashcard(LanguageType.of("Chinese"), new Phrase("Good morning " + i),
+                    new Phrase("早安 " + i));
+            String englishPhrase = i % 2 == 0 ? "GOOD MORNING " + i + " " : "Good evening " + i;
+            otherFlashcards[i] = new Flashcard(LanguageType.of("chinese"), new Phrase(englishPhrase),
+                    new Phrase("早安 " + i));
+        }
+    }
+
+    @Benchmark
+    public int isSameFlashcard() {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (flashcards[i].isSameFlashcard(otherFlashcards[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int isSameFlashcard_usingPredicates() {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (isSameFlashcardUsingPredicates(flashcards[i], otherFlashcards[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * The previous implementation of {@link Flashcard#isSameFlashcard(Flashcard)}, with the English phrase
+     * predicate inlined as it was before, since the predicate now compares phrases without trimming them.
+     */
+    private static boolean isSameFlashcardUsingPredicates(Flashcard flashcard, Flashcard otherFlashcard) {
+        return new LanguageTypeMatchesGivenLanguageTypePredicate(flashcard.getLanguageType()).test(otherFlashcard)
+                && otherFlashcard.getEnglishPhrase().value.trim()
+                        .equalsIgnoreCase(flashcard.getEnglishPhrase().value.trim())
+                && otherFlashcard.getForeignPhrase().equals(flashcard.getForeignPhrase());
+    }
+}
@@ -0,0 +1,81 @@
+package lingogo.model.flashcard;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import lingogo.benchmark.Decks;
+
+/**
+ * Measures building a {@code UniqueFlashcardList} one flashcard at a time and all at once, and looking up flashcards
+ * in a list of {@code size} flashcards.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UniqueFlashcardListBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private List<Flashcard> flashcards;
+    private UniqueFlashcardList uniqueFlashcardList;
+    /** Flashcards which are the same flashcards as those in the list, but are not the instances in it. */
+    private Flashcard[] presentFlashcards;
+    private Flashcard[] absentFlashcards;
+
+    @Setup
+    public void setUp() {
+        flashcards = Decks.generate(size);
+        uniqueFlashcardList = new UniqueFlashcardList();
+        uniqueFlashcardList.setFlashcards(flashcards);
+        presentFlashcards = new Flashcard[1000];
+        absentFlashcards = new Flashcard[1000];
+        for (int i = 0; i < presentFlashcards.length; i++) {
+            int position = (int) ((long) i * size / presentFlashcards.length);
+            presentFlashcards[i] = Decks.generate(position, "");
+            absentFlashcards[i] = Decks.generate(position, " again");
+        }
+    }
+
+    @Benchmark
+    public UniqueFlashcardList add() {
+        UniqueFlashcardList list = new UniqueFlashcardList();
+        for (Flashcard flashcard : flashcards) {
+            list.add(flashcard);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public UniqueFlashcardList setFlashcards() {
+        UniqueFlashcardList list = new UniqueFlashcardList();
+        list.setFlashcards(flashcards);
+        return list;
+    }
+
+    /**
+     * Looks up 1000 flashcards in the list, half of which are in it.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int contains() {
+        int count = 0;
+        for (int i = 0; i < presentFlashcards.length; i++) {
+            if (uniqueFlashcardList.contains(presentFlashcards[i])) {
+                count++;
+            }
+            if (uniqueFlashcardList.contains(absentFlashcards[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,71 @@
+package lingogo.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import lingogo.benchmark.Decks;
+import lingogo.commons.exceptions.DataConversionException;
+import lingogo.model.FlashcardApp;
+import lingogo.model.ReadOnlyFlashcardApp;
+
+/**
+ * Measures saving a deck of {@code size} flashcards to a JSON file, and loading it back.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonFlashcardAppStorageBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private Path folder;
+    private FlashcardApp flashcardApp;
+    private JsonFlashcardAppStorage saveStorage;
+    private JsonFlashcardAppStorage loadStorage;
+
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("lingogo-benchmark");
+        flashcardApp = Decks.generateFlashcardApp(size);
+        saveStorage = new JsonFlashcardAppStorage(folder.resolve("saved.json"));
+        loadStorage = new JsonFlashcardAppStorage(folder.resolve("loaded.json"));
+        loadStorage.saveFlashcardApp(flashcardApp);
+        loadStorage.flushFlashcardApp();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        saveStorage.flushFlashcardApp();
+        try (Stream<Path> files = Files.list(folder)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(folder);
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        saveStorage.saveFlashcardApp(flashcardApp);
+        saveStorage.flushFlashcardApp();
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyFlashcardApp> load() throws DataConversionException {
+        return loadStorage.readFlashcardApp();
+    }
+}
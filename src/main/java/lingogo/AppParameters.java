@@ -17,6 +17,7 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path startupProfilePath;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,6 +27,17 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the file to save the startup profile to as json, or null if it should not be saved.
+     */
+    public Path getStartupProfilePath() {
+        return startupProfilePath;
+    }
+
+    public void setStartupProfilePath(Path startupProfilePath) {
+        this.startupProfilePath = startupProfilePath;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -40,6 +52,15 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String startupProfilePathParameter = namedParameters.get("startup-profile");
+        if (startupProfilePathParameter != null && !FileUtil.isValidPath(startupProfilePathParameter)) {
+            logger.warning("Invalid startup profile path " + startupProfilePathParameter
+                    + ". The startup profile will not be saved.");
+            startupProfilePathParameter = null;
+        }
+        appParameters.setStartupProfilePath(startupProfilePathParameter != null
+                ? Paths.get(startupProfilePathParameter) : null);
+
         return appParameters;
     }
 
@@ -54,11 +75,12 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && Objects.equals(getStartupProfilePath(), otherAppParameters.getStartupProfilePath());
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, startupProfilePath);
     }
 }
@@ -7,13 +7,16 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import lingogo.commons.core.Config;
 import lingogo.commons.core.LogsCenter;
+import lingogo.commons.core.StartupProfiler;
 import lingogo.commons.core.Version;
 import lingogo.commons.exceptions.DataConversionException;
 import lingogo.commons.util.ConfigUtil;
 import lingogo.commons.util.StringUtil;
+import lingogo.logic.FlashcardAppHydrator;
 import lingogo.logic.Logic;
 import lingogo.logic.LogicManager;
 import lingogo.model.FlashcardApp;
@@ -23,12 +26,17 @@ import lingogo.model.ReadOnlyFlashcardApp;
 import lingogo.model.ReadOnlyUserPrefs;
 import lingogo.model.UserPrefs;
 import lingogo.model.util.SampleDataUtil;
+import lingogo.storage.BinaryFlashcardAppStorage;
 import lingogo.storage.FlashcardAppStorage;
+import lingogo.storage.FlashcardAppStorageConverter;
+import lingogo.storage.JournalFlashcardAppStorage;
 import lingogo.storage.JsonFlashcardAppStorage;
 import lingogo.storage.JsonUserPrefsStorage;
+import lingogo.storage.MappedFlashcardAppStorage;
 import lingogo.storage.Storage;
 import lingogo.storage.StorageManager;
 import lingogo.storage.UserPrefsStorage;
+import lingogo.storage.WriteBehindFlashcardAppStorage;
 import lingogo.ui.Ui;
 import lingogo.ui.UiManager;
 
@@ -47,6 +55,9 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private final StartupProfiler startupProfiler = StartupProfiler.getInstance();
+    private Path startupProfilePath;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing LingoGO! ]===========================");
@@ -59,22 +70,82 @@ public class MainApp extends Application {
         }
 
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
+        startupProfilePath = appParameters.getStartupProfilePath();
+        config = startupProfiler.profile("Reading config", () -> initConfig(appParameters.getConfigPath()));
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        FlashcardAppStorage flashcardAppStorage = new JsonFlashcardAppStorage(userPrefs.getFlashcardAppFilePath());
+        UserPrefs userPrefs = startupProfiler.profile("Reading user prefs", () -> initPrefs(userPrefsStorage));
+        FlashcardAppStorage flashcardAppStorage = startupProfiler.profile("Initializing storage",
+                () -> initFlashcardAppStorage(config, userPrefs));
         storage = new StorageManager(flashcardAppStorage, userPrefsStorage);
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
-
-        logic = new LogicManager(model, storage);
+        if (config.isLazyLoadingEnabled()) {
+            // the flashcards are added to the model on the JavaFX application thread as they are read
+            model = new ModelManager(new FlashcardApp(), userPrefs);
+            FlashcardAppHydrator hydrator = new FlashcardAppHydrator(model, Platform::runLater);
+            hydrator.start(storage);
+            logic = new LogicManager(model, storage, hydrator);
+        } else {
+            model = initModelManager(storage, userPrefs);
+            logic = new LogicManager(model, storage);
+        }
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns a {@code FlashcardAppStorage} for the flashcard app file in {@code userPrefs}, in the data file format
+     * specified by {@code config}. <br>
+     * If the data file in that format is missing or older than the data file in the other format, it is
+     * converted from the other data file first. A binary data file is read by memory-mapping it if {@code config}
+     * enables it.
+     * Changes are journaled if {@code config} enables the journal, and saves are written in the background if
+     * {@code config} specifies a positive save delay.
+     */
+    private FlashcardAppStorage initFlashcardAppStorage(Config config, ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getFlashcardAppFilePath();
+        FlashcardAppStorage jsonStorage = new JsonFlashcardAppStorage(jsonFilePath,
+                config.getNumberOfBackups(), config.isDataFileCompact());
+        BinaryFlashcardAppStorage binaryFileStorage = new BinaryFlashcardAppStorage(
+                BinaryFlashcardAppStorage.toBinaryFilePath(jsonFilePath), config.getNumberOfBackups());
+        FlashcardAppStorage binaryStorage = config.getDataFileFormat() == Config.DataFileFormat.BINARY
+                && config.isDataFileMemoryMapped()
+                ? new MappedFlashcardAppStorage(binaryFileStorage)
+                : binaryFileStorage;
+        if (config.isJournalEnabled()) {
+            // the data files are converted with their journals replayed
+            jsonStorage = new JournalFlashcardAppStorage(jsonStorage);
+            binaryStorage = new JournalFlashcardAppStorage(binaryStorage);
+        }
+
+        FlashcardAppStorage flashcardAppStorage;
+        if (config.getDataFileFormat() == Config.DataFileFormat.BINARY) {
+            convertDataFileIfOutdated(jsonStorage, binaryStorage);
+            flashcardAppStorage = binaryStorage;
+        } else {
+            convertDataFileIfOutdated(binaryStorage, jsonStorage);
+            flashcardAppStorage = jsonStorage;
+        }
+
+        if (config.getSaveDelayInMillis() <= 0) {
+            return flashcardAppStorage;
+        }
+        return new WriteBehindFlashcardAppStorage(flashcardAppStorage, config.getSaveDelayInMillis());
+    }
+
+    private void convertDataFileIfOutdated(FlashcardAppStorage source, FlashcardAppStorage target) {
+        try {
+            FlashcardAppStorageConverter.convertIfOutdated(source, target);
+        } catch (DataConversionException e) {
+            logger.warning("Data file " + source.getFlashcardAppFilePath() + " not in the correct format. "
+                    + "It will not be converted");
+        } catch (IOException e) {
+            logger.warning("Failed to convert data file : " + StringUtil.getDetails(e));
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s flashcard app and {@code userPrefs}. <br>
      * The data from the sample flashcard app will be used instead if {@code storage}'s flashcard app is not found,
@@ -83,7 +154,7 @@ public class MainApp extends Application {
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         Optional<ReadOnlyFlashcardApp> flashcardAppOptional;
         ReadOnlyFlashcardApp initialData;
-        try {
+        try (StartupProfiler.Phase phase = startupProfiler.startPhase("Reading data file")) {
             flashcardAppOptional = storage.readFlashcardApp();
             if (!flashcardAppOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample FlashcardApp");
@@ -97,7 +168,9 @@ public class MainApp extends Application {
             initialData = new FlashcardApp();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        try (StartupProfiler.Phase phase = startupProfiler.startPhase("Creating model")) {
+            return new ModelManager(initialData, userPrefs);
+        }
     }
 
     private void initLogging(Config config) {
@@ -175,12 +248,20 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting FlashcardApp " + MainApp.VERSION);
-        ui.start(primaryStage);
+        try (StartupProfiler.Phase phase = startupProfiler.startPhase("Starting UI")) {
+            ui.start(primaryStage);
+        }
+        startupProfiler.finish(startupProfilePath);
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping LingoGO! ] =============================");
+        try {
+            storage.closeFlashcardApp();
+        } catch (IOException e) {
+            logger.severe("Failed to save flashcard app " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
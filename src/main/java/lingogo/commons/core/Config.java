@@ -11,10 +11,18 @@ import java.util.logging.Level;
 public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+    public static final long DEFAULT_SAVE_DELAY_IN_MILLIS = 500;
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private long saveDelayInMillis = DEFAULT_SAVE_DELAY_IN_MILLIS;
+    private int numberOfBackups = 0;
+    private boolean isDataFileCompact = false;
+    private DataFileFormat dataFileFormat = DataFileFormat.JSON;
+    private boolean isDataFileMemoryMapped = false;
+    private boolean isJournalEnabled = false;
+    private boolean isLazyLoadingEnabled = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +40,83 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns the window, in milliseconds, within which saves of the flashcard app data are coalesced
+     * into a single write. A window of 0 saves the data synchronously after every modifying command.
+     */
+    public long getSaveDelayInMillis() {
+        return saveDelayInMillis;
+    }
+
+    public void setSaveDelayInMillis(long saveDelayInMillis) {
+        this.saveDelayInMillis = saveDelayInMillis;
+    }
+
+    /**
+     * Returns the number of previous versions of the flashcard app data file to keep as backups.
+     */
+    public int getNumberOfBackups() {
+        return numberOfBackups;
+    }
+
+    public void setNumberOfBackups(int numberOfBackups) {
+        this.numberOfBackups = numberOfBackups;
+    }
+
+    /**
+     * Returns true if the flashcard app data file is saved without the whitespace used to make it human-readable.
+     */
+    public boolean isDataFileCompact() {
+        return isDataFileCompact;
+    }
+
+    public void setDataFileCompact(boolean isDataFileCompact) {
+        this.isDataFileCompact = isDataFileCompact;
+    }
+
+    public DataFileFormat getDataFileFormat() {
+        return dataFileFormat;
+    }
+
+    public void setDataFileFormat(DataFileFormat dataFileFormat) {
+        this.dataFileFormat = dataFileFormat;
+    }
+
+    /**
+     * Returns true if a binary flashcard app data file is read by memory-mapping it, rather than through a stream.
+     * Has no effect on data files in other formats.
+     */
+    public boolean isDataFileMemoryMapped() {
+        return isDataFileMemoryMapped;
+    }
+
+    public void setDataFileMemoryMapped(boolean isDataFileMemoryMapped) {
+        this.isDataFileMemoryMapped = isDataFileMemoryMapped;
+    }
+
+    /**
+     * Returns true if changes to the flashcard app are appended to a journal instead of rewriting the data file.
+     */
+    public boolean isJournalEnabled() {
+        return isJournalEnabled;
+    }
+
+    public void setJournalEnabled(boolean isJournalEnabled) {
+        this.isJournalEnabled = isJournalEnabled;
+    }
+
+    /**
+     * Returns true if the app is shown before the flashcard app data has been loaded, with the flashcards added as
+     * they are loaded in the background.
+     */
+    public boolean isLazyLoadingEnabled() {
+        return isLazyLoadingEnabled;
+    }
+
+    public void setLazyLoadingEnabled(boolean isLazyLoadingEnabled) {
+        this.isLazyLoadingEnabled = isLazyLoadingEnabled;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +129,20 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && saveDelayInMillis == o.saveDelayInMillis
+                && numberOfBackups == o.numberOfBackups
+                && isDataFileCompact == o.isDataFileCompact
+                && Objects.equals(dataFileFormat, o.dataFileFormat)
+                && isDataFileMemoryMapped == o.isDataFileMemoryMapped
+                && isJournalEnabled == o.isJournalEnabled
+                && isLazyLoadingEnabled == o.isLazyLoadingEnabled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, saveDelayInMillis, numberOfBackups, isDataFileCompact,
+                dataFileFormat, isDataFileMemoryMapped, isJournalEnabled, isLazyLoadingEnabled);
     }
 
     @Override
@@ -57,7 +150,21 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nSave delay (ms) : " + saveDelayInMillis);
+        sb.append("\nNumber of backups : " + numberOfBackups);
+        sb.append("\nCompact data file : " + isDataFileCompact);
+        sb.append("\nData file format : " + dataFileFormat);
+        sb.append("\nMemory-mapped data file : " + isDataFileMemoryMapped);
+        sb.append("\nJournal enabled : " + isJournalEnabled);
+        sb.append("\nLazy loading enabled : " + isLazyLoadingEnabled);
         return sb.toString();
     }
 
+    /**
+     * Represents the format in which the flashcard app data is stored.
+     */
+    public enum DataFileFormat {
+        JSON, BINARY
+    }
+
 }
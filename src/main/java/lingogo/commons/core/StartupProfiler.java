@@ -0,0 +1,233 @@
+package lingogo.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import lingogo.commons.util.JsonUtil;
+import lingogo.commons.util.StringUtil;
+import lingogo.commons.util.ThreadUsageUtil;
+
+/**
+ * Records the wall time, CPU time and memory allocated by each phase of starting the app, so that regressions in
+ * the time taken to start the app can be tracked.
+ * A phase is timed from {@link #startPhase(String)} until the returned {@link Phase} is closed, and must be closed on
+ * the thread which started it, since the CPU time and allocation are those of that thread. Phases may be nested.
+ * Once {@link #finish(Path)} has been called, a summary has been logged and later phases are not recorded.
+ */
+public class StartupProfiler {
+    /** The value recorded for a measurement which is not supported by the JVM. */
+    public static final long UNSUPPORTED = ThreadUsageUtil.UNSUPPORTED;
+
+    private static final Logger logger = LogsCenter.getLogger(StartupProfiler.class);
+    private static final StartupProfiler instance = new StartupProfiler();
+
+    private final List<PhaseTiming> phaseTimings = new ArrayList<>();
+    private final ThreadLocal<Integer> depths = ThreadLocal.withInitial(() -> 0);
+    private volatile boolean isFinished;
+    private volatile long startupTimeMillis = UNSUPPORTED;
+
+    /**
+     * Returns the profiler of the app's startup.
+     */
+    public static StartupProfiler getInstance() {
+        return instance;
+    }
+
+    /**
+     * Starts timing the phase {@code name} on the current thread.
+     */
+    public Phase startPhase(String name) {
+        requireNonNull(name);
+        return new Phase(name);
+    }
+
+    /**
+     * Returns the result of {@code action}, timing it as the phase {@code name}.
+     */
+    public <T> T profile(String name, Supplier<T> action) {
+        try (Phase phase = startPhase(name)) {
+            return action.get();
+        }
+    }
+
+    /**
+     * Returns the timings of the phases which have ended, in the order they ended.
+     */
+    public synchronized List<PhaseTiming> getPhaseTimings() {
+        return List.copyOf(phaseTimings);
+    }
+
+    public boolean isFinished() {
+        return isFinished;
+    }
+
+    /**
+     * Stops recording phases and logs a summary of the phases recorded.
+     *
+     * @param jsonFilePath the file to save the phases to as json, or null if they should not be saved.
+     */
+    public void finish(Path jsonFilePath) {
+        synchronized (this) {
+            if (isFinished) {
+                return;
+            }
+            isFinished = true;
+            startupTimeMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        }
+        logger.info(getSummary());
+
+        if (jsonFilePath == null) {
+            return;
+        }
+        try {
+            JsonUtil.saveJsonFile(new StartupProfile(startupTimeMillis, getPhaseTimings()), jsonFilePath);
+            logger.info("Saved startup profile to " + jsonFilePath);
+        } catch (IOException e) {
+            logger.warning("Failed to save startup profile : " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns a summary of the phases recorded, with nested phases indented below the phases containing them.
+     */
+    public String getSummary() {
+        StringBuilder sb = new StringBuilder("Startup phases");
+        if (startupTimeMillis != UNSUPPORTED) {
+            sb.append(" (started in " + startupTimeMillis + " ms since the JVM started)");
+        }
+        sb.append(":");
+        List<PhaseTiming> phaseTimingsInStartOrder = new ArrayList<>(getPhaseTimings());
+        // nested phases end before the phases containing them, but start after them
+        phaseTimingsInStartOrder.sort(Comparator.comparingLong(phaseTiming -> phaseTiming.startNanos));
+        for (PhaseTiming phaseTiming : phaseTimingsInStartOrder) {
+            sb.append("\n").append("  ".repeat(phaseTiming.getDepth() + 1)).append(phaseTiming);
+        }
+        return sb.toString();
+    }
+
+    private synchronized void record(PhaseTiming phaseTiming) {
+        if (!isFinished) {
+            phaseTimings.add(phaseTiming);
+        }
+    }
+
+    /**
+     * A phase being timed, which is recorded when it is closed.
+     */
+    public final class Phase implements AutoCloseable {
+        private final String name;
+        private final int depth;
+        private final long startNanos;
+        private final long startCpuTimeNanos;
+        private final long startAllocatedBytes;
+        private boolean isClosed;
+
+        private Phase(String name) {
+            this.name = name;
+            depth = depths.get();
+            depths.set(depth + 1);
+            startAllocatedBytes = ThreadUsageUtil.getCurrentThreadAllocatedBytes();
+            startCpuTimeNanos = ThreadUsageUtil.getCurrentThreadCpuTime();
+            startNanos = System.nanoTime();
+        }
+
+        /**
+         * Ends the phase and records its timing. Closing a phase more than once has no further effect.
+         */
+        @Override
+        public void close() {
+            long endNanos = System.nanoTime();
+            long endCpuTimeNanos = ThreadUsageUtil.getCurrentThreadCpuTime();
+            long endAllocatedBytes = ThreadUsageUtil.getCurrentThreadAllocatedBytes();
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+            depths.set(depth);
+            record(new PhaseTiming(name, Thread.currentThread().getName(), depth, startNanos, endNanos - startNanos,
+                    ThreadUsageUtil.difference(startCpuTimeNanos, endCpuTimeNanos),
+                    ThreadUsageUtil.difference(startAllocatedBytes, endAllocatedBytes)));
+        }
+    }
+
+    /**
+     * The timing of a phase which has ended. The CPU time and allocation are {@link #UNSUPPORTED} if the JVM does not
+     * support measuring them.
+     */
+    public static class PhaseTiming {
+        private final String name;
+        private final String threadName;
+        private final int depth;
+        private final transient long startNanos;
+        private final long wallTimeNanos;
+        private final long cpuTimeNanos;
+        private final long allocatedBytes;
+
+        private PhaseTiming(String name, String threadName, int depth, long startNanos, long wallTimeNanos,
+                long cpuTimeNanos, long allocatedBytes) {
+            this.name = name;
+            this.threadName = threadName;
+            this.depth = depth;
+            this.startNanos = startNanos;
+            this.wallTimeNanos = wallTimeNanos;
+            this.cpuTimeNanos = cpuTimeNanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getThreadName() {
+            return threadName;
+        }
+
+        public int getDepth() {
+            return depth;
+        }
+
+        public long getWallTimeNanos() {
+            return wallTimeNanos;
+        }
+
+        public long getCpuTimeNanos() {
+            return cpuTimeNanos;
+        }
+
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s [%s]: %s wall, %s CPU, %s allocated", name, threadName,
+                    toMillis(wallTimeNanos), toMillis(cpuTimeNanos),
+                    allocatedBytes == UNSUPPORTED ? "n/a" : (allocatedBytes / 1024) + " KB");
+        }
+
+        private static String toMillis(long nanos) {
+            return nanos == UNSUPPORTED ? "n/a" : String.format("%.1f ms", nanos / 1e6);
+        }
+    }
+
+    /**
+     * The phases of starting the app, as saved to a json file.
+     */
+    private static class StartupProfile {
+        private final long startupTimeMillis;
+        private final List<PhaseTiming> phases;
+
+        private StartupProfile(long startupTimeMillis, List<PhaseTiming> phases) {
+            this.startupTimeMillis = startupTimeMillis;
+            this.phases = phases;
+        }
+    }
+}
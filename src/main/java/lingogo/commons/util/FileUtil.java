@@ -1,10 +1,18 @@
 package lingogo.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.regex.Pattern;
 
 /**
@@ -13,6 +21,9 @@ import java.util.regex.Pattern;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
+    private static final int BUFFER_SIZE = 64 * 1024;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -81,6 +92,97 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes given string to a file, such that the file either keeps its old content or has the new content
+     * in full even if the app crashes midway.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     *
+     * @see #writeToFileAtomically(Path, ContentWriter)
+     */
+    public static void writeToFileAtomically(Path file, String content) throws IOException {
+        byte[] bytes = content.getBytes(CHARSET);
+        writeToFileAtomically(file, out -> out.write(bytes));
+    }
+
+    /**
+     * Writes the content produced by {@code contentWriter} to a file, such that the file either keeps its old
+     * content or has the new content in full even if the app crashes midway.
+     * The content is streamed through a buffer to a temporary file next to {@code file}, forced to the disk,
+     * then moved over {@code file}, after which the parent directory is forced to the disk so that the move
+     * itself survives a crash. Will create the file and its missing parent directories if they do not exist yet.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                // the stream is not closed here, as closing it would close the channel before it is forced
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+                contentWriter.writeTo(out);
+                out.flush();
+                channel.force(true);
+            }
+            moveReplacingExisting(tempFile, file);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        forceDirectory(file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Forces the entries of {@code directory} to the disk, so that files moved into it are not lost on a crash.
+     * Does nothing on platforms which cannot open a directory for this, such as Windows, where the move is
+     * already durable once it returns.
+     */
+    private static void forceDirectory(Path directory) throws IOException {
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (AccessDeniedException | UnsupportedOperationException e) {
+            // the platform does not allow directories to be opened
+        }
+    }
+
+    private static void moveReplacingExisting(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns the path of the {@code index}-th most recent backup of {@code file}, starting from 1.
+     */
+    public static Path getBackupFilePath(Path file, int index) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX + index);
+    }
+
+    /**
+     * Copies {@code file} to its most recent backup, keeping at most {@code maxBackups} backups by shifting
+     * older backups along and discarding the oldest one.
+     * Does nothing if {@code file} does not exist or {@code maxBackups} is not positive.
+     */
+    public static void backUpFile(Path file, int maxBackups) throws IOException {
+        if (maxBackups <= 0 || !isFileExists(file)) {
+            return;
+        }
+
+        Files.deleteIfExists(getBackupFilePath(file, maxBackups));
+        for (int i = maxBackups - 1; i >= 1; i--) {
+            Path backup = getBackupFilePath(file, i);
+            if (Files.exists(backup)) {
+                moveReplacingExisting(backup, getBackupFilePath(file, i + 1));
+            }
+        }
+        Files.copy(file, getBackupFilePath(file, 1), StandardCopyOption.REPLACE_EXISTING);
+    }
+
     /**
      * Returns true if {@code fileName} is a valid CSV fileName,
      * otherwise returns false.
@@ -96,4 +198,12 @@ public class FileUtil {
                 && fileName.length() < 32;
     }
 
+    /**
+     * Writes the content of a file to an output stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
 }
@@ -5,7 +5,9 @@ import static lingogo.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Helper functions for handling strings.
@@ -70,6 +72,62 @@ public class StringUtil {
         return isPresent;
     }
 
+    /**
+     * Returns the case-folded form of {@code s}, such that two strings are equal ignoring case
+     * (as defined by {@link String#equalsIgnoreCase(String)}) if and only if their case-folded forms are equal.
+     *   <br>examples:<pre>
+     *       foldCase("Good Morning").equals(foldCase("GOOD morning")) == true
+     *       foldCase("早安").equals("早安") == true
+     *       </pre>
+     * @param s cannot be null
+     */
+    public static String foldCase(String s) {
+        requireNonNull(s);
+
+        StringBuilder folded = new StringBuilder(s.length());
+        s.codePoints().forEach(codePoint ->
+                folded.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint))));
+        return folded.toString();
+    }
+
+    /**
+     * Returns the words in {@code sentence}, which are separated by whitespace as matched by the regex {@code \\s}.
+     * Equivalent to {@code sentence.split("\\s+")} without empty words, but does not use a regex.
+     *   <br>examples:<pre>
+     *       splitWords("Good  morning") == ["Good", "morning"]
+     *       splitWords(" ") == []
+     *       </pre>
+     * @param sentence cannot be null
+     */
+    public static List<String> splitWords(String sentence) {
+        requireNonNull(sentence);
+
+        List<String> words = new ArrayList<>();
+        int wordStart = -1;
+        for (int i = 0; i < sentence.length(); i++) {
+            if (isRegexWhitespace(sentence.charAt(i))) {
+                if (wordStart != -1) {
+                    words.add(sentence.substring(wordStart, i));
+                    wordStart = -1;
+                }
+            } else if (wordStart == -1) {
+                wordStart = i;
+            }
+        }
+        if (wordStart != -1) {
+            words.add(sentence.substring(wordStart));
+        }
+        return words;
+    }
+
+    /**
+     * Returns true if {@code c} is a whitespace character as matched by the regex {@code \\s},
+     * which is narrower than {@link Character#isWhitespace(char)}.
+     */
+    public static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
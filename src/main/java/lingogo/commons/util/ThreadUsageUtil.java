@@ -0,0 +1,47 @@
+package lingogo.commons.util;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Measures the resources used by the current thread.
+ * The measurements are cumulative, so the resources used by a piece of code are the difference between the
+ * measurements taken before and after it on the same thread.
+ */
+public class ThreadUsageUtil {
+    /** The value of a measurement which is not supported by the JVM. */
+    public static final long UNSUPPORTED = -1;
+
+    private static final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+    /**
+     * Returns the CPU time used by the current thread in nanoseconds, or {@link #UNSUPPORTED}.
+     */
+    public static long getCurrentThreadCpuTime() {
+        if (!threadBean.isCurrentThreadCpuTimeSupported() || !threadBean.isThreadCpuTimeEnabled()) {
+            return UNSUPPORTED;
+        }
+        return threadBean.getCurrentThreadCpuTime();
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread, or {@link #UNSUPPORTED}.
+     */
+    public static long getCurrentThreadAllocatedBytes() {
+        if (!(threadBean instanceof com.sun.management.ThreadMXBean)) {
+            return UNSUPPORTED;
+        }
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        if (!allocationBean.isThreadAllocatedMemorySupported() || !allocationBean.isThreadAllocatedMemoryEnabled()) {
+            return UNSUPPORTED;
+        }
+        return allocationBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Returns the difference between two measurements, or {@link #UNSUPPORTED} if either is unsupported.
+     */
+    public static long difference(long start, long end) {
+        return start == UNSUPPORTED || end == UNSUPPORTED ? UNSUPPORTED : end - start;
+    }
+}
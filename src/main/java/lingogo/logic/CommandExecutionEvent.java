@@ -0,0 +1,43 @@
+package lingogo.logic;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for the execution of a command, lasting from when the command is parsed until the
+ * flashcard app has been saved.
+ */
+@Name(CommandExecutionEvent.NAME)
+@Label("Command Execution")
+@Category({"LingoGO!", "Logic"})
+@Description("Parsing and executing a command, and saving the flashcard app")
+final class CommandExecutionEvent extends Event {
+    static final String NAME = "lingogo.CommandExecution";
+
+    @Label("Command Word")
+    private String commandWord;
+
+    @Label("Deck Size")
+    @Description("The number of flashcards in the flashcard app after the command")
+    private int deckSize;
+
+    @Label("Filtered Size")
+    @Description("The number of flashcards shown after the command")
+    private int filteredSize;
+
+    @Label("Successful")
+    private boolean isSuccessful;
+
+    /**
+     * Sets the details of the command executed, and of the flashcard app after it.
+     */
+    void setDetails(String commandWord, int deckSize, int filteredSize, boolean isSuccessful) {
+        this.commandWord = commandWord;
+        this.deckSize = deckSize;
+        this.filteredSize = filteredSize;
+        this.isSuccessful = isSuccessful;
+    }
+}
@@ -0,0 +1,181 @@
+package lingogo.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.logging.Logger;
+
+import lingogo.commons.core.LogsCenter;
+import lingogo.commons.exceptions.DataConversionException;
+import lingogo.model.FlashcardApp;
+import lingogo.model.Model;
+import lingogo.model.ReadOnlyFlashcardApp;
+import lingogo.model.flashcard.Flashcard;
+import lingogo.model.util.SampleDataUtil;
+import lingogo.storage.FlashcardAppStorage;
+
+/**
+ * Loads the flashcard app from storage into a model on a background thread, so that the app can be shown before
+ * the whole data file has been read.
+ * The flashcards are added to the model a page at a time by the model executor, which runs tasks on the thread
+ * which owns the model, starting with the first page of the data file as soon as it has been read.
+ * As when the data file is read before the app is shown, the sample flashcard app is loaded if the data file is not
+ * found, and the model is left empty if the data file cannot be read.
+ * Apart from {@link #start(FlashcardAppStorage)}, the methods must be called on the thread which owns the model.
+ */
+public class FlashcardAppHydrator {
+    public static final int PAGE_SIZE = 256;
+
+    private static final Logger logger = LogsCenter.getLogger(FlashcardAppHydrator.class);
+
+    private final Model model;
+    private final Executor modelExecutor;
+    /** The pages read by the loading thread which have not been added to the model yet. */
+    private final Queue<List<Flashcard>> pendingPages = new ConcurrentLinkedQueue<>();
+    private final CountDownLatch loaded = new CountDownLatch(1);
+    /** The flashcard app to replace the loaded pages with once loading ends, if the data file could not be used. */
+    private volatile ReadOnlyFlashcardApp replacement;
+    private boolean isComplete;
+
+    /**
+     * Creates a {@code FlashcardAppHydrator} which loads flashcards into {@code model}, which should be empty.
+     *
+     * @param modelExecutor runs tasks on the thread which owns {@code model}.
+     */
+    public FlashcardAppHydrator(Model model, Executor modelExecutor) {
+        requireNonNull(model);
+        requireNonNull(modelExecutor);
+        this.model = model;
+        this.modelExecutor = modelExecutor;
+    }
+
+    /**
+     * Starts loading the flashcard app in {@code storage} on a background thread.
+     */
+    public void start(FlashcardAppStorage storage) {
+        requireNonNull(storage);
+        Thread loader = new Thread(() -> load(storage), "flashcard-app-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Reads the flashcard app in {@code storage}, queueing its flashcards in pages to be added to the model.
+     */
+    void load(FlashcardAppStorage storage) {
+        try {
+            int[] numberOfFlashcardsQueued = new int[1];
+            Optional<ReadOnlyFlashcardApp> flashcardApp = storage.readFlashcardApp(PAGE_SIZE, firstPage -> {
+                queuePage(firstPage);
+                numberOfFlashcardsQueued[0] = firstPage.size();
+            });
+            if (flashcardApp.isPresent()) {
+                List<Flashcard> flashcards = flashcardApp.get().getFlashcardList();
+                for (int i = numberOfFlashcardsQueued[0]; i < flashcards.size(); i += PAGE_SIZE) {
+                    queuePage(List.copyOf(flashcards.subList(i, Math.min(i + PAGE_SIZE, flashcards.size()))));
+                }
+            } else {
+                logger.info("Data file not found. Will be starting with a sample FlashcardApp");
+                replacement = SampleDataUtil.getSampleFlashcardApp();
+            }
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty FlashcardApp");
+            replacement = new FlashcardApp();
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty FlashcardApp");
+            replacement = new FlashcardApp();
+        } finally {
+            loaded.countDown();
+            modelExecutor.execute(this::addPendingPages);
+        }
+    }
+
+    private void queuePage(List<Flashcard> page) {
+        pendingPages.add(page);
+        modelExecutor.execute(this::addNextPage);
+    }
+
+    /**
+     * Returns true if the whole flashcard app has been added to the model.
+     */
+    public boolean isComplete() {
+        return isComplete;
+    }
+
+    /**
+     * Adds the flashcards read so far to the model without waiting for the rest to be read.
+     *
+     * @return true if the whole flashcard app has been added to the model.
+     */
+    public boolean tryCompletion() {
+        addPendingPages();
+        return isComplete;
+    }
+
+    /**
+     * Waits until the whole flashcard app has been read, then adds any flashcards not yet added to the model.
+     * This blocks the thread which owns the model, so it must not be called on the JavaFX application thread.
+     *
+     * @throws InterruptedException if interrupted while waiting, in which case the model may be partly loaded.
+     */
+    public void awaitCompletion() throws InterruptedException {
+        if (isComplete) {
+            return;
+        }
+        loaded.await();
+        addPendingPages();
+    }
+
+    private void addNextPage() {
+        List<Flashcard> page = pendingPages.poll();
+        if (page != null) {
+            addPage(page);
+        }
+    }
+
+    /**
+     * Adds every page which has been read to the model, completing the loading if the whole flashcard app has been
+     * read.
+     */
+    private void addPendingPages() {
+        if (isComplete) {
+            return;
+        }
+        // checked before draining, so that every page read before the flashcard app was completely read is added
+        boolean isLoaded = loaded.getCount() == 0;
+        List<Flashcard> page;
+        while ((page = pendingPages.poll()) != null) {
+            addPage(page);
+        }
+        if (!isLoaded) {
+            return;
+        }
+
+        isComplete = true;
+        if (replacement != null) {
+            boolean wasSaved = !model.hasUnsavedChanges();
+            model.setFlashcardApp(replacement);
+            if (wasSaved) {
+                model.markFlashcardAppSaved();
+            }
+        }
+        logger.info("Loaded " + model.getFlashcardApp().getFlashcardList().size() + " flashcards");
+    }
+
+    /**
+     * Adds {@code page} to the model. Loading the flashcards does not count as a change to be saved.
+     */
+    private void addPage(List<Flashcard> page) {
+        boolean wasSaved = !model.hasUnsavedChanges();
+        model.addFlashcards(page);
+        if (wasSaved) {
+            model.markFlashcardAppSaved();
+        }
+    }
+}
@@ -6,11 +6,17 @@ import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import lingogo.commons.core.GuiSettings;
+import lingogo.commons.core.Messages;
 import lingogo.commons.core.LogsCenter;
+import lingogo.commons.util.ThreadUsageUtil;
 import lingogo.logic.commands.Command;
+import lingogo.logic.commands.CommandEnum;
 import lingogo.logic.commands.CommandResult;
 import lingogo.logic.commands.exceptions.CommandException;
+import lingogo.logic.metrics.CommandMetrics;
+import lingogo.logic.metrics.CommandMetrics.Measure;
 import lingogo.logic.parser.FlashcardAppParser;
+import lingogo.logic.parser.FlashcardAppParser.CommandInput;
 import lingogo.logic.parser.exceptions.ParseException;
 import lingogo.model.Model;
 import lingogo.model.ReadOnlyFlashcardApp;
@@ -28,33 +34,139 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final FlashcardAppParser flashcardAppParser;
+    private final CommandMetrics commandMetrics = new CommandMetrics();
+    /** Loads the flashcard app into the model in the background, or null if it was loaded before the app started. */
+    private final FlashcardAppHydrator hydrator;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, whose flashcard app is
+     * being loaded into the model by {@code hydrator}.
+     * Commands which need the whole flashcard app are refused until it has been loaded, without waiting for it, so
+     * that the thread executing commands is never blocked. A partly loaded flashcard app is never saved.
+     */
+    public LogicManager(Model model, Storage storage, FlashcardAppHydrator hydrator) {
         this.model = model;
         this.storage = storage;
-        flashcardAppParser = new FlashcardAppParser();
+        this.hydrator = hydrator;
+        flashcardAppParser = new FlashcardAppParser(commandMetrics);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
-        Command command = flashcardAppParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        CommandExecutionEvent event = new CommandExecutionEvent();
+        event.begin();
+        long startAllocatedBytes = ThreadUsageUtil.getCurrentThreadAllocatedBytes();
+        String commandWord = "";
+        // unknown commands are not measured
+        CommandEnum commandType = null;
+        boolean isSuccessful = false;
+        try {
+            CommandInput commandInput = flashcardAppParser.splitCommandWord(commandText);
+            commandWord = commandInput.getCommandWord();
+            commandType = commandInput.getCommandType().orElse(null);
+            CommandResult commandResult = execute(commandInput, commandType);
+            isSuccessful = true;
+            return commandResult;
+        } finally {
+            long allocatedBytes = ThreadUsageUtil.difference(startAllocatedBytes,
+                    ThreadUsageUtil.getCurrentThreadAllocatedBytes());
+            if (allocatedBytes != ThreadUsageUtil.UNSUPPORTED) {
+                recordMetric(commandType, Measure.ALLOCATED_BYTES, allocatedBytes);
+            }
+            commitEvent(event, commandWord, isSuccessful);
+        }
+    }
+
+    /**
+     * Commits {@code event} for the command {@code commandWord}, which has just been executed, if the event is being
+     * recorded.
+     */
+    private void commitEvent(CommandExecutionEvent event, String commandWord, boolean isSuccessful) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.setDetails(commandWord, model.getFlashcardApp().getFlashcardList().size(),
+                    model.getFilteredFlashcardList().size(), isSuccessful);
+            event.commit();
+        }
+    }
+
+    /**
+     * Executes {@code commandInput}, recording how long parsing, executing and saving it take as metrics of
+     * {@code commandType}.
+     */
+    private CommandResult execute(CommandInput commandInput, CommandEnum commandType)
+            throws CommandException, ParseException {
+        Command command;
+        long parseStartTime = System.nanoTime();
+        try {
+            command = flashcardAppParser.parseCommand(commandInput);
+        } finally {
+            recordMetric(commandType, Measure.PARSE_TIME, System.nanoTime() - parseStartTime);
+        }
 
+        if (command.isFullDeckRequired()) {
+            requireFlashcardAppLoaded();
+        }
+        CommandResult commandResult;
+        long executeStartTime = System.nanoTime();
         try {
-            storage.saveFlashcardApp(model.getFlashcardApp());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE);
+            commandResult = command.execute(model);
+        } finally {
+            recordMetric(commandType, Measure.EXECUTE_TIME, System.nanoTime() - executeStartTime);
+        }
+
+        // read-only commands leave the flashcard app unmodified, so there is nothing to save
+        if (model.hasUnsavedChanges()) {
+            // a partly loaded flashcard app must not overwrite the data file
+            requireFlashcardAppLoaded();
+            long saveStartTime = System.nanoTime();
+            try {
+                storage.saveFlashcardApp(model.getFlashcardApp());
+            } catch (IOException ioe) {
+                throw new CommandException(FILE_OPS_ERROR_MESSAGE);
+            } finally {
+                recordMetric(commandType, Measure.SAVE_TIME, System.nanoTime() - saveStartTime);
+            }
+            model.markFlashcardAppSaved();
         }
 
         return commandResult;
     }
 
+    private void recordMetric(CommandEnum commandType, Measure measure, long value) {
+        if (commandType != null) {
+            commandMetrics.record(commandType, measure, value);
+        }
+    }
+
+    /**
+     * Returns the metrics of the commands executed, which are shown by the stats command.
+     */
+    public CommandMetrics getCommandMetrics() {
+        return commandMetrics;
+    }
+
+    /**
+     * Adds the flashcards loaded so far to the model.
+     *
+     * @throws CommandException if the flashcard app is still being loaded.
+     */
+    private void requireFlashcardAppLoaded() throws CommandException {
+        if (hydrator != null && !hydrator.tryCompletion()) {
+            logger.info("Refusing command as the flashcard app is still being loaded");
+            throw new CommandException(Messages.MESSAGE_FLASHCARD_APP_LOADING);
+        }
+    }
+
     @Override
     public ReadOnlyFlashcardApp getFlashcardApp() {
         return model.getFlashcardApp();
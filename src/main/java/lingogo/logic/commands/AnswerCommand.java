@@ -78,4 +78,9 @@ public class AnswerCommand extends Command {
             || (other instanceof AnswerCommand // instanceof handles nulls
             && givenPhrase.equals(((AnswerCommand) other).givenPhrase)); // state check
     }
+
+    @Override
+    public boolean isFullDeckRequired() {
+        return false;
+    }
 }
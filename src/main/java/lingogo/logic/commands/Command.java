@@ -37,6 +37,14 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if the command must see every flashcard of the flashcard app to give the right result, so that
+     * it is not executed until a flashcard app which is loaded in the background has been loaded completely.
+     */
+    public boolean isFullDeckRequired() {
+        return true;
+    }
+
     /**
      *
      */
@@ -1,22 +1,43 @@
 package lingogo.logic.commands;
 
+import java.util.Arrays;
+import java.util.Optional;
+
 public enum CommandEnum {
-    ADD,
-    CLEAR,
-    DELETE,
-    EDIT,
-    EXIT,
-    EXPORT,
-    FILTER,
-    FIND,
-    HELP,
-    IMPORT,
-    LIST,
+    ADD(AddCommand.COMMAND_WORD),
+    CLEAR(ClearCommand.COMMAND_WORD),
+    DELETE(DeleteCommand.COMMAND_WORD),
+    EDIT(EditCommand.COMMAND_WORD),
+    EXIT(ExitCommand.COMMAND_WORD),
+    EXPORT(ExportCommand.COMMAND_WORD),
+    FILTER(FilterCommand.COMMAND_WORD),
+    FIND(FindCommand.COMMAND_WORD),
+    HELP(HelpCommand.COMMAND_WORD),
+    IMPORT(ImportCommand.COMMAND_WORD),
+    LIST(ListCommand.COMMAND_WORD),
+    STATS(StatsCommand.COMMAND_WORD),
 
     // Slideshow commands
-    ANSWER,
-    NEXT,
-    PREVIOUS,
-    SLIDESHOW,
-    STOP
+    ANSWER(AnswerCommand.COMMAND_WORD),
+    NEXT(NextSlideCommand.COMMAND_WORD),
+    PREVIOUS(PreviousSlideCommand.COMMAND_WORD),
+    SLIDESHOW(SlideshowCommand.COMMAND_WORD),
+    STOP(StopSlideshowCommand.COMMAND_WORD);
+
+    private final String commandWord;
+
+    CommandEnum(String commandWord) {
+        this.commandWord = commandWord;
+    }
+
+    public String getCommandWord() {
+        return commandWord;
+    }
+
+    /**
+     * Returns the command whose command word is {@code commandWord}, if there is one.
+     */
+    public static Optional<CommandEnum> fromCommandWord(String commandWord) {
+        return Arrays.stream(values()).filter(command -> command.commandWord.equals(commandWord)).findFirst();
+    }
 }
@@ -19,4 +19,8 @@ public class ExitCommand extends Command {
         return new CommandResult(MESSAGE_EXIT_ACKNOWLEDGEMENT, false, true);
     }
 
+    @Override
+    public boolean isFullDeckRequired() {
+        return false;
+    }
 }
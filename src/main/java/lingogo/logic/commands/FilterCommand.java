@@ -4,24 +4,22 @@ import static java.util.Objects.requireNonNull;
 import static lingogo.logic.parser.CliSyntax.PREFIX_INDEX_LIST;
 import static lingogo.logic.parser.CliSyntax.PREFIX_INDEX_RANGE;
 import static lingogo.logic.parser.CliSyntax.PREFIX_LANGUAGE_TYPE;
-import static lingogo.model.Model.PREDICATE_SHOW_ALL_FLASHCARDS;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Objects;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.Optional;
 
 import javafx.util.Pair;
 import lingogo.commons.core.Messages;
 import lingogo.commons.core.index.Index;
 import lingogo.commons.util.CollectionUtil;
 import lingogo.logic.commands.exceptions.CommandException;
+import lingogo.model.FlashcardFilter;
+import lingogo.model.FlashcardFilterPlan;
 import lingogo.model.Model;
-import lingogo.model.flashcard.Flashcard;
-import lingogo.model.flashcard.FlashcardInGivenFlashcardListPredicate;
 import lingogo.model.flashcard.LanguageType;
-import lingogo.model.flashcard.LanguageTypeMatchesGivenLanguageTypePredicate;
 
 /**
  * Filters all flashcards in the flashcard app by its Language type.
@@ -61,7 +59,7 @@ public class FilterCommand extends Command {
             throw new CommandException(Messages.MESSAGE_IN_SLIDESHOW_MODE);
         }
 
-        model.updateFilteredFlashcardList(filterBuilder.buildFilter(model));
+        filterBuilder.applyTo(model);
         return new CommandResult(
                 String.format(Messages.MESSAGE_FLASHCARDS_LISTED_OVERVIEW, model.getFilteredFlashcardList().size()));
     }
@@ -74,7 +72,7 @@ public class FilterCommand extends Command {
     }
 
     /**
-     * Builds a filter predicate from the given inputs
+     * Builds a filter plan from the given inputs
      */
     public static class FilterBuilder {
 
@@ -106,72 +104,59 @@ public class FilterCommand extends Command {
             this.indexRangePair = indexRangePair;
         }
 
-        private Predicate<Flashcard> buildIndexFilter(Model model) throws CommandException {
-
+        /**
+         * Returns a filter keeping the flashcards in the displayed flashcard list selected by the index list.
+         */
+        private Optional<FlashcardFilter> buildIndexListFilter(int displayedListSize) throws CommandException {
             if (this.indexList == null) {
-                return PREDICATE_SHOW_ALL_FLASHCARDS;
+                return Optional.empty();
             }
 
-            List<Flashcard> lastShownList = model.getFilteredFlashcardList();
-
-            if (indexList.stream().anyMatch(index -> index.getZeroBased() >= lastShownList.size())) {
-                throw new CommandException(Messages.MESSAGE_INVALID_FLASHCARD_DISPLAYED_INDEX);
+            BitSet positions = new BitSet(displayedListSize);
+            for (Index index : indexList) {
+                if (index.getZeroBased() >= displayedListSize) {
+                    throw new CommandException(Messages.MESSAGE_INVALID_FLASHCARD_DISPLAYED_INDEX);
+                }
+                positions.set(index.getZeroBased());
             }
-
-            List<Flashcard> filteredList =
-                    indexList.stream().map(index -> lastShownList.get(index.getZeroBased())).collect(
-                    Collectors.toList());
-
-            return new FlashcardInGivenFlashcardListPredicate(filteredList);
-        }
-
-        private Predicate<Flashcard> buildLanguageTypeFilter() {
-            if (this.languageType == null) {
-                return PREDICATE_SHOW_ALL_FLASHCARDS;
-            }
-
-            return new LanguageTypeMatchesGivenLanguageTypePredicate(languageType);
+            return Optional.of(FlashcardFilter.ofDisplayedPositions(positions));
         }
 
-        private Predicate<Flashcard> buildRangeFilter(Model model) throws CommandException {
+        /**
+         * Returns a filter keeping the flashcards in the displayed flashcard list selected by the index range.
+         */
+        private Optional<FlashcardFilter> buildIndexRangeFilter(int displayedListSize) throws CommandException {
             if (this.indexRangePair == null) {
-                return PREDICATE_SHOW_ALL_FLASHCARDS;
+                return Optional.empty();
             }
 
-            List<Flashcard> lastShownList = model.getFilteredFlashcardList();
-
-            if (indexRangePair.getKey().getZeroBased() >= lastShownList.size()
-                    || indexRangePair.getValue().getZeroBased() >= lastShownList.size()) {
+            int start = indexRangePair.getKey().getZeroBased();
+            int end = indexRangePair.getValue().getZeroBased();
+            if (start >= displayedListSize || end >= displayedListSize) {
                 throw new CommandException(Messages.MESSAGE_INVALID_FLASHCARD_DISPLAYED_INDEX);
             }
-
-            List<Flashcard> filteredList = IntStream.range(indexRangePair.getKey().getZeroBased(),
-                    indexRangePair.getValue().getOneBased()).boxed().map(integer -> lastShownList.get(integer))
-                    .collect(Collectors.toList());
-
-            return new FlashcardInGivenFlashcardListPredicate(filteredList);
+            return Optional.of(FlashcardFilter.ofDisplayedRange(start, end));
         }
 
-
         /**
-         * Builds the filter predicate from the given model and filter fields.
+         * Compiles the filter fields into a plan, which is applied to the filtered flashcard list of the given model.
+         * The plan orders the filters by how many flashcards they can keep, so each filter is either answered from
+         * its index or only tested against the flashcards the filters before it kept.
          *
          * @param model
-         * @return filter predicate
-         * @throws CommandException
+         * @throws CommandException if an index is not in the displayed flashcard list.
          */
-        public Predicate<Flashcard> buildFilter(Model model) throws CommandException {
-
-            Predicate<Flashcard> languageTypeFilter = buildLanguageTypeFilter();
-            Predicate<Flashcard> indexFilter = buildIndexFilter(model);
-            Predicate<Flashcard> rangeFilter = buildRangeFilter(model);
-            // filters out flashcards that are not in the current displayed flashcards list
-            Predicate<Flashcard> currentDisplayedListFilter =
-                    new FlashcardInGivenFlashcardListPredicate(model.getFilteredFlashcardList());
-
-
-            return flashcard -> languageTypeFilter.test(flashcard) && indexFilter.test(flashcard)
-                    && rangeFilter.test(flashcard) && currentDisplayedListFilter.test(flashcard);
+        public void applyTo(Model model) throws CommandException {
+            int displayedListSize = model.getFilteredFlashcardList().size();
+            List<FlashcardFilter> filters = new ArrayList<>();
+            if (languageType != null) {
+                filters.add(FlashcardFilter.ofLanguageType(languageType));
+            }
+            buildIndexListFilter(displayedListSize).ifPresent(filters::add);
+            buildIndexRangeFilter(displayedListSize).ifPresent(filters::add);
+            if (!filters.isEmpty()) {
+                model.narrowFilteredFlashcardList(new FlashcardFilterPlan(filters));
+            }
         }
 
         @Override
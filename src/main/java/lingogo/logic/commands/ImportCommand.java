@@ -10,8 +10,8 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.LinkedList;
 import java.util.List;
 
 import com.opencsv.CSVReader;
@@ -86,13 +86,7 @@ public class ImportCommand extends Command {
             throw new CommandException(String.format(IMPORT_IOEXCEPTION, fileName));
         }
 
-        boolean isUpdated = false;
-        for (Flashcard card : importedFlashcardList) {
-            if (!model.hasFlashcard(card)) {
-                isUpdated = true;
-                model.addFlashcard(card);
-            }
-        }
+        boolean isUpdated = model.addFlashcards(importedFlashcardList) > 0;
 
         if (isUpdated) {
             return new CommandResult(String.format(MESSAGE_SUCCESS, fileName));
@@ -119,7 +113,7 @@ public class ImportCommand extends Command {
         if (!Arrays.toString(line).equals(Arrays.toString(csvHeaders))) {
             throw new CommandException(String.format(MESSAGE_INVALID_CSV_HEADERS, fileName));
         }
-        importedFlashcardList = new LinkedList<>();
+        importedFlashcardList = new ArrayList<>();
         while ((line = reader.readNext()) != null) {
             if (line.length != 3 || line[0].isBlank() || line[1].isBlank() || line[2].isBlank()) {
                 throw new CommandException(String.format(MESSAGE_INVALID_CSV_CONTENT, fileName));
@@ -133,7 +127,7 @@ public class ImportCommand extends Command {
                 throw new CommandException(String.format(MESSAGE_INVALID_CSV_CONTENT, fileName));
             }
             Flashcard card = new Flashcard(
-                    new LanguageType(languageType), new Phrase(englishPhrase), new Phrase(foreignPhrase));
+                    LanguageType.of(languageType), new Phrase(englishPhrase), new Phrase(foreignPhrase));
             importedFlashcardList.add(card);
         }
     }
@@ -3,17 +3,15 @@ package lingogo.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static lingogo.model.Model.PREDICATE_SHOW_ALL_FLASHCARDS;
 
+import java.util.BitSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
-import java.util.stream.Collectors;
 
 import lingogo.commons.core.Messages;
-import lingogo.commons.core.index.Index;
 import lingogo.logic.commands.exceptions.CommandException;
 import lingogo.model.Model;
 import lingogo.model.flashcard.Flashcard;
-import lingogo.model.flashcard.FlashcardInGivenFlashcardListPredicate;
 
 /**
  * Lists either all flashcards or a random number of flashcards in the flashcard app to the user.
@@ -81,22 +79,21 @@ public class ListCommand extends Command {
             if (n > size || n <= 0) {
                 throw new CommandException(Messages.MESSAGE_INVALID_N);
             }
-            List<Flashcard> filteredList = chooseRandomFlashcards(n, size, lastShownList);
-            assert filteredList != null;
-            model.updateFilteredFlashcardList(new FlashcardInGivenFlashcardListPredicate(filteredList));
+            BitSet chosenPositions = chooseRandomPositions(n, size);
+            assert chosenPositions.cardinality() == n;
+            model.selectFilteredFlashcards(chosenPositions);
             return new CommandResult(
                     String.format(MESSAGE_SUCCESS_SHUFFLED, model.getFilteredFlashcardList().size()));
         }
     }
 
-    private List<Flashcard> chooseRandomFlashcards(int n, int size, List<Flashcard> flashcardList) {
-        return random.get().ints(0, size)
+    private BitSet chooseRandomPositions(int n, int size) {
+        BitSet chosenPositions = new BitSet(size);
+        random.get().ints(0, size)
                 .distinct()
                 .limit(n)
-                .boxed()
-                .map(Index::fromZeroBased)
-                .map(index -> flashcardList.get(index.getZeroBased()))
-                .collect(Collectors.toList());
+                .forEach(chosenPositions::set);
+        return chosenPositions;
     }
 
     @Override
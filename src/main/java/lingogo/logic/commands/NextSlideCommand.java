@@ -31,4 +31,9 @@ public class NextSlideCommand extends Command {
         }
         return new CommandResult(MESSAGE_SUCCESS);
     }
+
+    @Override
+    public boolean isFullDeckRequired() {
+        return false;
+    }
 }
@@ -32,4 +32,9 @@ public class PreviousSlideCommand extends Command {
         }
         return new CommandResult(MESSAGE_SUCCESS);
     }
+
+    @Override
+    public boolean isFullDeckRequired() {
+        return false;
+    }
 }
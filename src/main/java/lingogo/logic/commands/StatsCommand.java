@@ -0,0 +1,101 @@
+package lingogo.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import lingogo.logic.commands.exceptions.CommandException;
+import lingogo.logic.metrics.CommandMetrics;
+import lingogo.model.Model;
+
+/**
+ * Shows how long each kind of command has taken to run, optionally exporting the metrics to a CSV file.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+    public static final String COMMAND_DESCRIPTION = "Shows how long each command has taken to run and how much "
+            + "memory it used, optionally exporting these metrics to a CSV file where your data folder is located.";
+    public static final String[] COMMAND_PARAMETERS = new String[] {
+        "[" + Parameter.CSV_FILE_NAME.withCondition("must have a valid file name with .csv extension") + "]"
+    };
+    public static final String[] COMMAND_EXAMPLES = new String[] {
+        COMMAND_WORD,
+        COMMAND_WORD + " myStats.csv"
+    };
+
+    public static final String MESSAGE_USAGE =
+            getMessageUsage(COMMAND_WORD, COMMAND_DESCRIPTION, COMMAND_PARAMETERS, COMMAND_EXAMPLES);
+
+    public static final String MESSAGE_EXPORTED = "The metrics have been saved in %1$s (located in the data folder)";
+
+    public static final String EXPORT_IOEXCEPTION = "Could not save the metrics into %1$s";
+
+    private final CommandMetrics commandMetrics;
+    private final Optional<String> fileName;
+
+    /**
+     * Constructs a StatsCommand that shows the metrics in {@code commandMetrics}.
+     */
+    public StatsCommand(CommandMetrics commandMetrics) {
+        requireNonNull(commandMetrics);
+
+        this.commandMetrics = commandMetrics;
+        this.fileName = Optional.empty();
+    }
+
+    /**
+     * Constructs a StatsCommand that shows the metrics in {@code commandMetrics} and exports them to the CSV file
+     * {@code fileName} in the data folder.
+     */
+    public StatsCommand(CommandMetrics commandMetrics, String fileName) {
+        requireNonNull(commandMetrics);
+        requireNonNull(fileName);
+
+        this.commandMetrics = commandMetrics;
+        this.fileName = Optional.of(fileName);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        String summary = commandMetrics.getSummary();
+        if (fileName.isEmpty()) {
+            return new CommandResult(summary);
+        }
+
+        File dataFolder = new File("data");
+        if (!dataFolder.exists()) {
+            dataFolder.mkdir();
+        }
+
+        try (Writer writer = new OutputStreamWriter(
+                new FileOutputStream("data/" + fileName.get()), StandardCharsets.UTF_8)) {
+            commandMetrics.exportTo(writer);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(EXPORT_IOEXCEPTION, fileName.get()));
+        }
+
+        return new CommandResult(summary + "\n" + String.format(MESSAGE_EXPORTED, fileName.get()));
+    }
+
+    @Override
+    public boolean isFullDeckRequired() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StatsCommand // instanceof handles nulls
+                && commandMetrics == ((StatsCommand) other).commandMetrics
+                && fileName.equals(((StatsCommand) other).fileName)); // state check
+    }
+}
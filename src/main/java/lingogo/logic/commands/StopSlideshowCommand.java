@@ -26,4 +26,9 @@ public class StopSlideshowCommand extends Command {
         model.stopSlideshow();
         return new CommandResult(MESSAGE_SUCCESS);
     }
+
+    @Override
+    public boolean isFullDeckRequired() {
+        return false;
+    }
 }
@@ -0,0 +1,130 @@
+package lingogo.logic.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.opencsv.CSVWriter;
+
+import lingogo.logic.commands.CommandEnum;
+
+/**
+ * Records how long each kind of command takes to be parsed, executed and saved, and how much memory it allocates,
+ * so that the commands which slow down as the flashcard app grows can be found.
+ * The measurements of each kind of command are kept in {@link Histogram}s, from which their percentiles are
+ * estimated.
+ */
+public class CommandMetrics {
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been run yet.";
+
+    private static final String[] csvHeaders = {"Command", "Measure", "Count", "P50", "P99", "Max"};
+
+    /**
+     * Represents a measurement of a command.
+     */
+    public enum Measure {
+        PARSE_TIME("parse", true),
+        EXECUTE_TIME("execute", true),
+        SAVE_TIME("save", true),
+        ALLOCATED_BYTES("allocated", false);
+
+        private final String description;
+        /** Whether the measurements are times in nanoseconds, rather than numbers of bytes. */
+        private final boolean isTime;
+
+        Measure(String description, boolean isTime) {
+            this.description = description;
+            this.isTime = isTime;
+        }
+
+        /**
+         * Returns {@code value}, a measurement of this measure, in the units shown to the user.
+         */
+        private String format(long value) {
+            return isTime
+                    ? String.format("%.2f ms", value / 1e6)
+                    : String.format("%d KB", value / 1024);
+        }
+    }
+
+    private final Map<CommandEnum, Map<Measure, Histogram>> histograms = new EnumMap<>(CommandEnum.class);
+
+    /**
+     * Records {@code value} as a measurement of {@code measure} for {@code command}.
+     */
+    public synchronized void record(CommandEnum command, Measure measure, long value) {
+        requireNonNull(command);
+        requireNonNull(measure);
+        histograms.computeIfAbsent(command, unused -> new EnumMap<>(Measure.class))
+                .computeIfAbsent(measure, unused -> new Histogram())
+                .record(value);
+    }
+
+    /**
+     * Returns the number of measurements of {@code measure} recorded for {@code command}.
+     */
+    public synchronized long getCount(CommandEnum command, Measure measure) {
+        Histogram histogram = getHistogram(command, measure);
+        return histogram == null ? 0 : histogram.getCount();
+    }
+
+    /**
+     * Returns an estimate of the {@code percentile}th percentile of the measurements of {@code measure} recorded for
+     * {@code command}, or 0 if there are none.
+     */
+    public synchronized long getPercentile(CommandEnum command, Measure measure, double percentile) {
+        Histogram histogram = getHistogram(command, measure);
+        return histogram == null ? 0 : histogram.getPercentile(percentile);
+    }
+
+    /**
+     * Returns the 50th and 99th percentiles of each measure of each command which has been run, one command per line.
+     */
+    public synchronized String getSummary() {
+        if (histograms.isEmpty()) {
+            return MESSAGE_NO_COMMANDS;
+        }
+
+        StringBuilder sb = new StringBuilder("Command metrics (p50 / p99):");
+        histograms.forEach((command, histogramsOfCommand) -> {
+            Histogram parseTimes = histogramsOfCommand.get(Measure.PARSE_TIME);
+            long runCount = parseTimes == null ? 0 : parseTimes.getCount();
+            sb.append("\n").append(command.getCommandWord()).append(" (").append(runCount).append(" runs):");
+
+            String separator = " ";
+            for (Map.Entry<Measure, Histogram> entry : histogramsOfCommand.entrySet()) {
+                Measure measure = entry.getKey();
+                Histogram histogram = entry.getValue();
+                sb.append(separator).append(measure.description).append(" ")
+                        .append(measure.format(histogram.getPercentile(50))).append(" / ")
+                        .append(measure.format(histogram.getPercentile(99)));
+                separator = ", ";
+            }
+        });
+        return sb.toString();
+    }
+
+    /**
+     * Writes the count, percentiles and maximum of each measure of each command which has been run to
+     * {@code writer} as CSV, without closing {@code writer}. Times are in nanoseconds and allocations in bytes.
+     */
+    public synchronized void exportTo(Writer writer) throws IOException {
+        requireNonNull(writer);
+
+        CSVWriter csvWriter = new CSVWriter(writer);
+        csvWriter.writeNext(csvHeaders);
+        histograms.forEach((command, histogramsOfCommand) -> histogramsOfCommand.forEach((measure, histogram) ->
+                csvWriter.writeNext(new String[] {command.getCommandWord(), measure.name(),
+                    String.valueOf(histogram.getCount()), String.valueOf(histogram.getPercentile(50)),
+                    String.valueOf(histogram.getPercentile(99)), String.valueOf(histogram.getMax())})));
+        csvWriter.flush();
+    }
+
+    private Histogram getHistogram(CommandEnum command, Measure measure) {
+        Map<Measure, Histogram> histogramsOfCommand = histograms.get(command);
+        return histogramsOfCommand == null ? null : histogramsOfCommand.get(measure);
+    }
+}
@@ -0,0 +1,78 @@
+package lingogo.logic.metrics;
+
+/**
+ * Counts non-negative values in buckets whose widths grow with the values, so that percentiles can be estimated
+ * in constant memory however many values are recorded.
+ * Values below 8 have a bucket each. Above that, each power of two is split into 8 buckets, so an estimated
+ * percentile is at most an eighth more than the true percentile.
+ */
+public class Histogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (Long.SIZE - 1 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long count;
+    private long max;
+
+    /**
+     * Records {@code value}. Negative values are recorded as 0.
+     */
+    public void record(long value) {
+        long recordedValue = Math.max(0, value);
+        counts[bucketOf(recordedValue)]++;
+        count++;
+        max = Math.max(max, recordedValue);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns an estimate of the value below which {@code percentile} percent of the recorded values fall, or 0 if
+     * no values have been recorded.
+     * The estimate is the largest value in the bucket of the percentile, but never more than the largest value
+     * recorded.
+     */
+    public long getPercentile(double percentile) {
+        assert percentile >= 0 && percentile <= 100;
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long countSoFar = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            countSoFar += counts[bucket];
+            if (countSoFar >= rank) {
+                return Math.min(getUpperBound(bucket), max);
+            }
+        }
+        return max;
+    }
+
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    private static long getUpperBound(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        int shift = (bucket - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+        int subBucket = (bucket - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+        long lowerBound = (long) (SUB_BUCKET_COUNT + subBucket) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+}
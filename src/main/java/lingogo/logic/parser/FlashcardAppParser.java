@@ -1,28 +1,24 @@
 package lingogo.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static lingogo.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static lingogo.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static lingogo.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import lingogo.logic.commands.AddCommand;
-import lingogo.logic.commands.AnswerCommand;
 import lingogo.logic.commands.ClearCommand;
 import lingogo.logic.commands.Command;
-import lingogo.logic.commands.DeleteCommand;
-import lingogo.logic.commands.EditCommand;
+import lingogo.logic.commands.CommandEnum;
 import lingogo.logic.commands.ExitCommand;
-import lingogo.logic.commands.ExportCommand;
-import lingogo.logic.commands.FilterCommand;
-import lingogo.logic.commands.FindCommand;
 import lingogo.logic.commands.HelpCommand;
-import lingogo.logic.commands.ImportCommand;
-import lingogo.logic.commands.ListCommand;
 import lingogo.logic.commands.NextSlideCommand;
 import lingogo.logic.commands.PreviousSlideCommand;
 import lingogo.logic.commands.SlideshowCommand;
 import lingogo.logic.commands.StopSlideshowCommand;
+import lingogo.logic.metrics.CommandMetrics;
 import lingogo.logic.parser.exceptions.ParseException;
 
 /**
@@ -35,6 +31,23 @@ public class FlashcardAppParser {
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
 
+    private final CommandMetrics commandMetrics;
+
+    /**
+     * Creates a {@code FlashcardAppParser} whose stats commands show the metrics of no commands.
+     */
+    public FlashcardAppParser() {
+        this(new CommandMetrics());
+    }
+
+    /**
+     * Creates a {@code FlashcardAppParser} whose stats commands show the metrics in {@code commandMetrics}.
+     */
+    public FlashcardAppParser(CommandMetrics commandMetrics) {
+        requireNonNull(commandMetrics);
+        this.commandMetrics = commandMetrics;
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -43,61 +56,88 @@ public class FlashcardAppParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
+        return parseCommand(splitCommandWord(userInput));
+    }
+
+    /**
+     * Separates the command word of {@code userInput} from its arguments, and matches it to its command, so that
+     * the command word is only parsed once.
+     *
+     * @throws ParseException if the user input has no command word
+     */
+    public CommandInput splitCommandWord(String userInput) throws ParseException {
         final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
         if (!matcher.matches()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
+        return new CommandInput(matcher.group("commandWord"), matcher.group("arguments"));
+    }
+
+    /**
+     * Parses user input, whose command word has been separated by {@link #splitCommandWord(String)}, into command
+     * for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public Command parseCommand(CommandInput commandInput) throws ParseException {
+        requireNonNull(commandInput);
+        Optional<CommandEnum> commandType = commandInput.getCommandType();
+        if (commandType.isEmpty()) {
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
-        switch (commandWord) {
+        final String arguments = commandInput.getArguments();
+        switch (commandType.get()) {
 
-        case AddCommand.COMMAND_WORD:
+        case ADD:
             return new AddCommandParser().parse(arguments);
 
-        case EditCommand.COMMAND_WORD:
+        case EDIT:
             return new EditCommandParser().parse(arguments);
 
-        case DeleteCommand.COMMAND_WORD:
+        case DELETE:
             return new DeleteCommandParser().parse(arguments);
 
-        case ClearCommand.COMMAND_WORD:
+        case CLEAR:
             return new ClearCommand();
 
-        case FindCommand.COMMAND_WORD:
+        case FIND:
             return new FindCommandParser().parse(arguments);
 
-        case FilterCommand.COMMAND_WORD:
+        case FILTER:
             return new FilterCommandParser().parse(arguments);
 
-        case ListCommand.COMMAND_WORD:
+        case LIST:
             return new ListCommandParser().parse(arguments);
 
-        case ExportCommand.COMMAND_WORD:
+        case EXPORT:
             return new ExportCommandParser().parse(arguments);
 
-        case ImportCommand.COMMAND_WORD:
+        case IMPORT:
             return new ImportCommandParser().parse(arguments);
 
-        case ExitCommand.COMMAND_WORD:
+        case STATS:
+            return new StatsCommandParser(commandMetrics).parse(arguments);
+
+        case EXIT:
             return new ExitCommand();
 
-        case HelpCommand.COMMAND_WORD:
+        case HELP:
             return new HelpCommand();
 
-        case SlideshowCommand.COMMAND_WORD:
+        case SLIDESHOW:
             return new SlideshowCommand();
 
-        case StopSlideshowCommand.COMMAND_WORD:
+        case STOP:
             return new StopSlideshowCommand();
 
-        case NextSlideCommand.COMMAND_WORD:
+        case NEXT:
             return new NextSlideCommand();
 
-        case PreviousSlideCommand.COMMAND_WORD:
+        case PREVIOUS:
             return new PreviousSlideCommand();
 
-        case AnswerCommand.COMMAND_WORD:
+        case ANSWER:
             return new AnswerCommandParser().parse(arguments);
 
         default:
@@ -105,4 +145,38 @@ public class FlashcardAppParser {
         }
     }
 
+    /**
+     * The command word of a user input, the command it matches, if any, and the arguments after it.
+     */
+    public static class CommandInput {
+        private final String commandWord;
+        private final CommandEnum commandType;
+        private final String arguments;
+
+        /**
+         * Creates a {@code CommandInput} of {@code commandWord} followed by {@code arguments}.
+         */
+        public CommandInput(String commandWord, String arguments) {
+            requireAllNonNull(commandWord, arguments);
+            this.commandWord = commandWord;
+            this.commandType = CommandEnum.fromCommandWord(commandWord).orElse(null);
+            this.arguments = arguments;
+        }
+
+        public String getCommandWord() {
+            return commandWord;
+        }
+
+        /**
+         * Returns the command whose command word is the command word of the input, if there is one.
+         */
+        public Optional<CommandEnum> getCommandType() {
+            return Optional.ofNullable(commandType);
+        }
+
+        public String getArguments() {
+            return arguments;
+        }
+    }
+
 }
@@ -94,6 +94,6 @@ public class ParserUtil {
         if (!LanguageType.isValidLanguageType(trimmedName)) {
             throw new ParseException(LanguageType.MESSAGE_CONSTRAINTS);
         }
-        return new LanguageType(trimmedName);
+        return LanguageType.of(trimmedName);
     }
 }
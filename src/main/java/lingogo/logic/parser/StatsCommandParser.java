@@ -0,0 +1,43 @@
+package lingogo.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static lingogo.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import lingogo.commons.util.FileUtil;
+import lingogo.logic.commands.StatsCommand;
+import lingogo.logic.metrics.CommandMetrics;
+import lingogo.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new StatsCommand object
+ */
+public class StatsCommandParser implements Parser<StatsCommand> {
+
+    private final CommandMetrics commandMetrics;
+
+    /**
+     * Creates a {@code StatsCommandParser} whose commands show the metrics in {@code commandMetrics}.
+     */
+    public StatsCommandParser(CommandMetrics commandMetrics) {
+        requireNonNull(commandMetrics);
+        this.commandMetrics = commandMetrics;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the StatsCommand
+     * and returns a StatsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public StatsCommand parse(String args) throws ParseException {
+        String fileName = args.trim();
+        if (fileName.isEmpty()) {
+            return new StatsCommand(commandMetrics);
+        }
+        if (!FileUtil.isValidCsvFileName(fileName)) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+        }
+        return new StatsCommand(commandMetrics, fileName);
+    }
+}
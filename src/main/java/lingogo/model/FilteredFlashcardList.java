@@ -0,0 +1,333 @@
+package lingogo.model;
+
+import static java.util.Objects.requireNonNull;
+import static lingogo.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+import lingogo.model.flashcard.Flashcard;
+
+/**
+ * A view of the flashcards in a source list, which shows the flashcards at the positions set in a {@code BitSet}.
+ * Showing every flashcard, and narrowing the view to some of its positions, are word-level operations on the
+ * bitset, as is narrowing it to the source positions of a set of flashcards. Narrowing the view with a predicate
+ * only tests the flashcards in the view. Listeners are only told of the
+ * ranges of the view which change, so the view is not copied to report a change.
+ * <p>
+ * The view is keyed by source position rather than by flashcard id. Positions are dense and already in display
+ * order, so the view is a plain bitset whose bits are counted to find view indexes, whereas ids are sparse and
+ * would need a map back to positions for every lookup. Callers holding flashcards of the source list find their
+ * positions by id with {@link FlashcardApp#getPositionsOf(java.util.Collection)}.
+ * <p>
+ * Flashcards added to the source list are shown if they match the predicate the view was last built or narrowed
+ * with. A flashcard replaced in place, such as by an edit, keeps the visibility of the flashcard it replaces.
+ */
+public class FilteredFlashcardList extends TransformationList<Flashcard, Flashcard> {
+    private static final Predicate<Flashcard> PREDICATE_SHOW_NONE = unused -> false;
+
+    /** The positions in the source list of the flashcards in the view. */
+    private BitSet shownPositions = new BitSet();
+    /** The predicate which flashcards added to the source list must match to be shown. */
+    private Predicate<? super Flashcard> predicate = Model.PREDICATE_SHOW_ALL_FLASHCARDS;
+    /** The source positions of the flashcards in the view, in order, derived from {@code shownPositions}. */
+    private int[] viewToSource;
+    private int size;
+
+    /**
+     * Creates a view of {@code source} which shows every flashcard.
+     */
+    public FilteredFlashcardList(ObservableList<Flashcard> source) {
+        super(source);
+        shownPositions.set(0, source.size());
+        invalidateView();
+    }
+
+    /**
+     * Shows every flashcard in the source list.
+     */
+    public void showAll() {
+        BitSet allPositions = new BitSet(getSource().size());
+        allPositions.set(0, getSource().size());
+        replaceShownPositions(allPositions, Model.PREDICATE_SHOW_ALL_FLASHCARDS);
+    }
+
+    /**
+     * Shows the flashcards in the source list which match {@code predicate}, testing every flashcard.
+     */
+    public void setPredicate(Predicate<? super Flashcard> predicate) {
+        requireNonNull(predicate);
+        List<? extends Flashcard> source = getSource();
+        BitSet matchingPositions = new BitSet(source.size());
+        for (int i = 0; i < source.size(); i++) {
+            if (predicate.test(source.get(i))) {
+                matchingPositions.set(i);
+            }
+        }
+        replaceShownPositions(matchingPositions, predicate);
+    }
+
+    /**
+     * Shows the flashcards at {@code sourcePositions} in the source list, which must be the positions of the
+     * flashcards matching {@code predicate}. Only flashcards added to the source list afterwards are tested.
+     */
+    public void show(BitSet sourcePositions, Predicate<? super Flashcard> predicate) {
+        requireAllNonNull(sourcePositions, predicate);
+        replaceShownPositions((BitSet) sourcePositions.clone(), predicate);
+    }
+
+    /**
+     * Removes the flashcards which do not match {@code predicate} from the view, only testing the flashcards in it.
+     */
+    public void narrow(Predicate<? super Flashcard> predicate) {
+        requireNonNull(predicate);
+        BitSet matchingPositions = new BitSet(getSource().size());
+        for (int i = shownPositions.nextSetBit(0); i >= 0; i = shownPositions.nextSetBit(i + 1)) {
+            if (predicate.test(getSource().get(i))) {
+                matchingPositions.set(i);
+            }
+        }
+        Predicate<? super Flashcard> previousPredicate = this.predicate;
+        replaceShownPositions(matchingPositions, flashcard -> previousPredicate.test(flashcard)
+                && predicate.test(flashcard));
+    }
+
+    /**
+     * Keeps only the flashcards in this view which are at {@code sourcePositions} in the source list, which must be
+     * the positions of the flashcards matching {@code predicate}. The view is intersected with the positions word by
+     * word, so no flashcard is tested.
+     */
+    public void narrowToSourcePositions(BitSet sourcePositions, Predicate<? super Flashcard> predicate) {
+        requireAllNonNull(sourcePositions, predicate);
+        BitSet matchingPositions = (BitSet) shownPositions.clone();
+        matchingPositions.and(sourcePositions);
+        Predicate<? super Flashcard> previousPredicate = this.predicate;
+        replaceShownPositions(matchingPositions, flashcard -> previousPredicate.test(flashcard)
+                && predicate.test(flashcard));
+    }
+
+    /**
+     * Keeps only the flashcards at {@code positions} in this view.
+     * Flashcards added to the source list afterwards are not shown.
+     */
+    public void narrow(BitSet positions) {
+        requireNonNull(positions);
+        ensureView();
+        BitSet selectedPositions = new BitSet(getSource().size());
+        for (int i = positions.nextSetBit(0); i >= 0 && i < size; i = positions.nextSetBit(i + 1)) {
+            selectedPositions.set(viewToSource[i]);
+        }
+        replaceShownPositions(selectedPositions, PREDICATE_SHOW_NONE);
+    }
+
+    /**
+     * Replaces the shown positions, firing removals and additions for only the positions whose visibility changes.
+     */
+    private void replaceShownPositions(BitSet newShownPositions, Predicate<? super Flashcard> newPredicate) {
+        BitSet changedPositions = (BitSet) shownPositions.clone();
+        changedPositions.xor(newShownPositions);
+        shownPositions = newShownPositions;
+        predicate = newPredicate;
+        invalidateView();
+
+        beginChange();
+        int viewIndex = 0;
+        int countedTo = 0;
+        int start = changedPositions.nextSetBit(0);
+        while (start >= 0) {
+            viewIndex += countSetBits(newShownPositions, countedTo, start);
+            countedTo = start;
+            // a run of changed positions which are all shown, or all hidden
+            boolean isShown = newShownPositions.get(start);
+            int end = changedPositions.nextClearBit(start);
+            int runEnd = isShown ? newShownPositions.nextClearBit(start) : newShownPositions.nextSetBit(start);
+            if (runEnd >= 0) {
+                end = Math.min(end, runEnd);
+            }
+
+            if (isShown) {
+                nextAdd(viewIndex, viewIndex + end - start);
+            } else {
+                nextRemove(viewIndex, getSource().subList(start, end));
+            }
+            start = changedPositions.nextSetBit(end);
+        }
+        endChange();
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends Flashcard> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                permute(change);
+            } else if (!change.wasUpdated()) {
+                // flashcards are immutable, so updates do not change which flashcards are shown
+                addRemove(change);
+            }
+        }
+        endChange();
+    }
+
+    private void permute(ListChangeListener.Change<? extends Flashcard> change) {
+        int from = change.getFrom();
+        int to = change.getTo();
+        int viewFrom = countShownBefore(from);
+        int viewTo = countShownBefore(to);
+        List<Flashcard> previousRange = new ArrayList<>(subList(viewFrom, viewTo));
+
+        BitSet permutedRange = new BitSet(to);
+        for (int i = shownPositions.nextSetBit(from); i >= 0 && i < to; i = shownPositions.nextSetBit(i + 1)) {
+            permutedRange.set(change.getPermutation(i));
+        }
+        shownPositions.clear(from, to);
+        shownPositions.or(permutedRange);
+        invalidateView();
+        // the flashcards shown in the permuted range are the same, so only that range of the view changes
+        if (viewFrom < viewTo) {
+            nextRemove(viewFrom, previousRange);
+            nextAdd(viewFrom, viewTo);
+        }
+    }
+
+    private void addRemove(ListChangeListener.Change<? extends Flashcard> change) {
+        int from = change.getFrom();
+        int removedSize = change.getRemovedSize();
+        int addedSize = change.getAddedSize();
+        int viewFrom = countShownBefore(from);
+        boolean isReplacedInPlace = removedSize == 1 && addedSize == 1 && shownPositions.get(from);
+
+        List<Flashcard> removedFromView = new ArrayList<>();
+        for (int i = 0; i < removedSize; i++) {
+            if (shownPositions.get(from + i)) {
+                removedFromView.add(change.getRemoved().get(i));
+            }
+        }
+        shiftPositions(from + removedSize, addedSize - removedSize);
+        shownPositions.clear(from, from + addedSize);
+
+        List<? extends Flashcard> source = getSource();
+        int addedToView = 0;
+        for (int i = from; i < from + addedSize; i++) {
+            if (isReplacedInPlace || predicate.test(source.get(i))) {
+                shownPositions.set(i);
+                addedToView++;
+            }
+        }
+        invalidateView();
+
+        if (!removedFromView.isEmpty()) {
+            nextRemove(viewFrom, removedFromView);
+        }
+        if (addedToView > 0) {
+            nextAdd(viewFrom, viewFrom + addedToView);
+        }
+    }
+
+    /**
+     * Moves the positions from {@code start} onwards by {@code distance}, clearing the positions in between when
+     * they move up and dropping the positions before {@code start + distance} when they move down.
+     */
+    private void shiftPositions(int start, int distance) {
+        if (distance == 0) {
+            return;
+        }
+        int end = Math.max(start, shownPositions.length());
+        BitSet movedPositions = shownPositions.get(start, end);
+        shownPositions.clear(Math.min(start, start + distance), end);
+        shownPositions.or(shiftUp(movedPositions, start + distance));
+    }
+
+    /**
+     * Returns a copy of {@code bits} with every bit moved up by {@code distance}, word by word.
+     */
+    private static BitSet shiftUp(BitSet bits, int distance) {
+        long[] words = bits.toLongArray();
+        int wordShift = distance / Long.SIZE;
+        int bitShift = distance % Long.SIZE;
+        long[] shiftedWords = new long[words.length + wordShift + 1];
+        for (int i = 0; i < words.length; i++) {
+            shiftedWords[i + wordShift] |= words[i] << bitShift;
+            if (bitShift != 0) {
+                shiftedWords[i + wordShift + 1] |= words[i] >>> (Long.SIZE - bitShift);
+            }
+        }
+        return BitSet.valueOf(shiftedWords);
+    }
+
+    /**
+     * Returns the number of flashcards in the view which are before {@code position} in the source list.
+     */
+    private int countShownBefore(int position) {
+        if (viewToSource != null) {
+            int index = Arrays.binarySearch(viewToSource, position);
+            return index >= 0 ? index : -index - 1;
+        }
+        return countSetBits(shownPositions, 0, position);
+    }
+
+    /**
+     * Returns the number of set bits of {@code bits} from {@code from} to {@code to}, exclusive, counted run by run
+     * so that the bitset is not copied.
+     */
+    private static int countSetBits(BitSet bits, int from, int to) {
+        int count = 0;
+        int start = bits.nextSetBit(from);
+        while (start >= 0 && start < to) {
+            int end = Math.min(bits.nextClearBit(start), to);
+            count += end - start;
+            start = bits.nextSetBit(end);
+        }
+        return count;
+    }
+
+    private void invalidateView() {
+        viewToSource = null;
+        size = shownPositions.cardinality();
+    }
+
+    private void ensureView() {
+        if (viewToSource != null) {
+            return;
+        }
+        viewToSource = new int[size];
+        int viewIndex = 0;
+        for (int i = shownPositions.nextSetBit(0); i >= 0; i = shownPositions.nextSetBit(i + 1)) {
+            viewToSource[viewIndex++] = i;
+        }
+    }
+
+    @Override
+    public Flashcard get(int index) {
+        return getSource().get(getSourceIndex(index));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        Objects.checkIndex(index, size);
+        ensureView();
+        return viewToSource[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        Objects.checkIndex(index, getSource().size());
+        if (!shownPositions.get(index)) {
+            return -1;
+        }
+        ensureView();
+        return countShownBefore(index);
+    }
+}
@@ -2,10 +2,15 @@ package lingogo.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import lingogo.model.flashcard.Flashcard;
+import lingogo.model.flashcard.LanguageType;
+import lingogo.model.flashcard.PhraseIndex;
 import lingogo.model.flashcard.UniqueFlashcardList;
 
 /**
@@ -72,6 +77,15 @@ public class FlashcardApp implements ReadOnlyFlashcardApp {
         flashcards.add(f);
     }
 
+    /**
+     * Adds the flashcards in {@code flashcardsToAdd} which do not already exist in the flashcard app.
+     *
+     * @return the number of flashcards added.
+     */
+    public int addFlashcards(Collection<Flashcard> flashcardsToAdd) {
+        return flashcards.addAll(flashcardsToAdd);
+    }
+
     /**
      * Replaces the given flashcard {@code target} in the list with {@code editedFlashcard}.
      * {@code target} must exist in the flashcard app.
@@ -91,6 +105,27 @@ public class FlashcardApp implements ReadOnlyFlashcardApp {
         flashcards.remove(key);
     }
 
+    /**
+     * Returns an unmodifiable view of the flashcards with the language type {@code languageType}.
+     */
+    public Set<Flashcard> getFlashcardsOfLanguageType(LanguageType languageType) {
+        return flashcards.getFlashcardsOfLanguageType(languageType);
+    }
+
+    /**
+     * Returns the index of the phrases of the flashcards in the flashcard app.
+     */
+    public PhraseIndex getPhraseIndex() {
+        return flashcards.getPhraseIndex();
+    }
+
+    /**
+     * Returns the positions in the flashcard list of {@code flashcardsInList}, each of which must be in the list.
+     */
+    public BitSet getPositionsOf(Collection<Flashcard> flashcardsInList) {
+        return flashcards.getPositionsOf(flashcardsInList);
+    }
+
     //// util methods
 
     @Override
@@ -0,0 +1,142 @@
+package lingogo.model;
+
+import static java.util.Objects.requireNonNull;
+import static lingogo.commons.util.AppUtil.checkArgument;
+
+import java.util.BitSet;
+import java.util.Set;
+
+import lingogo.model.flashcard.Flashcard;
+import lingogo.model.flashcard.LanguageType;
+
+/**
+ * A condition on the displayed flashcards, which a {@link FlashcardFilterPlan} combines with other conditions.
+ * A filter can both select the flashcards it keeps from an index, and test a single displayed flashcard, and it knows
+ * the most flashcards it can keep, so that a plan can choose the cheaper of the two.
+ */
+public abstract class FlashcardFilter {
+
+    /**
+     * Returns an upper bound on the number of displayed flashcards this filter keeps.
+     */
+    abstract int getMaximumMatchCount(FlashcardApp flashcardApp, FilteredFlashcardList displayedFlashcards);
+
+    /**
+     * Returns the positions in the flashcard list of the flashcards this filter keeps, which may include flashcards
+     * which are not displayed.
+     */
+    abstract BitSet selectSourcePositions(FlashcardApp flashcardApp, FilteredFlashcardList displayedFlashcards);
+
+    /**
+     * Returns true if this filter keeps the displayed flashcard at {@code sourcePosition} in the flashcard list.
+     */
+    abstract boolean keeps(int sourcePosition, FlashcardApp flashcardApp, FilteredFlashcardList displayedFlashcards);
+
+    /**
+     * Returns true if this filter keeps {@code flashcard}, which is added to the flashcard app after the filter
+     * is applied.
+     */
+    abstract boolean keepsAddedFlashcard(Flashcard flashcard);
+
+    /**
+     * Returns a filter keeping the flashcards of {@code languageType}, which are selected from the partition of the
+     * flashcard app for the language type.
+     */
+    public static FlashcardFilter ofLanguageType(LanguageType languageType) {
+        requireNonNull(languageType);
+        return new FlashcardFilter() {
+            @Override
+            int getMaximumMatchCount(FlashcardApp flashcardApp, FilteredFlashcardList displayedFlashcards) {
+                return flashcardApp.getFlashcardsOfLanguageType(languageType).size();
+            }
+
+            @Override
+            BitSet selectSourcePositions(FlashcardApp flashcardApp, FilteredFlashcardList displayedFlashcards) {
+                Set<Flashcard> flashcardsOfLanguageType = flashcardApp.getFlashcardsOfLanguageType(languageType);
+                return flashcardApp.getPositionsOf(flashcardsOfLanguageType);
+            }
+
+            @Override
+            boolean keeps(int sourcePosition, FlashcardApp flashcardApp, FilteredFlashcardList displayedFlashcards) {
+                return keepsAddedFlashcard(flashcardApp.getFlashcardList().get(sourcePosition));
+            }
+
+            @Override
+            boolean keepsAddedFlashcard(Flashcard flashcard) {
+                return flashcard.getLanguageType().equals(languageType);
+            }
+        };
+    }
+
+    /**
+     * Returns a filter keeping the flashcards at the zero-based {@code displayedPositions} in the displayed list,
+     * such as the flashcards selected by their indexes. Flashcards added afterwards are not kept.
+     */
+    public static FlashcardFilter ofDisplayedPositions(BitSet displayedPositions) {
+        requireNonNull(displayedPositions);
+        BitSet positions = (BitSet) displayedPositions.clone();
+        int maximumMatchCount = positions.cardinality();
+        return new FlashcardFilter() {
+            @Override
+            int getMaximumMatchCount(FlashcardApp flashcardApp, FilteredFlashcardList displayedFlashcards) {
+                return maximumMatchCount;
+            }
+
+            @Override
+            BitSet selectSourcePositions(FlashcardApp flashcardApp, FilteredFlashcardList displayedFlashcards) {
+                BitSet sourcePositions = new BitSet();
+                int size = displayedFlashcards.size();
+                for (int i = positions.nextSetBit(0); i >= 0 && i < size; i = positions.nextSetBit(i + 1)) {
+                    sourcePositions.set(displayedFlashcards.getSourceIndex(i));
+                }
+                return sourcePositions;
+            }
+
+            @Override
+            boolean keeps(int sourcePosition, FlashcardApp flashcardApp, FilteredFlashcardList displayedFlashcards) {
+                int displayedPosition = displayedFlashcards.getViewIndex(sourcePosition);
+                return displayedPosition >= 0 && positions.get(displayedPosition);
+            }
+
+            @Override
+            boolean keepsAddedFlashcard(Flashcard flashcard) {
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns a filter keeping the flashcards from the zero-based {@code start} to {@code end}, inclusive, in the
+     * displayed list. Flashcards added afterwards are not kept.
+     */
+    public static FlashcardFilter ofDisplayedRange(int start, int end) {
+        checkArgument(start >= 0, "Range must start within the displayed list");
+        return new FlashcardFilter() {
+            @Override
+            int getMaximumMatchCount(FlashcardApp flashcardApp, FilteredFlashcardList displayedFlashcards) {
+                return Math.max(0, Math.min(end + 1, displayedFlashcards.size()) - start);
+            }
+
+            @Override
+            BitSet selectSourcePositions(FlashcardApp flashcardApp, FilteredFlashcardList displayedFlashcards) {
+                BitSet sourcePositions = new BitSet();
+                int rangeEnd = Math.min(end + 1, displayedFlashcards.size());
+                for (int i = start; i < rangeEnd; i++) {
+                    sourcePositions.set(displayedFlashcards.getSourceIndex(i));
+                }
+                return sourcePositions;
+            }
+
+            @Override
+            boolean keeps(int sourcePosition, FlashcardApp flashcardApp, FilteredFlashcardList displayedFlashcards) {
+                int displayedPosition = displayedFlashcards.getViewIndex(sourcePosition);
+                return displayedPosition >= start && displayedPosition <= end;
+            }
+
+            @Override
+            boolean keepsAddedFlashcard(Flashcard flashcard) {
+                return false;
+            }
+        };
+    }
+}
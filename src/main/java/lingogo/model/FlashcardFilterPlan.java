@@ -0,0 +1,80 @@
+package lingogo.model;
+
+import static java.util.Objects.requireNonNull;
+import static lingogo.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import lingogo.model.flashcard.Flashcard;
+
+/**
+ * A plan which keeps the displayed flashcards kept by all of a list of {@code FlashcardFilter}s.
+ * When the plan is applied, its filters are ordered by the most flashcards they can keep, and the most selective
+ * filter selects its flashcards from its index. Each following filter is intersected with the flashcards selected so
+ * far, either by selecting its own flashcards when it keeps fewer than have been selected, or else by testing each
+ * selected flashcard. The plan stops once no flashcard is selected.
+ */
+public class FlashcardFilterPlan {
+    private final List<FlashcardFilter> filters;
+
+    /**
+     * Creates a plan applying {@code filters}, of which there must be at least one.
+     */
+    public FlashcardFilterPlan(List<FlashcardFilter> filters) {
+        requireNonNull(filters);
+        checkArgument(!filters.isEmpty(), "A plan must have at least one filter");
+        this.filters = Collections.unmodifiableList(new ArrayList<>(filters));
+    }
+
+    /**
+     * Returns the filters of this plan, in the order they are applied to {@code displayedFlashcards}.
+     */
+    List<FlashcardFilter> getOrderedFilters(FlashcardApp flashcardApp, FilteredFlashcardList displayedFlashcards) {
+        List<FlashcardFilter> orderedFilters = new ArrayList<>(filters);
+        orderedFilters.sort(Comparator.comparingInt(filter ->
+                filter.getMaximumMatchCount(flashcardApp, displayedFlashcards)));
+        return orderedFilters;
+    }
+
+    /**
+     * Returns the positions in the flashcard list of the flashcards kept by every filter, which may include
+     * flashcards which are not displayed.
+     */
+    BitSet selectSourcePositions(FlashcardApp flashcardApp, FilteredFlashcardList displayedFlashcards) {
+        List<FlashcardFilter> orderedFilters = getOrderedFilters(flashcardApp, displayedFlashcards);
+        BitSet selectedPositions = orderedFilters.get(0).selectSourcePositions(flashcardApp, displayedFlashcards);
+        for (FlashcardFilter filter : orderedFilters.subList(1, orderedFilters.size())) {
+            int selectedCount = selectedPositions.cardinality();
+            if (selectedCount == 0) {
+                break;
+            }
+            if (filter.getMaximumMatchCount(flashcardApp, displayedFlashcards) < selectedCount) {
+                selectedPositions.and(filter.selectSourcePositions(flashcardApp, displayedFlashcards));
+                continue;
+            }
+            for (int i = selectedPositions.nextSetBit(0); i >= 0; i = selectedPositions.nextSetBit(i + 1)) {
+                if (!filter.keeps(i, flashcardApp, displayedFlashcards)) {
+                    selectedPositions.clear(i);
+                }
+            }
+        }
+        return selectedPositions;
+    }
+
+    /**
+     * Returns true if every filter keeps {@code flashcard}, which is added to the flashcard app after the plan is
+     * applied.
+     */
+    boolean keepsAddedFlashcard(Flashcard flashcard) {
+        for (FlashcardFilter filter : filters) {
+            if (!filter.keepsAddedFlashcard(flashcard)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,11 +1,15 @@
 package lingogo.model;
 
 import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import lingogo.commons.core.GuiSettings;
 import lingogo.model.flashcard.Flashcard;
+import lingogo.model.flashcard.LanguageType;
 
 /**
  * The API of the Model component.
@@ -52,6 +56,16 @@ public interface Model {
     /** Returns the FlashcardApp */
     ReadOnlyFlashcardApp getFlashcardApp();
 
+    /**
+     * Returns true if the flashcard app has been modified since it was last marked as saved.
+     */
+    boolean hasUnsavedChanges();
+
+    /**
+     * Marks the current state of the flashcard app as saved.
+     */
+    void markFlashcardAppSaved();
+
     /**
      * Returns true if a flashcard with the same identity as {@code flashcard} exists in the flashcard app.
      */
@@ -69,6 +83,14 @@ public interface Model {
      */
     void addFlashcard(Flashcard flashcard);
 
+    /**
+     * Adds the given flashcards, skipping those which already exist in the flashcard app.
+     * The filtered flashcard list is updated once after all the flashcards have been added.
+     *
+     * @return the number of flashcards added.
+     */
+    int addFlashcards(Collection<Flashcard> flashcards);
+
     /**
      * Replaces the given flashcard {@code target} with {@code editedFlashcard}.
      * {@code target} must exist in the flashcard app.
@@ -77,6 +99,12 @@ public interface Model {
      */
     void setFlashcard(Flashcard target, Flashcard editedFlashcard);
 
+    /**
+     * Returns an unmodifiable view of the flashcards in the flashcard app with the given {@code languageType},
+     * which reflects later changes to the flashcard app.
+     */
+    Set<Flashcard> getFlashcardsOfLanguageType(LanguageType languageType);
+
     /** Returns an unmodifiable view of the filtered flashcard list */
     ObservableList<Flashcard> getFilteredFlashcardList();
 
@@ -86,6 +114,19 @@ public interface Model {
      */
     void updateFilteredFlashcardList(Predicate<Flashcard> predicate);
 
+    /**
+     * Removes the flashcards which are not kept by every filter of the given {@code plan} from the filtered
+     * flashcard list.
+     * @throws NullPointerException if {@code plan} is null.
+     */
+    void narrowFilteredFlashcardList(FlashcardFilterPlan plan);
+
+    /**
+     * Keeps only the flashcards at the zero-based {@code displayedPositions} in the filtered flashcard list.
+     * @throws NullPointerException if {@code displayedPositions} is null.
+     */
+    void selectFilteredFlashcards(BitSet displayedPositions);
+
     /**
      * Starts the {@code SlideshowApp} with the existing filtered flashcard list.
      */
@@ -4,14 +4,20 @@ import static java.util.Objects.requireNonNull;
 import static lingogo.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import lingogo.commons.core.GuiSettings;
 import lingogo.commons.core.LogsCenter;
 import lingogo.model.flashcard.Flashcard;
+import lingogo.model.flashcard.LanguageType;
+import lingogo.model.flashcard.PhraseContainsKeywordsPredicate;
 
 /**
  * Represents the in-memory model of the flashcard app data.
@@ -21,8 +27,9 @@ public class ModelManager implements Model {
 
     private final FlashcardApp flashcardApp;
     private final UserPrefs userPrefs;
-    private final FilteredList<Flashcard> filteredFlashcards;
+    private final FilteredFlashcardList filteredFlashcards;
     private final SlideshowApp slideshowApp;
+    private boolean hasUnsavedChanges;
 
     /**
      * Initializes a ModelManager with the given flashcardApp and userPrefs.
@@ -35,8 +42,12 @@ public class ModelManager implements Model {
 
         this.flashcardApp = new FlashcardApp(flashcardApp);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredFlashcards = new FilteredList<>(this.flashcardApp.getFlashcardList());
+        filteredFlashcards = new FilteredFlashcardList(this.flashcardApp.getFlashcardList());
         slideshowApp = new SlideshowApp(filteredFlashcards);
+
+        // every mutation of the flashcard app goes through its flashcard list, so it is the single place to listen
+        this.flashcardApp.getFlashcardList().addListener((ListChangeListener<Flashcard>) change ->
+                hasUnsavedChanges = true);
     }
 
     public ModelManager() {
@@ -90,6 +101,16 @@ public class ModelManager implements Model {
         return flashcardApp;
     }
 
+    @Override
+    public boolean hasUnsavedChanges() {
+        return hasUnsavedChanges;
+    }
+
+    @Override
+    public void markFlashcardAppSaved() {
+        hasUnsavedChanges = false;
+    }
+
     @Override
     public boolean hasFlashcard(Flashcard flashcard) {
         requireNonNull(flashcard);
@@ -107,6 +128,17 @@ public class ModelManager implements Model {
         updateFilteredFlashcardList(PREDICATE_SHOW_ALL_FLASHCARDS);
     }
 
+    @Override
+    public int addFlashcards(Collection<Flashcard> flashcards) {
+        requireNonNull(flashcards);
+
+        int numberOfFlashcardsAdded = flashcardApp.addFlashcards(flashcards);
+        if (numberOfFlashcardsAdded > 0) {
+            updateFilteredFlashcardList(PREDICATE_SHOW_ALL_FLASHCARDS);
+        }
+        return numberOfFlashcardsAdded;
+    }
+
     @Override
     public void setFlashcard(Flashcard target, Flashcard editedFlashcard) {
         requireAllNonNull(target, editedFlashcard);
@@ -114,6 +146,11 @@ public class ModelManager implements Model {
         flashcardApp.setFlashcard(target, editedFlashcard);
     }
 
+    @Override
+    public Set<Flashcard> getFlashcardsOfLanguageType(LanguageType languageType) {
+        return flashcardApp.getFlashcardsOfLanguageType(languageType);
+    }
+
     //=========== Filtered Flashcard List Accessors =============================================================
 
     /**
@@ -128,9 +165,36 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredFlashcardList(Predicate<Flashcard> predicate) {
         requireNonNull(predicate);
+        if (predicate == PREDICATE_SHOW_ALL_FLASHCARDS) {
+            filteredFlashcards.showAll();
+            return;
+        }
+        if (predicate instanceof PhraseContainsKeywordsPredicate) {
+            // keyword searches are answered from the postings of the phrase index, without testing every flashcard
+            Optional<Set<Flashcard>> matchingFlashcards = ((PhraseContainsKeywordsPredicate) predicate)
+                    .getMatchingFlashcards(flashcardApp.getPhraseIndex());
+            if (matchingFlashcards.isPresent()) {
+                filteredFlashcards.show(flashcardApp.getPositionsOf(matchingFlashcards.get()), predicate);
+                return;
+            }
+        }
         filteredFlashcards.setPredicate(predicate);
     }
 
+    @Override
+    public void narrowFilteredFlashcardList(FlashcardFilterPlan plan) {
+        requireNonNull(plan);
+        // the positions selected by the plan are intersected with the view, so no displayed flashcard is tested
+        filteredFlashcards.narrowToSourcePositions(plan.selectSourcePositions(flashcardApp, filteredFlashcards),
+                plan::keepsAddedFlashcard);
+    }
+
+    @Override
+    public void selectFilteredFlashcards(BitSet displayedPositions) {
+        requireNonNull(displayedPositions);
+        filteredFlashcards.narrow(displayedPositions);
+    }
+
     //=========== Slideshow =====================================================================================
     @Override
     public void startSlideshow() {
@@ -30,16 +30,20 @@ public class SlideshowApp implements ReadOnlySlideshowApp {
      * Toggles to the next flashcard in the SlideshowApp.
      */
     public void nextFlashcard() {
+        SlideshowTransitionEvent event = beginTransition();
         currentFlashcard.set(slideshow.nextFlashcard());
         isAnswerDisplayed.set(slideshow.isCurrentSlideAnswered());
+        commitTransition(event, SlideshowTransitionEvent.NEXT);
     }
 
     /**
      * Toggles to the previous flashcard in the SlideshowApp.
      */
     public void previousFlashcard() {
+        SlideshowTransitionEvent event = beginTransition();
         currentFlashcard.set(slideshow.previousFlashcard());
         isAnswerDisplayed.set(slideshow.isCurrentSlideAnswered());
+        commitTransition(event, SlideshowTransitionEvent.PREVIOUS);
     }
 
     /**
@@ -50,9 +54,11 @@ public class SlideshowApp implements ReadOnlySlideshowApp {
         if (isActive.get()) {
             throw new InvalidSlideshowStartException();
         }
+        SlideshowTransitionEvent event = beginTransition();
         currentFlashcard.set(slideshow.start());
         isActive.set(true);
         isAnswerDisplayed.set(false);
+        commitTransition(event, SlideshowTransitionEvent.START);
     }
 
     /**
@@ -63,10 +69,31 @@ public class SlideshowApp implements ReadOnlySlideshowApp {
         if (!isActive.get()) {
             throw new InvalidSlideshowStopException();
         }
+        SlideshowTransitionEvent event = beginTransition();
         slideshow.stop();
         isActive.set(false);
         isAnswerDisplayed.set(false);
         currentFlashcard.set(Flashcard.EMPTY_FLASHCARD);
+        commitTransition(event, SlideshowTransitionEvent.STOP);
+    }
+
+    private static SlideshowTransitionEvent beginTransition() {
+        SlideshowTransitionEvent event = new SlideshowTransitionEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Commits {@code event} for the transition {@code transition}, which has been completed, if the event is being
+     * recorded. Transitions which fail are not recorded.
+     */
+    private void commitTransition(SlideshowTransitionEvent event, String transition) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.setDetails(transition, isActive.get() ? slideshow.getCurrentSlideNumber() : 0,
+                    slideshow.getTotalNumberOfSlides());
+            event.commit();
+        }
     }
 
     /**
@@ -0,0 +1,42 @@
+package lingogo.model;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for a transition of the slideshow, such as moving to the next slide.
+ */
+@Name(SlideshowTransitionEvent.NAME)
+@Label("Slideshow Transition")
+@Category({"LingoGO!", "Model"})
+@Description("Starting or stopping the slideshow, or moving between its slides")
+final class SlideshowTransitionEvent extends Event {
+    static final String NAME = "lingogo.SlideshowTransition";
+    static final String START = "start";
+    static final String NEXT = "next";
+    static final String PREVIOUS = "previous";
+    static final String STOP = "stop";
+
+    @Label("Transition")
+    private String transition;
+
+    @Label("Slide Number")
+    @Description("The number of the current slide after the transition, or 0 if the slideshow has stopped")
+    private int slideNumber;
+
+    @Label("Slideshow Size")
+    @Description("The number of slides in the slideshow")
+    private int slideshowSize;
+
+    /**
+     * Sets the details of the transition, as of the slideshow after it.
+     */
+    void setDetails(String transition, int slideNumber, int slideshowSize) {
+        this.transition = transition;
+        this.slideNumber = slideNumber;
+        this.slideshowSize = slideshowSize;
+    }
+}
@@ -1,8 +1,10 @@
 package lingogo.model.flashcard;
 
-import java.util.List;
+import static java.util.Objects.requireNonNull;
 
-import lingogo.commons.util.StringUtil;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 public class EnglishPhraseContainsKeywordsPredicate extends PhraseContainsKeywordsPredicate {
     public EnglishPhraseContainsKeywordsPredicate(List<String> keywords) {
@@ -11,8 +13,22 @@ public class EnglishPhraseContainsKeywordsPredicate extends PhraseContainsKeywor
 
     @Override
     public boolean test(Flashcard flashcard) {
-        return super.getKeywords().stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(flashcard.getEnglishPhrase().value, keyword));
+        return englishPhraseContainsKeyword(flashcard);
+    }
+
+    @Override
+    public Optional<Set<Flashcard>> getMatchingFlashcards(PhraseIndex phraseIndex) {
+        requireNonNull(phraseIndex);
+        Optional<List<String>> singleWordKeywords = getFoldedSingleWordKeywords();
+        if (singleWordKeywords.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Set<Flashcard> matchingFlashcards = new FlashcardIdSet();
+        for (String word : singleWordKeywords.get()) {
+            matchingFlashcards.addAll(phraseIndex.getFlashcardsWithFoldedEnglishWord(word));
+        }
+        return Optional.of(matchingFlashcards);
     }
 
     @Override
@@ -1,31 +1,46 @@
 package lingogo.model.flashcard;
 
 import static java.util.Objects.requireNonNull;
+import static lingogo.commons.util.AppUtil.checkArgument;
 import static lingogo.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Objects;
-
 /**
  * Represents a Flashcard in LingoGO!.
  * Guarantees: details are present and not null; field values are validated; immutable.
+ * <p>
+ * A flashcard in a flashcard app has an id, which is unique within the flashcard app and kept when the flashcard
+ * is edited or saved. Ids are not compared by {@link #equals(Object)}, so flashcards with the same details are
+ * equal wherever they come from.
  */
 public class Flashcard {
+    /** The id of a flashcard which has not been added to a flashcard app. */
+    public static final long UNASSIGNED_ID = 0;
+    public static final String MESSAGE_ID_CONSTRAINTS = "Flashcard ids should be positive numbers";
+
     // Empty flashcard
     public static final Flashcard EMPTY_FLASHCARD = new Flashcard(new LanguageType("empty"),
             new Phrase("empty english phrase"), new Phrase("empty foreign phrase"));
 
+    // Identity fields
+    private final long id;
+
     // Data fields
     private final LanguageType languageType; // to update UML diagram multiplicity if languageType is no longer Phrase
     private final Phrase englishPhrase;
     private final Phrase foreignPhrase;
     private final Boolean isFlipped;
 
+    // cached hash code, computed when first requested; 0 if not yet computed
+    private int hash;
+
     /**
      * Every field must be present and not null. {@code isFlipped} set to false by default.
+     * The flashcard holds the canonical instance of {@code languageType}.
      */
     public Flashcard(LanguageType languageType, Phrase englishPhrase, Phrase foreignPhrase) {
-        requireAllNonNull(englishPhrase, foreignPhrase);
-        this.languageType = languageType;
+        requireAllNonNull(languageType, englishPhrase, foreignPhrase);
+        this.id = UNASSIGNED_ID;
+        this.languageType = languageType.intern();
         this.englishPhrase = englishPhrase;
         this.foreignPhrase = foreignPhrase;
         this.isFlipped = false;
@@ -33,10 +48,17 @@ public class Flashcard {
 
     /**
      * Every field must be present and not null.
+     * The flashcard holds the canonical instance of {@code languageType}.
      */
     public Flashcard(LanguageType languageType, Phrase englishPhrase, Phrase foreignPhrase, Boolean isFlipped) {
-        requireAllNonNull(englishPhrase, foreignPhrase, isFlipped);
-        this.languageType = languageType;
+        this(UNASSIGNED_ID, languageType, englishPhrase, foreignPhrase, isFlipped);
+    }
+
+    private Flashcard(long id, LanguageType languageType, Phrase englishPhrase, Phrase foreignPhrase,
+            Boolean isFlipped) {
+        requireAllNonNull(languageType, englishPhrase, foreignPhrase, isFlipped);
+        this.id = id;
+        this.languageType = languageType.intern();
         this.englishPhrase = englishPhrase;
         this.foreignPhrase = foreignPhrase;
         this.isFlipped = isFlipped;
@@ -47,10 +69,40 @@ public class Flashcard {
      */
     public Flashcard(Flashcard toCopy) {
         requireNonNull(toCopy);
+        this.id = toCopy.id;
         this.languageType = toCopy.languageType;
         this.englishPhrase = toCopy.englishPhrase;
         this.foreignPhrase = toCopy.foreignPhrase;
         this.isFlipped = toCopy.isFlipped;
+        this.hash = toCopy.hash;
+    }
+
+    /**
+     * Returns true if {@code id} can be the id of a flashcard in a flashcard app.
+     */
+    public static boolean isValidId(long id) {
+        return id > UNASSIGNED_ID;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Returns true if this flashcard has been given an id by a flashcard app.
+     */
+    public boolean hasId() {
+        return id != UNASSIGNED_ID;
+    }
+
+    /**
+     * Returns a copy of this flashcard with the id {@code id}.
+     *
+     * @param id a valid id, as determined by {@link #isValidId(long)}.
+     */
+    public Flashcard withId(long id) {
+        checkArgument(isValidId(id), MESSAGE_ID_CONSTRAINTS);
+        return new Flashcard(id, languageType, englishPhrase, foreignPhrase, isFlipped);
     }
 
     public LanguageType getLanguageType() {
@@ -75,7 +127,7 @@ public class Flashcard {
      * @return Flipped flashcard
      */
     public Flashcard getFlippedFlashcard() {
-        return new Flashcard(languageType, englishPhrase, foreignPhrase, !isFlipped);
+        return new Flashcard(id, languageType, englishPhrase, foreignPhrase, !isFlipped);
     }
 
     /**
@@ -87,10 +139,11 @@ public class Flashcard {
         if (otherFlashcard == this) {
             return true;
         }
+        // compares the fields directly rather than through predicates, so that no objects are created per call
         return otherFlashcard != null
-            && new LanguageTypeMatchesGivenLanguageTypePredicate(this.languageType).test(otherFlashcard)
-            && new EnglishPhraseMatchesGivenPhrasePredicate(this.englishPhrase).test(otherFlashcard)
-            && otherFlashcard.getForeignPhrase().equals(getForeignPhrase());
+            && languageType.equals(otherFlashcard.languageType)
+            && englishPhrase.matchesIgnoringCase(otherFlashcard.englishPhrase)
+            && foreignPhrase.equals(otherFlashcard.foreignPhrase);
     }
 
     /**
@@ -115,7 +168,13 @@ public class Flashcard {
 
     @Override
     public int hashCode() {
-        return Objects.hash(languageType, englishPhrase, foreignPhrase);
+        int h = hash;
+        if (h == 0) {
+            // the same value as Objects.hash(languageType, englishPhrase, foreignPhrase), without a varargs array
+            h = ((31 + languageType.hashCode()) * 31 + englishPhrase.hashCode()) * 31 + foreignPhrase.hashCode();
+            hash = h;
+        }
+        return h;
     }
 
     @Override
@@ -0,0 +1,76 @@
+package lingogo.model.flashcard;
+
+import static java.util.Objects.requireNonNull;
+import static lingogo.commons.util.AppUtil.checkArgument;
+
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * A set of flashcards which hashes the ids of flashcards rather than their phrases.
+ * A flashcard is looked up by its id, then compared by reference, so checking whether a flashcard of the set is in
+ * it does not compare any phrases. Only flashcards with ids can be added, so a flashcard without an id, which is in
+ * no {@code UniqueFlashcardList}, is in no set either.
+ */
+class FlashcardIdSet extends AbstractSet<Flashcard> {
+    static final String MESSAGE_FLASHCARD_WITHOUT_ID = "Flashcard must have an id";
+
+    private final Map<Long, Flashcard> flashcardsById = new HashMap<>();
+
+    /**
+     * Adds {@code flashcard}, replacing any other flashcard with the same id.
+     *
+     * @return false if the set already contains {@code flashcard}.
+     * @throws IllegalArgumentException if {@code flashcard} has no id.
+     */
+    @Override
+    public boolean add(Flashcard flashcard) {
+        requireNonNull(flashcard);
+        checkArgument(flashcard.hasId(), MESSAGE_FLASHCARD_WITHOUT_ID);
+        Flashcard replacedFlashcard = flashcardsById.put(flashcard.getId(), flashcard);
+        return !isSameElement(flashcard, replacedFlashcard);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof Flashcard) || !((Flashcard) o).hasId()) {
+            return false;
+        }
+        Flashcard flashcard = (Flashcard) o;
+        return isSameElement(flashcard, flashcardsById.get(flashcard.getId()));
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!contains(o)) {
+            return false;
+        }
+        flashcardsById.remove(((Flashcard) o).getId());
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        flashcardsById.clear();
+    }
+
+    @Override
+    public Iterator<Flashcard> iterator() {
+        return flashcardsById.values().iterator();
+    }
+
+    @Override
+    public int size() {
+        return flashcardsById.size();
+    }
+
+    /**
+     * Returns true if {@code flashcardInSet}, the flashcard of the set with the id of {@code flashcard}, is the same
+     * element as {@code flashcard}.
+     */
+    private static boolean isSameElement(Flashcard flashcard, Flashcard flashcardInSet) {
+        return flashcardInSet == flashcard || flashcard.equals(flashcardInSet);
+    }
+}
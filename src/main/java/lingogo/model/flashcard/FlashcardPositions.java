@@ -0,0 +1,116 @@
+package lingogo.model.flashcard;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds the positions of flashcards in a list by their ids, without scanning the list.
+ * Each flashcard is given a slot when it is appended, and keeps its slot until it is removed. Removing a flashcard
+ * leaves a tombstone in its slot instead of renumbering the slots after it, and the position of a flashcard is its
+ * slot less the tombstones before it, counted in a Fenwick tree. So appending, removing and finding a flashcard take
+ * logarithmic time however many flashcards have been removed.
+ * The slots are compacted once most of them are tombstones, so that they do not grow without bound.
+ */
+class FlashcardPositions {
+    /** The number of tombstones below which the slots are not compacted. */
+    private static final int MIN_TOMBSTONES_TO_COMPACT = 64;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<Long, Integer> slotsById = new HashMap<>();
+    /** A Fenwick tree over the slots, 1-based, counting the tombstones. Its capacity is a power of two. */
+    private int[] tombstoneTree = new int[INITIAL_CAPACITY + 1];
+    private int slotCount;
+    private int tombstoneCount;
+
+    /**
+     * Returns true if a flashcard with the id {@code id} is in the list.
+     */
+    boolean contains(long id) {
+        return slotsById.containsKey(id);
+    }
+
+    /**
+     * Returns the position of the flashcard with the id {@code id}, or -1 if it is not in the list.
+     */
+    int positionOf(long id) {
+        Integer slot = slotsById.get(id);
+        return slot == null ? -1 : slot - countTombstonesBefore(slot);
+    }
+
+    /**
+     * Records that {@code flashcard} has been appended to the list.
+     * {@code flashcard} must have an id which no other flashcard in the list has.
+     */
+    void append(Flashcard flashcard) {
+        assert flashcard.hasId() && !contains(flashcard.getId());
+        if (slotCount == tombstoneTree.length - 1) {
+            grow();
+        }
+        slotsById.put(flashcard.getId(), slotCount++);
+    }
+
+    /**
+     * Records that the flashcard with the id {@code id} has been removed from the list.
+     *
+     * @return the position the flashcard was at, or -1 if it is not in the list.
+     */
+    int remove(long id) {
+        Integer slot = slotsById.remove(id);
+        if (slot == null) {
+            return -1;
+        }
+        int position = slot - countTombstonesBefore(slot);
+        for (int i = slot + 1; i < tombstoneTree.length; i += i & -i) {
+            tombstoneTree[i]++;
+        }
+        tombstoneCount++;
+        return position;
+    }
+
+    /**
+     * Returns true if most of the slots are tombstones, so that the slots should be compacted with
+     * {@link #reset(List)}.
+     */
+    boolean needsCompaction() {
+        return tombstoneCount >= MIN_TOMBSTONES_TO_COMPACT && tombstoneCount > slotCount / 2;
+    }
+
+    /**
+     * Replaces the recorded positions with the positions of {@code flashcards}, leaving no tombstones.
+     * Every flashcard in {@code flashcards} must have an id which no other flashcard in it has.
+     */
+    void reset(List<Flashcard> flashcards) {
+        requireNonNull(flashcards);
+        slotsById.clear();
+        int capacity = INITIAL_CAPACITY;
+        while (capacity < flashcards.size()) {
+            capacity *= 2;
+        }
+        tombstoneTree = new int[capacity + 1];
+        slotCount = 0;
+        tombstoneCount = 0;
+        flashcards.forEach(this::append);
+    }
+
+    private int countTombstonesBefore(int slot) {
+        int count = 0;
+        for (int i = slot; i > 0; i -= i & -i) {
+            count += tombstoneTree[i];
+        }
+        return count;
+    }
+
+    /**
+     * Doubles the capacity of the tree. The nodes in the new upper half cover only empty slots, except the last,
+     * which covers every slot.
+     */
+    private void grow() {
+        int capacity = tombstoneTree.length - 1;
+        tombstoneTree = Arrays.copyOf(tombstoneTree, 2 * capacity + 1);
+        tombstoneTree[2 * capacity] = tombstoneCount;
+    }
+}
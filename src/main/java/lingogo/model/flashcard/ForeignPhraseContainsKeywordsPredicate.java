@@ -1,8 +1,10 @@
 package lingogo.model.flashcard;
 
-import java.util.List;
+import static java.util.Objects.requireNonNull;
 
-import lingogo.commons.util.StringUtil;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 public class ForeignPhraseContainsKeywordsPredicate extends PhraseContainsKeywordsPredicate {
     public ForeignPhraseContainsKeywordsPredicate(List<String> keywords) {
@@ -11,8 +13,22 @@ public class ForeignPhraseContainsKeywordsPredicate extends PhraseContainsKeywor
 
     @Override
     public boolean test(Flashcard flashcard) {
-        return super.getKeywords().stream()
-                .anyMatch(keyword -> StringUtil.containsForeignCharacter(flashcard.getForeignPhrase().value, keyword));
+        return foreignPhraseContainsKeyword(flashcard);
+    }
+
+    @Override
+    public Optional<Set<Flashcard>> getMatchingFlashcards(PhraseIndex phraseIndex) {
+        requireNonNull(phraseIndex);
+        Optional<List<String>> singleWordKeywords = getSingleWordKeywords();
+        if (singleWordKeywords.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Set<Flashcard> matchingFlashcards = new FlashcardIdSet();
+        for (String word : singleWordKeywords.get()) {
+            matchingFlashcards.addAll(phraseIndex.getFlashcardsWithForeignSubstring(word));
+        }
+        return Optional.of(matchingFlashcards);
     }
 
     @Override
@@ -3,6 +3,9 @@ package lingogo.model.flashcard;
 import static java.util.Objects.requireNonNull;
 import static lingogo.commons.util.AppUtil.checkArgument;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Represents a language type in a Flashcard in LingoGO!.
  * Guarantees: immutable; is valid as declared in {@link #isValidLanguageType(String)}
@@ -17,6 +20,15 @@ public class LanguageType {
     public static final String VALIDATION_REGEX = "[a-zA-Z][a-zA-Z ]*";
     public static final int MAX_LENGTH = 50;
 
+    /**
+     * The maximum number of entries in the table of canonical language types. Decks hold a handful of languages,
+     * so this only stops a data file with many distinct language types from growing the table without bound.
+     */
+    private static final int MAX_CANONICAL_LANGUAGE_TYPES = 1024;
+
+    /** Canonical language types, keyed by both the strings they were created from and their formatted values. */
+    private static final Map<String, LanguageType> canonicalLanguageTypes = new ConcurrentHashMap<>();
+
     public final String value;
 
     /**
@@ -30,24 +42,92 @@ public class LanguageType {
         value = formatLanguageType(languageType);
     }
 
+    /**
+     * Returns the canonical {@code LanguageType} for {@code languageType}, so that flashcards of the same language
+     * share one instance instead of each holding their own copy.
+     *
+     * @param languageType A valid language type.
+     */
+    public static LanguageType of(String languageType) {
+        requireNonNull(languageType);
+        LanguageType canonicalLanguageType = canonicalLanguageTypes.get(languageType);
+        if (canonicalLanguageType != null) {
+            return canonicalLanguageType;
+        }
+
+        canonicalLanguageType = new LanguageType(languageType).intern();
+        if (canonicalLanguageTypes.size() < MAX_CANONICAL_LANGUAGE_TYPES) {
+            // lets later lookups of the same unformatted string skip formatting
+            canonicalLanguageTypes.putIfAbsent(languageType, canonicalLanguageType);
+        }
+        return canonicalLanguageType;
+    }
+
+    /**
+     * Returns the canonical {@code LanguageType} equal to this one, which becomes the canonical instance if there
+     * is none yet. Canonical language types are equal only if they are the same instance.
+     */
+    public LanguageType intern() {
+        LanguageType canonicalLanguageType = canonicalLanguageTypes.get(value);
+        if (canonicalLanguageType != null) {
+            return canonicalLanguageType;
+        }
+        if (canonicalLanguageTypes.size() >= MAX_CANONICAL_LANGUAGE_TYPES) {
+            return this;
+        }
+        return canonicalLanguageTypes.computeIfAbsent(value, unused -> this);
+    }
+
     /**
      * Returns true if a given language type is a valid language type.
      */
     public static boolean isValidLanguageType(String test) {
-        return test.matches(VALIDATION_REGEX) && test.length() <= MAX_LENGTH;
+        // scans the language type by hand, as String#matches would compile VALIDATION_REGEX on every call
+        if (test.isEmpty() || test.length() > MAX_LENGTH || !isAsciiLetter(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (!isAsciiLetter(c) && c != ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
     }
 
     /**
-     * Returns the formatted string for language type, where only the first letter is capitalized.
+     * Returns the formatted string for language type, where only the first letter of each word is capitalized
+     * and the words are separated by single spaces.
+     * {@code input} must be a valid language type, so it only contains ASCII letters and spaces.
      */
     private static String formatLanguageType(String input) {
-        String[] words = input.split("\\s+");
-        StringBuilder languageType = new StringBuilder("");
-        for (String word : words) {
-            languageType.append(word.substring(0, 1).toUpperCase())
-                    .append(word.substring(1).toLowerCase()).append(" ");
+        StringBuilder languageType = new StringBuilder(input.length());
+        boolean isStartOfWord = true;
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (c == ' ') {
+                isStartOfWord = true;
+                continue;
+            }
+            if (isStartOfWord && languageType.length() > 0) {
+                languageType.append(' ');
+            }
+            languageType.append(isStartOfWord ? toAsciiUpperCase(c) : toAsciiLowerCase(c));
+            isStartOfWord = false;
         }
-        return languageType.substring(0, languageType.length() - 1);
+        return languageType.toString();
+    }
+
+    private static char toAsciiUpperCase(char c) {
+        return c >= 'a' && c <= 'z' ? (char) (c - 'a' + 'A') : c;
+    }
+
+    private static char toAsciiLowerCase(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c - 'A' + 'a') : c;
     }
 
     @Override
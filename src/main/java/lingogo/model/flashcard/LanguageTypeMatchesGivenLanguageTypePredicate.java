@@ -14,7 +14,9 @@ public class LanguageTypeMatchesGivenLanguageTypePredicate implements Predicate<
 
     @Override
     public boolean test(Flashcard flashcard) {
-        return flashcard.getLanguageType().value.trim().equalsIgnoreCase(givenLanguageType.value.trim());
+        // language type values are formatted, so they are equal ignoring case only if they are equal,
+        // and flashcards hold canonical language types, so this is usually an identity check
+        return givenLanguageType.equals(flashcard.getLanguageType());
     }
 
     @Override
@@ -3,9 +3,16 @@ package lingogo.model.flashcard;
 import static java.util.Objects.requireNonNull;
 import static lingogo.commons.util.AppUtil.checkArgument;
 
+import java.util.List;
+
+import lingogo.commons.util.StringUtil;
+
 /**
  * Represents a phrase in a Flashcard in LingoGO!.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhrase(String)}
+ *
+ * The normalized forms of the phrase used to compare and search phrases ignoring case are computed the first time
+ * they are requested, and cached.
  */
 public class Phrase {
     /**
@@ -21,6 +28,10 @@ public class Phrase {
 
     public final String value;
 
+    // cached normalized forms, which are immutable, so a thread that sees null at worst computes them again
+    private String foldedValue;
+    private List<String> foldedWords;
+
     /**
      * Constructs an {@code Phrase}.
      *
@@ -36,7 +47,74 @@ public class Phrase {
      * Returns true if a given phrase is a valid phrase.
      */
     public static boolean isValidPhrase(String test) {
-        return test.matches(VALIDATION_REGEX) && test.length() <= MAX_NUMBER_OF_CHARACTERS;
+        // scans the phrase by hand, as String#matches would compile VALIDATION_REGEX on every call
+        if (test.isEmpty() || test.length() > MAX_NUMBER_OF_CHARACTERS) {
+            return false;
+        }
+        return !StringUtil.isRegexWhitespace(test.charAt(0)) && test.indexOf('\n') == -1;
+    }
+
+    /**
+     * Returns true if this phrase and {@code other} are equal ignoring case and surrounding whitespace, as if by
+     * {@code value.trim().equalsIgnoreCase(other.value.trim())}, but without creating the trimmed strings.
+     */
+    public boolean matchesIgnoringCase(Phrase other) {
+        requireNonNull(other);
+        int start = getTrimmedStart(value);
+        int length = getTrimmedEnd(value, start) - start;
+        int otherStart = getTrimmedStart(other.value);
+        return length == getTrimmedEnd(other.value, otherStart) - otherStart
+                && value.regionMatches(true, start, other.value, otherStart, length);
+    }
+
+    /**
+     * Returns the index of the first character of {@code s} which {@link String#trim()} keeps.
+     */
+    private static int getTrimmedStart(String s) {
+        int start = 0;
+        while (start < s.length() && s.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * Returns the index after the last character of {@code s} which {@link String#trim()} keeps, which is not less
+     * than {@code start}.
+     */
+    private static int getTrimmedEnd(String s, int start) {
+        int end = s.length();
+        while (end > start && s.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Returns the trimmed, case-folded form of this phrase. Two phrases are equal ignoring case and surrounding
+     * whitespace if and only if their folded values are equal.
+     */
+    public String getFoldedValue() {
+        String folded = foldedValue;
+        if (folded == null) {
+            folded = StringUtil.foldCase(value.trim());
+            foldedValue = folded;
+        }
+        return folded;
+    }
+
+    /**
+     * Returns the case-folded words of this phrase, as split by {@link StringUtil#splitWords(String)}.
+     * The phrase contains a word as defined by {@link StringUtil#containsWordIgnoreCase(String, String)} if and only
+     * if its folded words contain the folded word.
+     */
+    public List<String> getFoldedWords() {
+        List<String> words = foldedWords;
+        if (words == null) {
+            words = List.copyOf(StringUtil.splitWords(StringUtil.foldCase(value)));
+            foldedWords = words;
+        }
+        return words;
     }
 
     @Override
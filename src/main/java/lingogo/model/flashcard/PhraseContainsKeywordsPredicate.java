@@ -1,7 +1,13 @@
 package lingogo.model.flashcard;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import lingogo.commons.util.StringUtil;
 
@@ -10,9 +16,18 @@ import lingogo.commons.util.StringUtil;
  */
 public class PhraseContainsKeywordsPredicate implements Predicate<Flashcard> {
     private final List<String> keywords;
+    /** The trimmed keywords, or null if any keyword is blank or is not a single word. */
+    private final List<String> words;
+    /** The case-folded forms of {@code words}, or null if {@code words} is null. */
+    private final List<String> foldedWords;
 
+    /**
+     * Constructs a predicate which tests flashcards against {@code keywords}, normalizing the keywords once.
+     */
     public PhraseContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.words = trimSingleWordKeywords(keywords);
+        this.foldedWords = words == null ? null : foldCase(words);
     }
 
     public List<String> getKeywords() {
@@ -21,9 +36,97 @@ public class PhraseContainsKeywordsPredicate implements Predicate<Flashcard> {
 
     @Override
     public boolean test(Flashcard flashcard) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(flashcard.getEnglishPhrase().value, keyword)
-                        || StringUtil.containsForeignCharacter(flashcard.getForeignPhrase().value, keyword));
+        return englishPhraseContainsKeyword(flashcard) || foreignPhraseContainsKeyword(flashcard);
+    }
+
+    /**
+     * Returns true if the English phrase of {@code flashcard} contains any of the keywords as a word, ignoring case.
+     * Single word keywords are looked up in the cached folded words of the phrase.
+     */
+    protected boolean englishPhraseContainsKeyword(Flashcard flashcard) {
+        if (foldedWords == null) {
+            String phrase = flashcard.getEnglishPhrase().value;
+            return keywords.stream().anyMatch(keyword -> StringUtil.containsWordIgnoreCase(phrase, keyword));
+        }
+        List<String> phraseWords = flashcard.getEnglishPhrase().getFoldedWords();
+        for (String word : foldedWords) {
+            if (phraseWords.contains(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the foreign phrase of {@code flashcard} contains any of the keywords, as defined by
+     * {@link StringUtil#containsForeignCharacter(String, String)}.
+     */
+    protected boolean foreignPhraseContainsKeyword(Flashcard flashcard) {
+        String phrase = flashcard.getForeignPhrase().value;
+        if (words == null) {
+            return keywords.stream().anyMatch(keyword -> StringUtil.containsForeignCharacter(phrase, keyword));
+        }
+        // a single word is contained in a word of the phrase if and only if it is contained in the phrase
+        for (String word : words) {
+            if (phrase.contains(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the flashcards in the list indexed by {@code phraseIndex} which match this predicate, looked up from
+     * the postings of the keywords, or an empty {@code Optional} if the keywords are not all single words, in which
+     * case this predicate has to be tested on each flashcard.
+     */
+    public Optional<Set<Flashcard>> getMatchingFlashcards(PhraseIndex phraseIndex) {
+        requireNonNull(phraseIndex);
+        if (words == null) {
+            return Optional.empty();
+        }
+
+        Set<Flashcard> matchingFlashcards = new FlashcardIdSet();
+        for (int i = 0; i < words.size(); i++) {
+            matchingFlashcards.addAll(phraseIndex.getFlashcardsWithFoldedEnglishWord(foldedWords.get(i)));
+            matchingFlashcards.addAll(phraseIndex.getFlashcardsWithForeignSubstring(words.get(i)));
+        }
+        return Optional.of(matchingFlashcards);
+    }
+
+    /**
+     * Returns the trimmed keywords, or an empty {@code Optional} if any keyword is blank or is not a single word,
+     * in which case this predicate has to be tested directly.
+     */
+    protected Optional<List<String>> getSingleWordKeywords() {
+        return Optional.ofNullable(words);
+    }
+
+    /**
+     * Returns the case-folded forms of {@link #getSingleWordKeywords()}, for lookup of English words in a
+     * {@code PhraseIndex}.
+     */
+    protected Optional<List<String>> getFoldedSingleWordKeywords() {
+        return Optional.ofNullable(foldedWords);
+    }
+
+    /**
+     * Returns the trimmed {@code keywords}, or null if any keyword is blank or is not a single word.
+     */
+    private static List<String> trimSingleWordKeywords(List<String> keywords) {
+        List<String> words = new ArrayList<>();
+        for (String keyword : keywords) {
+            String word = keyword.trim();
+            if (StringUtil.splitWords(word).size() != 1) {
+                return null;
+            }
+            words.add(word);
+        }
+        return words;
+    }
+
+    private static List<String> foldCase(List<String> words) {
+        return words.stream().map(StringUtil::foldCase).collect(Collectors.toList());
     }
 
     @Override
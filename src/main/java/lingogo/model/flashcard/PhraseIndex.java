@@ -0,0 +1,165 @@
+package lingogo.model.flashcard;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import lingogo.commons.util.StringUtil;
+
+/**
+ * Indexes the phrases of a list of flashcards, so that keyword searches do not have to split every phrase.
+ * <ul>
+ *     <li>An inverted index from the case-folded words in the English phrases to the flashcards containing them,
+ *     which finds the flashcards that {@link StringUtil#containsWordIgnoreCase(String, String)} would match.</li>
+ *     <li>An index from the characters and pairs of adjacent characters (bigrams) in the foreign phrases to the
+ *     flashcards containing them. Every flashcard whose foreign phrase contains a substring contains all of the
+ *     substring's bigrams, so the flashcards under its rarest bigram are the only candidates that have to be
+ *     checked with {@link String#contains(CharSequence)}.</li>
+ * </ul>
+ *
+ * Each search looks up the postings of its keys once, and only reads the flashcards in them.
+ * A foreign phrase of n characters is under at most n character keys and n - 1 bigram keys, and an English phrase
+ * is under one key per distinct word. Each entry in a posting set is a {@code HashMap} node with a boxed id, about
+ * 50 bytes on a 64-bit JVM, so the index costs roughly 100 bytes per character of the foreign phrases and 50 bytes
+ * per word of the English phrases, several times the memory of the phrases themselves. Each key also costs a
+ * {@code HashMap} of its own. Keys whose postings become empty are dropped, so the number of keys is bounded by the
+ * distinct words, characters and bigrams of the phrases in the list.
+ * The index is kept in step with its {@link UniqueFlashcardList}, which is the only class that can modify it.
+ */
+public class PhraseIndex {
+    /** Sets the bits above those of a bigram key, so that single character keys are distinct from bigram keys. */
+    private static final long SINGLE_CHARACTER_KEY_FLAG = 1L << 32;
+
+    private final Map<String, Set<Flashcard>> englishWordIndex = new HashMap<>();
+    private final Map<Long, Set<Flashcard>> foreignGramIndex = new HashMap<>();
+
+    /**
+     * Returns an unmodifiable view of the flashcards whose English phrase contains {@code word}, ignoring case.
+     */
+    public Set<Flashcard> getFlashcardsWithEnglishWord(String word) {
+        requireNonNull(word);
+        return getFlashcardsWithFoldedEnglishWord(StringUtil.foldCase(word.trim()));
+    }
+
+    /**
+     * Returns an unmodifiable view of the flashcards whose English phrase contains {@code foldedWord}.
+     *
+     * @param foldedWord a single word, case-folded by {@link StringUtil#foldCase(String)}.
+     */
+    Set<Flashcard> getFlashcardsWithFoldedEnglishWord(String foldedWord) {
+        Set<Flashcard> postings = englishWordIndex.get(foldedWord);
+        return postings == null ? Collections.emptySet() : Collections.unmodifiableSet(postings);
+    }
+
+    /**
+     * Returns the flashcards whose foreign phrase contains {@code substring}.
+     * The candidates are looked up once, and only the candidates are checked for {@code substring}.
+     *
+     * @param substring cannot be empty.
+     */
+    public Set<Flashcard> getFlashcardsWithForeignSubstring(String substring) {
+        requireNonNull(substring);
+        if (substring.isEmpty()) {
+            throw new IllegalArgumentException("Substring cannot be empty");
+        }
+
+        if (substring.length() == 1) {
+            // the flashcards under a character are exactly those containing it
+            Set<Flashcard> postings = foreignGramIndex.get(getSingleCharacterKey(substring.charAt(0)));
+            return postings == null ? Collections.emptySet() : Collections.unmodifiableSet(postings);
+        }
+
+        Set<Flashcard> flashcards = new FlashcardIdSet();
+        for (Flashcard candidate : getRarestBigramPostings(substring)) {
+            if (candidate.getForeignPhrase().value.contains(substring)) {
+                flashcards.add(candidate);
+            }
+        }
+        return flashcards;
+    }
+
+    /**
+     * Returns the flashcards under the rarest bigram of {@code substring}, which include every flashcard whose
+     * foreign phrase contains {@code substring}.
+     *
+     * @param substring has at least two characters.
+     */
+    private Set<Flashcard> getRarestBigramPostings(String substring) {
+        Set<Flashcard> rarestPostings = null;
+        for (int i = 0; i + 1 < substring.length(); i++) {
+            Set<Flashcard> postings = foreignGramIndex.get(getBigramKey(substring.charAt(i), substring.charAt(i + 1)));
+            if (postings == null) {
+                return Collections.emptySet();
+            }
+            if (rarestPostings == null || postings.size() < rarestPostings.size()) {
+                rarestPostings = postings;
+            }
+        }
+        return rarestPostings;
+    }
+
+    /**
+     * Adds {@code flashcard} to the postings of each word in its English phrase, and each character and bigram
+     * in its foreign phrase.
+     */
+    void add(Flashcard flashcard) {
+        for (String word : getFoldedEnglishWords(flashcard)) {
+            englishWordIndex.computeIfAbsent(word, unused -> new FlashcardIdSet()).add(flashcard);
+        }
+        for (Long gram : getForeignGrams(flashcard)) {
+            foreignGramIndex.computeIfAbsent(gram, unused -> new FlashcardIdSet()).add(flashcard);
+        }
+    }
+
+    /**
+     * Removes {@code flashcard} from all the postings it was added to by {@link #add(Flashcard)}.
+     */
+    void remove(Flashcard flashcard) {
+        for (String word : getFoldedEnglishWords(flashcard)) {
+            removePosting(englishWordIndex, word, flashcard);
+        }
+        for (Long gram : getForeignGrams(flashcard)) {
+            removePosting(foreignGramIndex, gram, flashcard);
+        }
+    }
+
+    void clear() {
+        englishWordIndex.clear();
+        foreignGramIndex.clear();
+    }
+
+    private static <K> void removePosting(Map<K, Set<Flashcard>> index, K key, Flashcard flashcard) {
+        Set<Flashcard> postings = index.get(key);
+        if (postings != null && postings.remove(flashcard) && postings.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static Set<String> getFoldedEnglishWords(Flashcard flashcard) {
+        return new HashSet<>(flashcard.getEnglishPhrase().getFoldedWords());
+    }
+
+    private static Set<Long> getForeignGrams(Flashcard flashcard) {
+        String phrase = flashcard.getForeignPhrase().value;
+        Set<Long> grams = new HashSet<>();
+        for (int i = 0; i < phrase.length(); i++) {
+            grams.add(getSingleCharacterKey(phrase.charAt(i)));
+            if (i + 1 < phrase.length()) {
+                grams.add(getBigramKey(phrase.charAt(i), phrase.charAt(i + 1)));
+            }
+        }
+        return grams;
+    }
+
+    private static long getSingleCharacterKey(char c) {
+        return SINGLE_CHARACTER_KEY_FLAG | c;
+    }
+
+    private static long getBigramKey(char first, char second) {
+        return ((long) first << Character.SIZE) | second;
+    }
+}
@@ -3,8 +3,16 @@ package lingogo.model.flashcard;
 import static java.util.Objects.requireNonNull;
 import static lingogo.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,6 +27,21 @@ import lingogo.model.flashcard.exceptions.FlashcardNotFoundException;
  * UniqueFlashcardList. However, the removal of a flashcard uses Flashcard#equals(Object) so as to
  * ensure that the flashcard with exactly the same fields will be removed.
  *
+ * Each flashcard in the list has an id which no other flashcard in the list has. Flashcards added without an id,
+ * or with the id of another flashcard in the list, are given a new id, and an edited flashcard keeps the id of the
+ * flashcard it replaces. Flashcards are found in the list and in its indexes by their ids.
+ * The position of each flashcard in the backing list is kept in {@link FlashcardPositions}, so editing or removing
+ * a flashcard does not scan the list for it. Removing a flashcard still shifts the flashcards after it in the
+ * backing list, an array-backed {@code ObservableList} which the UI renders; the tombstones of
+ * {@code FlashcardPositions} only spare the position index from renumbering them.
+ *
+ * An identity index, keyed on the fields compared by {@code Flashcard#isSameFlashcard(Flashcard)}, is maintained
+ * alongside the backing list so that duplicate detection does not require a scan of the whole list.
+ * The flashcards are also partitioned by language type, so that the flashcards of a language can be found
+ * without a scan.
+ * A {@link PhraseIndex} of the phrases is built the first time it is requested, and is kept up to date
+ * from then on. It is updated before the backing list changes, so listeners of the list see an up-to-date index.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Flashcard#isSameFlashcard(Flashcard)
@@ -27,45 +50,101 @@ public class UniqueFlashcardList implements Iterable<Flashcard> {
     private final ObservableList<Flashcard> internalList = FXCollections.observableArrayList();
     private final ObservableList<Flashcard> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<IdentityKey, Flashcard> identityIndex = new HashMap<>();
+    private final FlashcardPositions positions = new FlashcardPositions();
+    private final Map<LanguageType, FlashcardIdSet> languageTypePartitions = new HashMap<>();
+    private PhraseIndex phraseIndex;
+    private long nextId = Flashcard.UNASSIGNED_ID + 1;
 
     /**
      * Returns true if the list contains an equivalent flashcard as the given argument.
      */
     public boolean contains(Flashcard toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameFlashcard);
+        return identityIndex.containsKey(new IdentityKey(toCheck));
     }
 
     /**
-     * Adds a flashcard to the list.
+     * Adds a flashcard to the list, giving it a new id unless its id is not used by another flashcard in the list.
      * The flashcard must not already exist in the list.
      */
     public void add(Flashcard toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        IdentityKey key = new IdentityKey(toAdd);
+        if (identityIndex.containsKey(key)) {
             throw new DuplicateFlashcardException();
         }
-        internalList.add(toAdd);
+        Flashcard flashcard = withUniqueId(toAdd);
+        identityIndex.put(key, flashcard);
+        positions.append(flashcard);
+        addToPartition(flashcard);
+        if (phraseIndex != null) {
+            phraseIndex.add(flashcard);
+        }
+        internalList.add(flashcard);
+    }
+
+    /**
+     * Adds the flashcards in {@code toAdd} which are not already in the list, in iteration order.
+     * Flashcards in {@code toAdd} with the same identity as an earlier flashcard in {@code toAdd} are skipped.
+     * The flashcards are added to the backing list in a single operation.
+     *
+     * @return the number of flashcards added.
+     */
+    public int addAll(Collection<Flashcard> toAdd) {
+        requireAllNonNull(toAdd);
+        List<Flashcard> flashcardsToAdd = new ArrayList<>();
+        for (Flashcard flashcard : toAdd) {
+            IdentityKey key = new IdentityKey(flashcard);
+            if (!identityIndex.containsKey(key)) {
+                Flashcard flashcardWithId = withUniqueId(flashcard);
+                identityIndex.put(key, flashcardWithId);
+                positions.append(flashcardWithId);
+                flashcardsToAdd.add(flashcardWithId);
+            }
+        }
+
+        if (!flashcardsToAdd.isEmpty()) {
+            flashcardsToAdd.forEach(this::addToPartition);
+            if (phraseIndex != null) {
+                flashcardsToAdd.forEach(phraseIndex::add);
+            }
+            internalList.addAll(flashcardsToAdd);
+        }
+        return flashcardsToAdd.size();
     }
 
     /**
      * Replaces the flashcard {@code target} in the list with {@code editedFlashcard}.
      * {@code target} must exist in the list.
      * The flashcard identity of {@code editedFlashcard} must not be the same as another existing flashcard in the list.
+     * The edited flashcard keeps the id of {@code target}.
      */
     public void setFlashcard(Flashcard target, Flashcard editedFlashcard) {
         requireAllNonNull(target, editedFlashcard);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new FlashcardNotFoundException();
         }
 
-        if (!target.isSameFlashcard(editedFlashcard) && contains(editedFlashcard)) {
+        Flashcard replacedFlashcard = internalList.get(index);
+        if (!replacedFlashcard.isSameFlashcard(editedFlashcard) && contains(editedFlashcard)) {
             throw new DuplicateFlashcardException();
         }
 
-        internalList.set(index, editedFlashcard);
+        Flashcard flashcard = editedFlashcard.getId() == replacedFlashcard.getId()
+                ? editedFlashcard
+                : editedFlashcard.withId(replacedFlashcard.getId());
+        identityIndex.remove(new IdentityKey(replacedFlashcard));
+        identityIndex.put(new IdentityKey(flashcard), flashcard);
+        removeFromPartition(replacedFlashcard);
+        addToPartition(flashcard);
+        if (phraseIndex != null) {
+            phraseIndex.remove(replacedFlashcard);
+            phraseIndex.add(flashcard);
+        }
+        internalList.set(index, flashcard);
     }
 
     /**
@@ -74,27 +153,166 @@ public class UniqueFlashcardList implements Iterable<Flashcard> {
      */
     public void remove(Flashcard toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new FlashcardNotFoundException();
         }
+
+        Flashcard removedFlashcard = internalList.get(index);
+        identityIndex.remove(new IdentityKey(removedFlashcard));
+        positions.remove(removedFlashcard.getId());
+        removeFromPartition(removedFlashcard);
+        if (phraseIndex != null) {
+            phraseIndex.remove(removedFlashcard);
+        }
+        // a single array copy, as the backing list keeps the remaining flashcards contiguous for its listeners
+        internalList.remove(index);
+        if (positions.needsCompaction()) {
+            positions.reset(internalList);
+        }
     }
 
     public void setFlashcards(UniqueFlashcardList replacement) {
         requireNonNull(replacement);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
+        positions.reset(replacement.internalList);
+        nextId = replacement.nextId;
+        rebuildPartitions(replacement.internalList);
+        rebuildPhraseIndex(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
     /**
-     * Replaces the contents of this list with {@code flashcards}.
+     * Replaces the contents of this list with {@code flashcards}, keeping their ids where they are unique.
      * {@code flashcards} must not contain duplicate flashcards.
      */
     public void setFlashcards(List<Flashcard> flashcards) {
         requireAllNonNull(flashcards);
-        if (!flashcardsAreUnique(flashcards)) {
+        List<Flashcard> flashcardsWithIds = withUniqueIds(flashcards);
+        Map<IdentityKey, Flashcard> replacementIndex = buildIdentityIndex(flashcardsWithIds);
+        if (replacementIndex == null) {
             throw new DuplicateFlashcardException();
         }
 
-        internalList.setAll(flashcards);
+        identityIndex.clear();
+        identityIndex.putAll(replacementIndex);
+        positions.reset(flashcardsWithIds);
+        nextId = Flashcard.UNASSIGNED_ID + 1;
+        for (Flashcard flashcard : flashcardsWithIds) {
+            nextId = Math.max(nextId, flashcard.getId() + 1);
+        }
+        rebuildPartitions(flashcardsWithIds);
+        rebuildPhraseIndex(flashcardsWithIds);
+        internalList.setAll(flashcardsWithIds);
+    }
+
+    /**
+     * Returns the position of the flashcard in the backing list which is equal to {@code flashcard}, or -1 if there
+     * is no such flashcard. Equal flashcards are the same flashcard, so the only candidate is the flashcard in the
+     * identity index, whose position is found by its id.
+     */
+    private int indexOf(Flashcard flashcard) {
+        Flashcard storedFlashcard = identityIndex.get(new IdentityKey(flashcard));
+        if (storedFlashcard == null || (storedFlashcard != flashcard && !storedFlashcard.equals(flashcard))) {
+            return -1;
+        }
+        return positions.positionOf(storedFlashcard.getId());
+    }
+
+    /**
+     * Returns {@code flashcard} if it has an id which is not used by a flashcard in the list, or a copy of it with
+     * a new id otherwise.
+     */
+    private Flashcard withUniqueId(Flashcard flashcard) {
+        if (flashcard.hasId() && !positions.contains(flashcard.getId())) {
+            nextId = Math.max(nextId, flashcard.getId() + 1);
+            return flashcard;
+        }
+        return flashcard.withId(nextId++);
+    }
+
+    /**
+     * Returns {@code flashcards}, with the flashcards which have no id, or the id of an earlier flashcard, given
+     * new ids larger than any of the ids in {@code flashcards}.
+     */
+    private static List<Flashcard> withUniqueIds(List<Flashcard> flashcards) {
+        long nextUnusedId = Flashcard.UNASSIGNED_ID + 1;
+        for (Flashcard flashcard : flashcards) {
+            nextUnusedId = Math.max(nextUnusedId, flashcard.getId() + 1);
+        }
+
+        Set<Long> usedIds = new HashSet<>();
+        List<Flashcard> flashcardsWithIds = new ArrayList<>(flashcards.size());
+        for (Flashcard flashcard : flashcards) {
+            if (flashcard.hasId() && usedIds.add(flashcard.getId())) {
+                flashcardsWithIds.add(flashcard);
+            } else {
+                flashcardsWithIds.add(flashcard.withId(nextUnusedId++));
+            }
+        }
+        return flashcardsWithIds;
+    }
+
+    /**
+     * Returns the positions in the backing list of {@code flashcardsInList}, found by their ids.
+     * Every flashcard in {@code flashcardsInList} must be in the list, such as the flashcards of its indexes.
+     */
+    public BitSet getPositionsOf(Collection<Flashcard> flashcardsInList) {
+        requireAllNonNull(flashcardsInList);
+        BitSet flashcardPositions = new BitSet(internalList.size());
+        for (Flashcard flashcard : flashcardsInList) {
+            int position = positions.positionOf(flashcard.getId());
+            assert position >= 0 && internalList.get(position) == flashcard;
+            flashcardPositions.set(position);
+        }
+        return flashcardPositions;
+    }
+
+    /**
+     * Returns an unmodifiable view of the flashcards in this list with the language type {@code languageType}.
+     * The view reflects later changes to the list.
+     */
+    public Set<Flashcard> getFlashcardsOfLanguageType(LanguageType languageType) {
+        requireNonNull(languageType);
+        return Collections.unmodifiableSet(
+                languageTypePartitions.computeIfAbsent(languageType.intern(), unused -> new FlashcardIdSet()));
+    }
+
+    private void addToPartition(Flashcard flashcard) {
+        languageTypePartitions.computeIfAbsent(flashcard.getLanguageType(), unused -> new FlashcardIdSet())
+                .add(flashcard);
+    }
+
+    private void removeFromPartition(Flashcard flashcard) {
+        Set<Flashcard> partition = languageTypePartitions.get(flashcard.getLanguageType());
+        // empty partitions are kept, so that views returned by getFlashcardsOfLanguageType stay live
+        if (partition != null) {
+            partition.remove(flashcard);
+        }
+    }
+
+    private void rebuildPartitions(List<Flashcard> flashcards) {
+        languageTypePartitions.values().forEach(Set::clear);
+        flashcards.forEach(this::addToPartition);
+    }
+
+    /**
+     * Returns the index of the phrases in this list, building it if it has not been requested before.
+     */
+    public PhraseIndex getPhraseIndex() {
+        if (phraseIndex == null) {
+            phraseIndex = new PhraseIndex();
+            internalList.forEach(phraseIndex::add);
+        }
+        return phraseIndex;
+    }
+
+    private void rebuildPhraseIndex(List<Flashcard> flashcards) {
+        if (phraseIndex != null) {
+            phraseIndex.clear();
+            flashcards.forEach(phraseIndex::add);
+        }
     }
 
     /**
@@ -106,7 +324,8 @@ public class UniqueFlashcardList implements Iterable<Flashcard> {
 
     @Override
     public Iterator<Flashcard> iterator() {
-        return internalList.iterator();
+        // iterates over the unmodifiable view so that Iterator#remove cannot bypass the identity index
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -122,16 +341,56 @@ public class UniqueFlashcardList implements Iterable<Flashcard> {
     }
 
     /**
-     * Returns true if {@code flashcards} contains only unique flashcards.
+     * Returns an identity index of {@code flashcards}, or null if {@code flashcards} contains
+     * flashcards with the same identity.
+     */
+    private static Map<IdentityKey, Flashcard> buildIdentityIndex(List<Flashcard> flashcards) {
+        Map<IdentityKey, Flashcard> index = new HashMap<>();
+        for (Flashcard flashcard : flashcards) {
+            if (index.putIfAbsent(new IdentityKey(flashcard), flashcard) != null) {
+                return null;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * The fields of a {@code Flashcard} that are compared by {@code Flashcard#isSameFlashcard(Flashcard)},
+     * normalized so that two flashcards have equal keys if and only if they are the same flashcard.
      */
-    private boolean flashcardsAreUnique(List<Flashcard> flashcards) {
-        for (int i = 0; i < flashcards.size() - 1; i++) {
-            for (int j = i + 1; j < flashcards.size(); j++) {
-                if (flashcards.get(i).isSameFlashcard(flashcards.get(j))) {
-                    return false;
-                }
+    private static class IdentityKey {
+        private final String languageType;
+        private final String englishPhrase;
+        private final String foreignPhrase;
+        private final int hash;
+
+        IdentityKey(Flashcard flashcard) {
+            // language type values are formatted, so they are equal ignoring case only if they are equal
+            languageType = flashcard.getLanguageType().value;
+            englishPhrase = flashcard.getEnglishPhrase().getFoldedValue();
+            foreignPhrase = flashcard.getForeignPhrase().value;
+            hash = (31 * languageType.hashCode() + englishPhrase.hashCode()) * 31 + foreignPhrase.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
             }
+            if (!(other instanceof IdentityKey)) {
+                return false;
+            }
+
+            IdentityKey otherKey = (IdentityKey) other;
+            return hash == otherKey.hash
+                    && languageType.equals(otherKey.languageType)
+                    && englishPhrase.equals(otherKey.englishPhrase)
+                    && foreignPhrase.equals(otherKey.foreignPhrase);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
         }
-        return true;
     }
 }
@@ -1,8 +1,7 @@
 package lingogo.model.slideshow;
 
-import java.util.Collections;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.HashSet;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import lingogo.model.flashcard.Flashcard;
@@ -10,9 +9,12 @@ import lingogo.model.slideshow.exceptions.EmptySlideshowException;
 import lingogo.model.slideshow.exceptions.InvalidSlideshowIndexException;
 import lingogo.model.slideshow.exceptions.SlideAlreadyAnsweredException;
 
+/**
+ * A slideshow of a list of flashcards, which records the flashcards answered by their ids.
+ */
 public class Slideshow {
     private final ObservableList<Flashcard> flashcards;
-    private List<Flashcard> slides;
+    private final Set<Long> answeredFlashcardIds;
     private int currentIdx; // index of the current slide in the flashcard list
 
     /**
@@ -20,7 +22,7 @@ public class Slideshow {
      */
     public Slideshow(ObservableList<Flashcard> flashcards) {
         this.flashcards = flashcards;
-        this.slides = Collections.emptyList();
+        this.answeredFlashcardIds = new HashSet<>();
         currentIdx = 0;
     }
 
@@ -53,8 +55,7 @@ public class Slideshow {
      * Starts the slideshow from the first card.
      */
     public Flashcard start() {
-        // Create slides for each flashcard
-        slides = flashcards.stream().map(flashcard -> new Flashcard(flashcard)).collect(Collectors.toList());
+        answeredFlashcardIds.clear();
         currentIdx = 0; // reset index
 
         if (flashcards.size() == 0) {
@@ -67,7 +68,7 @@ public class Slideshow {
      * Stops the current slideshow.
      */
     public void stop() {
-        slides = Collections.emptyList(); // Removes all slides
+        answeredFlashcardIds.clear();
         currentIdx = 0; // reset index
     }
 
@@ -78,8 +79,7 @@ public class Slideshow {
         if (isCurrentSlideAnswered()) {
             throw new SlideAlreadyAnsweredException();
         }
-        Flashcard flippedFlashcard = slides.get(currentIdx).getFlippedFlashcard();
-        slides.set(currentIdx, flippedFlashcard);
+        answeredFlashcardIds.add(flashcards.get(currentIdx).getId());
     }
 
     /**
@@ -93,7 +93,7 @@ public class Slideshow {
      * Checks whether the current slide in the slideshow has been answered.
      */
     public boolean isCurrentSlideAnswered() {
-        return slides.get(currentIdx).getFlipStatus();
+        return answeredFlashcardIds.contains(flashcards.get(currentIdx).getId());
     }
 
     /**
@@ -107,7 +107,7 @@ public class Slideshow {
      * Returns the total number of flashcards answered so far in the slideshow.
      */
     public int getNumberOfAnsweredFlashcards() {
-        return (int) slides.stream().filter(Flashcard::getFlipStatus).count();
+        return answeredFlashcardIds.size();
     }
 
     /**
@@ -138,7 +138,7 @@ public class Slideshow {
         Slideshow s = (Slideshow) other;
 
         return flashcards.equals(s.flashcards)
-                && slides.equals(s.slides)
+                && answeredFlashcardIds.equals(s.answeredFlashcardIds)
                 && currentIdx == s.currentIdx;
     }
 
@@ -0,0 +1,304 @@
+package lingogo.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import lingogo.commons.core.LogsCenter;
+import lingogo.commons.exceptions.DataConversionException;
+import lingogo.commons.exceptions.IllegalValueException;
+import lingogo.commons.util.FileUtil;
+import lingogo.model.FlashcardApp;
+import lingogo.model.ReadOnlyFlashcardApp;
+import lingogo.model.flashcard.Flashcard;
+import lingogo.model.flashcard.LanguageType;
+import lingogo.model.flashcard.Phrase;
+
+/**
+ * A class to access FlashcardApp data stored as a binary file on the hard disk.
+ * <p>
+ * The file consists of, in order: the {@link #MAGIC_NUMBER} and {@link #FORMAT_VERSION}, a table of the distinct
+ * language types, the number of flashcards, a table with the 8-byte offset of each flashcard record from the
+ * start of the first record, then the flashcard records. Each record is the 8-byte id of its flashcard, the index
+ * of its language type in the table, then its English and foreign phrases. Counts and indexes are 4-byte integers,
+ * and strings are stored as the length of their UTF-8 encoding followed by the encoded bytes.
+ * The offset table lets {@link MappedFlashcardAppStorage} decode any flashcard without reading the ones before it.
+ */
+public class BinaryFlashcardAppStorage implements FlashcardAppStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    static final int MAGIC_NUMBER = 0x4C474643; // "LGFC"
+    static final int FORMAT_VERSION = 1;
+    static final String MESSAGE_NOT_BINARY_FLASHCARD_APP = "File is not a binary flashcard app data file.";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary flashcard app data file version: %d";
+    static final String MESSAGE_CORRUPTED_FILE = "Binary flashcard app data file is corrupted.";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryFlashcardAppStorage.class);
+
+    private static final int MAX_STRING_LENGTH_IN_BYTES = 64 * 1024;
+
+    private Path filePath;
+    private final int numberOfBackups;
+
+    public BinaryFlashcardAppStorage(Path filePath) {
+        this(filePath, 0);
+    }
+
+    /**
+     * Creates a {@code BinaryFlashcardAppStorage} which keeps up to {@code numberOfBackups} previous versions
+     * of the data file each time it is saved.
+     */
+    public BinaryFlashcardAppStorage(Path filePath, int numberOfBackups) {
+        this.filePath = filePath;
+        this.numberOfBackups = Math.max(0, numberOfBackups);
+    }
+
+    /**
+     * Returns the path of the binary data file corresponding to the json data file at {@code jsonFilePath}.
+     */
+    public static Path toBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return jsonFilePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    public Path getFlashcardAppFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyFlashcardApp> readFlashcardApp() throws DataConversionException {
+        return readFlashcardApp(filePath);
+    }
+
+    /**
+     * Similar to {@link #readFlashcardApp()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyFlashcardApp> readFlashcardApp(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            return Optional.of(readFromStream(in));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Reads a flashcard app from {@code in}.
+     *
+     * @throws IOException if the data could not be read.
+     * @throws IllegalValueException if the data is not in the binary format or violates any data constraints.
+     */
+    static FlashcardApp readFromStream(InputStream in) throws IOException, IllegalValueException {
+        DataInputStream data = in instanceof DataInputStream ? (DataInputStream) in : new DataInputStream(in);
+        try {
+            if (data.readInt() != MAGIC_NUMBER) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY_FLASHCARD_APP);
+            }
+            int version = data.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            int numberOfLanguageTypes = readCount(data);
+            List<LanguageType> languageTypes = new ArrayList<>();
+            for (int i = 0; i < numberOfLanguageTypes; i++) {
+                String languageType = readString(data);
+                if (!LanguageType.isValidLanguageType(languageType)) {
+                    throw new IllegalValueException(LanguageType.MESSAGE_CONSTRAINTS);
+                }
+                languageTypes.add(LanguageType.of(languageType));
+            }
+
+            int numberOfFlashcards = readCount(data);
+            // records are read in order, so their offsets are not needed
+            for (int i = 0; i < numberOfFlashcards; i++) {
+                data.readLong();
+            }
+
+            FlashcardApp flashcardApp = new FlashcardApp();
+            for (int i = 0; i < numberOfFlashcards; i++) {
+                long id = readId(data.readLong());
+                int languageTypeIndex = data.readInt();
+                if (languageTypeIndex < 0 || languageTypeIndex >= numberOfLanguageTypes) {
+                    throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+                }
+                Flashcard flashcard = withId(new Flashcard(languageTypes.get(languageTypeIndex),
+                        readPhrase(data), readPhrase(data)), id);
+                if (flashcardApp.hasFlashcard(flashcard)) {
+                    throw new IllegalValueException(JsonSerializableFlashcardApp.MESSAGE_DUPLICATE_FLASHCARD);
+                }
+                flashcardApp.addFlashcard(flashcard);
+            }
+            return flashcardApp;
+        } catch (EOFException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE, e);
+        }
+    }
+
+    /**
+     * Returns {@code id} if it is a valid flashcard id, or {@code Flashcard.UNASSIGNED_ID}, which is saved for
+     * flashcards without an id.
+     *
+     * @throws IllegalValueException if {@code id} is neither.
+     */
+    static long readId(long id) throws IllegalValueException {
+        if (id != Flashcard.UNASSIGNED_ID && !Flashcard.isValidId(id)) {
+            throw new IllegalValueException(Flashcard.MESSAGE_ID_CONSTRAINTS);
+        }
+        return id;
+    }
+
+    /**
+     * Returns {@code flashcard} with the id {@code id}, or as it is if {@code id} is {@code Flashcard.UNASSIGNED_ID}.
+     */
+    static Flashcard withId(Flashcard flashcard, long id) {
+        return id == Flashcard.UNASSIGNED_ID ? flashcard : flashcard.withId(id);
+    }
+
+    static Phrase readPhrase(DataInputStream data) throws IOException, IllegalValueException {
+        String phrase = readString(data);
+        if (!Phrase.isValidPhrase(phrase)) {
+            throw new IllegalValueException(Phrase.MESSAGE_CONSTRAINTS);
+        }
+        return new Phrase(phrase);
+    }
+
+    private static int readCount(DataInputStream data) throws IOException, IllegalValueException {
+        int count = data.readInt();
+        if (count < 0) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+        return count;
+    }
+
+    static String readString(DataInputStream data) throws IOException, IllegalValueException {
+        int length = data.readInt();
+        if (length < 0 || length > MAX_STRING_LENGTH_IN_BYTES) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+        byte[] bytes = new byte[length];
+        data.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void saveFlashcardApp(ReadOnlyFlashcardApp flashcardApp) throws IOException {
+        saveFlashcardApp(flashcardApp, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveFlashcardApp(ReadOnlyFlashcardApp)}.
+     * The data file is replaced atomically, so a crash while saving leaves the previous data intact.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveFlashcardApp(ReadOnlyFlashcardApp flashcardApp, Path filePath) throws IOException {
+        requireNonNull(flashcardApp);
+        requireNonNull(filePath);
+
+        FileUtil.backUpFile(filePath, numberOfBackups);
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            DataOutputStream data = new DataOutputStream(out);
+            writeToStream(flashcardApp, data);
+            data.flush();
+        });
+    }
+
+    /**
+     * Writes {@code flashcardApp} to {@code data} in the binary format.
+     */
+    static void writeToStream(ReadOnlyFlashcardApp flashcardApp, DataOutputStream data) throws IOException {
+        List<Flashcard> flashcards = flashcardApp.getFlashcardList();
+        Map<String, Integer> languageTypeIndexes = new LinkedHashMap<>();
+        for (Flashcard flashcard : flashcards) {
+            languageTypeIndexes.putIfAbsent(flashcard.getLanguageType().value, languageTypeIndexes.size());
+        }
+
+        data.writeInt(MAGIC_NUMBER);
+        data.writeInt(FORMAT_VERSION);
+        data.writeInt(languageTypeIndexes.size());
+        for (String languageType : languageTypeIndexes.keySet()) {
+            writeString(data, languageType);
+        }
+
+        data.writeInt(flashcards.size());
+        long recordOffset = 0;
+        for (Flashcard flashcard : flashcards) {
+            data.writeLong(recordOffset);
+            recordOffset += Long.BYTES + Integer.BYTES
+                    + Integer.BYTES + getUtf8Length(flashcard.getEnglishPhrase().value)
+                    + Integer.BYTES + getUtf8Length(flashcard.getForeignPhrase().value);
+        }
+        for (Flashcard flashcard : flashcards) {
+            data.writeLong(flashcard.getId());
+            data.writeInt(languageTypeIndexes.get(flashcard.getLanguageType().value));
+            writeString(data, flashcard.getEnglishPhrase().value);
+            writeString(data, flashcard.getForeignPhrase().value);
+        }
+    }
+
+    static void writeString(DataOutputStream data, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    /**
+     * Returns the number of bytes in the UTF-8 encoding of {@code value}, without encoding it.
+     */
+    static int getUtf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                // unpaired surrogates are encoded as '?' by String#getBytes
+                length += Character.isSurrogate(c) ? 1 : 3;
+            }
+        }
+        return length;
+    }
+
+    @Override
+    public void flushFlashcardApp() {
+        // saves are written synchronously, so there are no pending saves to write
+    }
+
+}
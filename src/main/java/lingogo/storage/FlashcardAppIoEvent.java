@@ -0,0 +1,48 @@
+package lingogo.storage;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for reading or writing a flashcard app data file.
+ */
+@Name(FlashcardAppIoEvent.NAME)
+@Label("Flashcard App I/O")
+@Category({"LingoGO!", "Storage"})
+@Description("Reading or writing a flashcard app data file")
+final class FlashcardAppIoEvent extends Event {
+    static final String NAME = "lingogo.FlashcardAppIo";
+    static final String READ = "read";
+    static final String WRITE = "write";
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("File Path")
+    private String filePath;
+
+    @Label("Deck Size")
+    @Description("The number of flashcards read or written")
+    private int deckSize;
+
+    @Label("Bytes")
+    @Description("The size of the data file read or written")
+    @DataAmount
+    private long bytes;
+
+    /**
+     * Sets the details of the data file read or written.
+     *
+     * @param operation {@link #READ} or {@link #WRITE}.
+     */
+    void setDetails(String operation, String filePath, int deckSize, long bytes) {
+        this.operation = operation;
+        this.filePath = filePath;
+        this.deckSize = deckSize;
+        this.bytes = bytes;
+    }
+}
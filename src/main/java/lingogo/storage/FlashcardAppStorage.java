@@ -2,10 +2,13 @@ package lingogo.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import lingogo.commons.exceptions.DataConversionException;
 import lingogo.model.ReadOnlyFlashcardApp;
+import lingogo.model.flashcard.Flashcard;
 
 /**
  * Represents a storage for {@link lingogo.model.FlashcardApp}.
@@ -31,6 +34,18 @@ public interface FlashcardAppStorage {
      */
     Optional<ReadOnlyFlashcardApp> readFlashcardApp(Path filePath) throws DataConversionException, IOException;
 
+    /**
+     * Similar to {@link #readFlashcardApp()}, but also passes the first {@code firstPageSize} flashcards to
+     * {@code firstPageConsumer} as soon as they have been read, before the rest of the data is read.
+     * The first page is not validated as a whole, so it may hold flashcards which the returned flashcard app
+     * rejects as duplicates. The first page may not be passed at all, for example if the data has fewer flashcards.
+     * By default the first page is not passed, as the whole data is read at once.
+     */
+    default Optional<ReadOnlyFlashcardApp> readFlashcardApp(int firstPageSize,
+            Consumer<List<Flashcard>> firstPageConsumer) throws DataConversionException, IOException {
+        return readFlashcardApp();
+    }
+
     /**
      * Saves the given {@link ReadOnlyFlashcardApp} to the storage.
      *
@@ -44,4 +59,21 @@ public interface FlashcardAppStorage {
      */
     void saveFlashcardApp(ReadOnlyFlashcardApp flashcardApp, Path filePath) throws IOException;
 
+    /**
+     * Writes any saves of the flashcard app which have been accepted but not yet written to the storage.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flushFlashcardApp() throws IOException;
+
+    /**
+     * Writes any saves which have not yet been written, then releases the resources of the storage, which must not
+     * be used afterwards. By default the storage is only flushed.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void closeFlashcardApp() throws IOException {
+        flushFlashcardApp();
+    }
+
 }
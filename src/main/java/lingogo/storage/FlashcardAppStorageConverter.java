@@ -0,0 +1,80 @@
+package lingogo.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import lingogo.commons.core.LogsCenter;
+import lingogo.commons.exceptions.DataConversionException;
+import lingogo.commons.util.FileUtil;
+import lingogo.model.ReadOnlyFlashcardApp;
+
+/**
+ * Converts flashcard app data files between the formats of different {@code FlashcardAppStorage}s.
+ */
+public class FlashcardAppStorageConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(FlashcardAppStorageConverter.class);
+
+    /**
+     * Copies the data in {@code source} to {@code target} if {@code target}'s data file does not exist or was
+     * last modified before {@code source}'s data file.
+     * The data is read with {@code source}'s {@code readFlashcardApp}, so a {@code JournalFlashcardAppStorage}
+     * replays its journal, and a journal counts as modifying its data file when it was last modified.
+     * Returns true if the data was copied.
+     *
+     * @throws DataConversionException if the data in {@code source} is not in the expected format.
+     * @throws IOException if there was any problem reading from {@code source} or writing to {@code target}.
+     */
+    public static boolean convertIfOutdated(FlashcardAppStorage source, FlashcardAppStorage target)
+            throws DataConversionException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        Path sourceFilePath = source.getFlashcardAppFilePath();
+        Path targetFilePath = target.getFlashcardAppFilePath();
+        if (!FileUtil.isFileExists(sourceFilePath)) {
+            return false;
+        }
+        if (FileUtil.isFileExists(targetFilePath) && !isModifiedAfter(source, target)) {
+            return false;
+        }
+
+        Optional<ReadOnlyFlashcardApp> flashcardApp = source.readFlashcardApp();
+        if (!flashcardApp.isPresent()) {
+            return false;
+        }
+
+        logger.info("Converting data file " + sourceFilePath + " to " + targetFilePath);
+        target.saveFlashcardApp(flashcardApp.get());
+        return true;
+    }
+
+    private static boolean isModifiedAfter(FlashcardAppStorage storage, FlashcardAppStorage otherStorage)
+            throws IOException {
+        return getLastModifiedTime(storage).compareTo(getLastModifiedTime(otherStorage)) > 0;
+    }
+
+    /**
+     * Returns when the data file of {@code storage}, or its journal if {@code storage} is journaled, was last
+     * modified.
+     */
+    private static FileTime getLastModifiedTime(FlashcardAppStorage storage) throws IOException {
+        FileTime lastModifiedTime = Files.getLastModifiedTime(storage.getFlashcardAppFilePath());
+        if (!(storage instanceof JournalFlashcardAppStorage)) {
+            return lastModifiedTime;
+        }
+        Path journalFilePath = ((JournalFlashcardAppStorage) storage).getJournalFilePath();
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return lastModifiedTime;
+        }
+        FileTime journalLastModifiedTime = Files.getLastModifiedTime(journalFilePath);
+        return journalLastModifiedTime.compareTo(lastModifiedTime) > 0 ? journalLastModifiedTime : lastModifiedTime;
+    }
+
+}
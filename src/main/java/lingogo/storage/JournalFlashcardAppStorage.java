@@ -0,0 +1,488 @@
+package lingogo.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import lingogo.commons.core.LogsCenter;
+import lingogo.commons.exceptions.DataConversionException;
+import lingogo.commons.exceptions.IllegalValueException;
+import lingogo.commons.util.FileUtil;
+import lingogo.model.FlashcardApp;
+import lingogo.model.ReadOnlyFlashcardApp;
+import lingogo.model.flashcard.Flashcard;
+import lingogo.model.flashcard.LanguageType;
+import lingogo.model.flashcard.exceptions.DuplicateFlashcardException;
+
+/**
+ * A {@code FlashcardAppStorage} which records changes to the flashcard app in an append-only journal file next to
+ * the data file of another {@code FlashcardAppStorage}, instead of rewriting the whole data file on every save.
+ * <p>
+ * Each save is compared with the previous one, and the range of flashcards which changed is appended to the
+ * journal as a single record, so the amount written is proportional to the change rather than to the number of
+ * flashcards. Once the journal grows larger than the data file, or when {@link #flushFlashcardApp()} is called,
+ * the journal is compacted by saving the whole flashcard app to the data file and starting a new journal.
+ * Reading replays the journal over the data file, in a single pass over the data file however many records the
+ * journal has.
+ * <p>
+ * A compaction first replaces the journal with one whose only record resets the flashcards to those being saved,
+ * then saves the data file, then replaces the journal with an empty one. The reset journal does not depend on the
+ * data file, so a compaction which was interrupted at any point leaves a journal which is replayed correctly over
+ * either the old or the new data file, and a journal with records never outlives the data file it applies to.
+ * The header of an empty journal holds the size of the data file it was written after, which is checked without
+ * reading the data file, so a data file replaced by another program is read without the journal.
+ * Each record is stored with its length and checksum, so a record which was only partly written when the app
+ * crashed is discarded.
+ */
+public class JournalFlashcardAppStorage implements FlashcardAppStorage {
+
+    public static final String FILE_EXTENSION = ".journal";
+
+    static final int MAGIC_NUMBER = 0x4C474A4C; // "LGJL"
+    static final int FORMAT_VERSION = 2;
+    static final int HEADER_SIZE = Integer.BYTES * 2 + Long.BYTES;
+    static final String MESSAGE_CORRUPTED_JOURNAL = "Journal file is corrupted.";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalFlashcardAppStorage.class);
+
+    private static final long MIN_JOURNAL_SIZE_FOR_COMPACTION = 64 * 1024;
+    /** The data file size in the header of a journal which starts by resetting the flashcards. */
+    private static final long ANY_SNAPSHOT_SIZE = -2;
+    /** The number of removed flashcards in a record which removes every flashcard after its first index. */
+    private static final int ALL_FLASHCARDS = -1;
+
+    private final FlashcardAppStorage snapshotStorage;
+    private final Path journalFilePath;
+
+    // The fields below are guarded by "this"
+    private List<Flashcard> lastSavedFlashcards;
+    private long journalSize;
+
+    /**
+     * Creates a {@code JournalFlashcardAppStorage} which journals changes to the data file of
+     * {@code snapshotStorage}.
+     */
+    public JournalFlashcardAppStorage(FlashcardAppStorage snapshotStorage) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.journalFilePath = toJournalFilePath(snapshotStorage.getFlashcardAppFilePath());
+    }
+
+    /**
+     * Returns the path of the journal file for the data file at {@code dataFilePath}.
+     */
+    public static Path toJournalFilePath(Path dataFilePath) {
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getFlashcardAppFilePath() {
+        return snapshotStorage.getFlashcardAppFilePath();
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyFlashcardApp> readFlashcardApp() throws DataConversionException, IOException {
+        return readFlashcardApp(getFlashcardAppFilePath());
+    }
+
+    /**
+     * Similar to {@link #readFlashcardApp()}.
+     * Only the journal of this storage's data file is replayed; other files are read as they are.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyFlashcardApp> readFlashcardApp(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyFlashcardApp> snapshot = snapshotStorage.readFlashcardApp(filePath);
+        if (!filePath.equals(getFlashcardAppFilePath())) {
+            return snapshot;
+        }
+
+        List<Flashcard> snapshotFlashcards = snapshot.<List<Flashcard>>map(ReadOnlyFlashcardApp::getFlashcardList)
+                .orElseGet(List::of);
+        lastSavedFlashcards = null;
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            lastSavedFlashcards = snapshot.isPresent() ? new ArrayList<>(snapshotFlashcards) : null;
+            return snapshot;
+        }
+
+        Optional<List<Flashcard>> replayedFlashcards = replayJournal(snapshotFlashcards);
+        if (replayedFlashcards.isEmpty()) {
+            // the journal does not apply to the data file, so the next save starts a new journal
+            return snapshot;
+        }
+        List<Flashcard> flashcards = replayedFlashcards.get();
+        lastSavedFlashcards = flashcards;
+
+        FlashcardApp flashcardApp = new FlashcardApp();
+        try {
+            flashcardApp.setFlashcards(flashcards);
+        } catch (DuplicateFlashcardException e) {
+            throw new DataConversionException(
+                    new IllegalValueException(JsonSerializableFlashcardApp.MESSAGE_DUPLICATE_FLASHCARD, e));
+        }
+        return Optional.of(flashcardApp);
+    }
+
+    /**
+     * Returns {@code snapshotFlashcards} with the records in the journal applied, discarding any partly written
+     * record at its end. Returns an empty {@code Optional} if the journal does not apply to the current data file.
+     */
+    private Optional<List<Flashcard>> replayJournal(List<Flashcard> snapshotFlashcards)
+            throws DataConversionException, IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(journalFilePath)))) {
+            if (!isJournalOfCurrentSnapshot(in)) {
+                logger.warning("Journal " + journalFilePath + " does not match data file "
+                        + getFlashcardAppFilePath() + " and will be ignored");
+                return Optional.empty();
+            }
+
+            long journalFileSize = Files.size(journalFilePath);
+            long validJournalSize = HEADER_SIZE;
+            int numberOfRecords = 0;
+            ReplayedFlashcardList flashcards = new ReplayedFlashcardList(snapshotFlashcards);
+            byte[] record;
+            while ((record = readRecord(in, journalFileSize)) != null) {
+                applyRecord(new DataInputStream(new ByteArrayInputStream(record)), flashcards);
+                validJournalSize += Integer.BYTES + record.length + Integer.BYTES;
+                numberOfRecords++;
+            }
+            logger.info("Replayed " + numberOfRecords + " records from journal " + journalFilePath);
+
+            journalSize = validJournalSize;
+            if (journalFileSize > validJournalSize) {
+                logger.warning("Discarding incomplete record at the end of journal " + journalFilePath);
+                try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.WRITE)) {
+                    channel.truncate(validJournalSize);
+                }
+            }
+            return Optional.of(flashcards.toList());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Reads the header of the journal, and returns true if it is a journal of the current data file.
+     */
+    private boolean isJournalOfCurrentSnapshot(DataInputStream in) throws IOException {
+        try {
+            if (in.readInt() != MAGIC_NUMBER || in.readInt() != FORMAT_VERSION) {
+                return false;
+            }
+            long snapshotSize = in.readLong();
+            return snapshotSize == ANY_SNAPSHOT_SIZE || snapshotSize == getSnapshotSize();
+        } catch (EOFException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the next complete record in the journal, or null if there are no more complete records.
+     */
+    private static byte[] readRecord(DataInputStream in, long journalFileSize) throws IOException {
+        try {
+            int length = in.readInt();
+            if (length < 0 || length > journalFileSize) {
+                return null;
+            }
+            byte[] record = new byte[length];
+            in.readFully(record);
+            int checksum = in.readInt();
+            return checksum == getChecksum(record) ? record : null;
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    private static void applyRecord(DataInputStream record, ReplayedFlashcardList flashcards)
+            throws IOException, IllegalValueException {
+        int fromIndex = record.readInt();
+        int numberOfRemovedFlashcards = record.readInt();
+        int numberOfAddedFlashcards = record.readInt();
+        if (numberOfRemovedFlashcards == ALL_FLASHCARDS && fromIndex >= 0 && fromIndex <= flashcards.size()) {
+            numberOfRemovedFlashcards = flashcards.size() - fromIndex;
+        }
+        if (fromIndex < 0 || numberOfRemovedFlashcards < 0 || numberOfAddedFlashcards < 0
+                || fromIndex > flashcards.size() - numberOfRemovedFlashcards) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_JOURNAL);
+        }
+
+        List<Flashcard> addedFlashcards = new ArrayList<>();
+        for (int i = 0; i < numberOfAddedFlashcards; i++) {
+            long id = BinaryFlashcardAppStorage.readId(record.readLong());
+            String languageType = BinaryFlashcardAppStorage.readString(record);
+            if (!LanguageType.isValidLanguageType(languageType)) {
+                throw new IllegalValueException(LanguageType.MESSAGE_CONSTRAINTS);
+            }
+            addedFlashcards.add(BinaryFlashcardAppStorage.withId(new Flashcard(LanguageType.of(languageType),
+                    BinaryFlashcardAppStorage.readPhrase(record), BinaryFlashcardAppStorage.readPhrase(record)), id));
+        }
+
+        flashcards.replace(fromIndex, numberOfRemovedFlashcards, addedFlashcards);
+    }
+
+    @Override
+    public void saveFlashcardApp(ReadOnlyFlashcardApp flashcardApp) throws IOException {
+        saveFlashcardApp(flashcardApp, getFlashcardAppFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveFlashcardApp(ReadOnlyFlashcardApp)}.
+     * Saves to files other than this storage's data file are not journaled.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveFlashcardApp(ReadOnlyFlashcardApp flashcardApp, Path filePath)
+            throws IOException {
+        requireNonNull(flashcardApp);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getFlashcardAppFilePath())) {
+            snapshotStorage.saveFlashcardApp(flashcardApp, filePath);
+            return;
+        }
+
+        List<Flashcard> flashcards = new ArrayList<>(flashcardApp.getFlashcardList());
+        if (lastSavedFlashcards == null || !FileUtil.isFileExists(journalFilePath)) {
+            compact(flashcards);
+            return;
+        }
+
+        // the flashcards before and after the changed range are the same, so only the range needs to be recorded
+        int numberOfSameFlashcards = Math.min(lastSavedFlashcards.size(), flashcards.size());
+        int prefixLength = 0;
+        while (prefixLength < numberOfSameFlashcards
+                && isSavedAs(lastSavedFlashcards.get(prefixLength), flashcards.get(prefixLength))) {
+            prefixLength++;
+        }
+        int suffixLength = 0;
+        while (suffixLength < numberOfSameFlashcards - prefixLength
+                && isSavedAs(lastSavedFlashcards.get(lastSavedFlashcards.size() - 1 - suffixLength),
+                        flashcards.get(flashcards.size() - 1 - suffixLength))) {
+            suffixLength++;
+        }
+
+        int numberOfRemovedFlashcards = lastSavedFlashcards.size() - prefixLength - suffixLength;
+        List<Flashcard> addedFlashcards = flashcards.subList(prefixLength, flashcards.size() - suffixLength);
+        if (numberOfRemovedFlashcards == 0 && addedFlashcards.isEmpty()) {
+            return;
+        }
+
+        appendRecord(prefixLength, numberOfRemovedFlashcards, addedFlashcards);
+        lastSavedFlashcards = flashcards;
+        if (journalSize > Math.max(MIN_JOURNAL_SIZE_FOR_COMPACTION, getSnapshotSize())) {
+            compact(flashcards);
+        }
+    }
+
+    /**
+     * Returns true if {@code savedFlashcard} is saved in the same way as {@code flashcard}, including its id.
+     */
+    private static boolean isSavedAs(Flashcard savedFlashcard, Flashcard flashcard) {
+        return savedFlashcard == flashcard
+                || (savedFlashcard.getId() == flashcard.getId() && savedFlashcard.equals(flashcard));
+    }
+
+    private void appendRecord(int fromIndex, int numberOfRemovedFlashcards, List<Flashcard> addedFlashcards)
+            throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(toRecord(fromIndex, numberOfRemovedFlashcards, addedFlashcards));
+        try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.WRITE)) {
+            channel.position(journalSize);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        journalSize += buffer.limit();
+    }
+
+    /**
+     * Returns a record replacing {@code numberOfRemovedFlashcards} flashcards from {@code fromIndex} with
+     * {@code addedFlashcards}, with its length and checksum.
+     */
+    private static byte[] toRecord(int fromIndex, int numberOfRemovedFlashcards, List<Flashcard> addedFlashcards)
+            throws IOException {
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        record.writeInt(fromIndex);
+        record.writeInt(numberOfRemovedFlashcards);
+        record.writeInt(addedFlashcards.size());
+        for (Flashcard flashcard : addedFlashcards) {
+            record.writeLong(flashcard.getId());
+            BinaryFlashcardAppStorage.writeString(record, flashcard.getLanguageType().value);
+            BinaryFlashcardAppStorage.writeString(record, flashcard.getEnglishPhrase().value);
+            BinaryFlashcardAppStorage.writeString(record, flashcard.getForeignPhrase().value);
+        }
+        byte[] payload = recordBytes.toByteArray();
+
+        return ByteBuffer.allocate(Integer.BYTES + payload.length + Integer.BYTES)
+                .putInt(payload.length).put(payload).putInt(getChecksum(payload)).array();
+    }
+
+    /**
+     * Saves {@code flashcards} to the data file and replaces the journal with an empty journal for it.
+     */
+    private void compact(List<Flashcard> flashcards) throws IOException {
+        // until the data file has been saved, the journal holds the flashcards whichever data file it is read with
+        lastSavedFlashcards = null;
+        writeJournal(ANY_SNAPSHOT_SIZE, toRecord(0, ALL_FLASHCARDS, flashcards));
+
+        FlashcardApp flashcardApp = new FlashcardApp();
+        flashcardApp.setFlashcards(flashcards);
+        snapshotStorage.saveFlashcardApp(flashcardApp);
+        snapshotStorage.flushFlashcardApp();
+
+        writeJournal(getSnapshotSize(), new byte[0]);
+        journalSize = HEADER_SIZE;
+        lastSavedFlashcards = flashcards;
+    }
+
+    /**
+     * Replaces the journal with a journal of the data file of {@code snapshotSize} holding {@code records}.
+     */
+    private void writeJournal(long snapshotSize, byte[] records) throws IOException {
+        FileUtil.writeToFileAtomically(journalFilePath, out -> {
+            DataOutputStream journal = new DataOutputStream(out);
+            journal.writeInt(MAGIC_NUMBER);
+            journal.writeInt(FORMAT_VERSION);
+            journal.writeLong(snapshotSize);
+            journal.write(records);
+            journal.flush();
+        });
+    }
+
+    /**
+     * Compacts the journal into the data file, so that the data file alone is up to date.
+     */
+    @Override
+    public synchronized void flushFlashcardApp() throws IOException {
+        if (lastSavedFlashcards != null && journalSize > HEADER_SIZE) {
+            compact(lastSavedFlashcards);
+        }
+        snapshotStorage.flushFlashcardApp();
+    }
+
+    private long getSnapshotSize() throws IOException {
+        Path snapshotFilePath = getFlashcardAppFilePath();
+        return FileUtil.isFileExists(snapshotFilePath) ? Files.size(snapshotFilePath) : -1;
+    }
+
+    private static int getChecksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * The flashcards of a data file with the records of its journal applied, held as a list of runs of flashcards
+     * taken from the data file or from the records. Applying a record only splits and replaces runs, so replaying a
+     * journal takes time proportional to the number of records times the number of runs, and the flashcards are
+     * copied once, by {@link #toList()}, rather than once per record.
+     */
+    private static class ReplayedFlashcardList {
+        private final List<Run> runs = new ArrayList<>();
+        private int size;
+
+        ReplayedFlashcardList(List<Flashcard> flashcards) {
+            if (!flashcards.isEmpty()) {
+                runs.add(new Run(flashcards, 0, flashcards.size()));
+            }
+            size = flashcards.size();
+        }
+
+        int size() {
+            return size;
+        }
+
+        /**
+         * Replaces the {@code numberOfRemovedFlashcards} flashcards from {@code fromIndex} with
+         * {@code addedFlashcards}.
+         */
+        void replace(int fromIndex, int numberOfRemovedFlashcards, List<Flashcard> addedFlashcards) {
+            assert fromIndex >= 0 && numberOfRemovedFlashcards >= 0 && fromIndex + numberOfRemovedFlashcards <= size;
+            int firstRemovedRun = splitAt(fromIndex);
+            int firstKeptRun = splitAt(fromIndex + numberOfRemovedFlashcards);
+            runs.subList(firstRemovedRun, firstKeptRun).clear();
+            if (!addedFlashcards.isEmpty()) {
+                runs.add(firstRemovedRun, new Run(addedFlashcards, 0, addedFlashcards.size()));
+            }
+            size += addedFlashcards.size() - numberOfRemovedFlashcards;
+        }
+
+        /**
+         * Splits the run containing {@code index}, if needed, so that a run starts at {@code index}, and returns the
+         * position of that run, or the number of runs if {@code index} is the size of the list.
+         */
+        private int splitAt(int index) {
+            int runStart = 0;
+            for (int i = 0; i < runs.size(); i++) {
+                if (index == runStart) {
+                    return i;
+                }
+                Run run = runs.get(i);
+                int runEnd = runStart + run.size();
+                if (index < runEnd) {
+                    int splitPosition = run.from + index - runStart;
+                    runs.set(i, new Run(run.flashcards, run.from, splitPosition));
+                    runs.add(i + 1, new Run(run.flashcards, splitPosition, run.to));
+                    return i + 1;
+                }
+                runStart = runEnd;
+            }
+            return runs.size();
+        }
+
+        List<Flashcard> toList() {
+            List<Flashcard> flashcards = new ArrayList<>(size);
+            for (Run run : runs) {
+                flashcards.addAll(run.flashcards.subList(run.from, run.to));
+            }
+            return flashcards;
+        }
+
+        /**
+         * The flashcards from {@code from} to {@code to}, exclusive, of a list which is not modified.
+         */
+        private static class Run {
+            private final List<Flashcard> flashcards;
+            private final int from;
+            private final int to;
+
+            Run(List<Flashcard> flashcards, int from, int to) {
+                this.flashcards = flashcards;
+                this.from = from;
+                this.to = to;
+            }
+
+            int size() {
+                return to - from;
+            }
+        }
+    }
+}
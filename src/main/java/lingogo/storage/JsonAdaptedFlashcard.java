@@ -17,27 +17,39 @@ class JsonAdaptedFlashcard {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Flashcard's %s field is missing!";
 
+    private final Long id;
     private final String languageType;
     private final String englishPhrase;
     private final String foreignPhrase;
 
     /**
      * Constructs a {@code JsonAdaptedFlashcard} with the given flashcard details.
+     * {@code id} is null for flashcards saved before flashcards had ids.
      */
     @JsonCreator
-    public JsonAdaptedFlashcard(@JsonProperty("languageType") String languageType,
+    public JsonAdaptedFlashcard(@JsonProperty("id") Long id,
+                                @JsonProperty("languageType") String languageType,
                                 @JsonProperty("englishPhrase") String englishPhrase,
                                 @JsonProperty("foreignPhrase") String foreignPhrase) {
+        this.id = id;
         this.languageType = languageType;
         this.englishPhrase = englishPhrase;
         this.foreignPhrase = foreignPhrase;
 
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedFlashcard} without an id with the given flashcard details.
+     */
+    public JsonAdaptedFlashcard(String languageType, String englishPhrase, String foreignPhrase) {
+        this(null, languageType, englishPhrase, foreignPhrase);
+    }
+
     /**
      * Converts a given {@code Flashcard} into this class for Jackson use.
      */
     public JsonAdaptedFlashcard(Flashcard source) {
+        id = source.hasId() ? source.getId() : null;
         languageType = source.getLanguageType().value;
         englishPhrase = source.getEnglishPhrase().value;
         foreignPhrase = source.getForeignPhrase().value;
@@ -50,6 +62,10 @@ class JsonAdaptedFlashcard {
      */
     public Flashcard toModelType() throws IllegalValueException {
 
+        if (id != null && !Flashcard.isValidId(id)) {
+            throw new IllegalValueException(Flashcard.MESSAGE_ID_CONSTRAINTS);
+        }
+
         if (languageType == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     "Language " + Phrase.class.getSimpleName()));
@@ -58,7 +74,7 @@ class JsonAdaptedFlashcard {
             throw new IllegalValueException(Phrase.MESSAGE_CONSTRAINTS);
         }
 
-        final LanguageType modelLanguageType = new LanguageType(languageType);
+        final LanguageType modelLanguageType = LanguageType.of(languageType);
 
         if (englishPhrase == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -80,7 +96,8 @@ class JsonAdaptedFlashcard {
 
         final Phrase modelForeignPhrase = new Phrase(foreignPhrase);
 
-        return new Flashcard(modelLanguageType, modelEnglishPhrase, modelForeignPhrase);
+        final Flashcard modelFlashcard = new Flashcard(modelLanguageType, modelEnglishPhrase, modelForeignPhrase);
+        return id == null ? modelFlashcard : modelFlashcard.withId(id);
     }
 
 }
@@ -3,16 +3,20 @@ package lingogo.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import lingogo.commons.core.LogsCenter;
 import lingogo.commons.exceptions.DataConversionException;
 import lingogo.commons.exceptions.IllegalValueException;
 import lingogo.commons.util.FileUtil;
-import lingogo.commons.util.JsonUtil;
 import lingogo.model.ReadOnlyFlashcardApp;
+import lingogo.model.flashcard.Flashcard;
 
 /**
  * A class to access FlashcardApp data stored as a json file on the hard disk.
@@ -22,9 +26,23 @@ public class JsonFlashcardAppStorage implements FlashcardAppStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonFlashcardAppStorage.class);
 
     private Path filePath;
+    private final int numberOfBackups;
+    private final boolean isCompact;
 
     public JsonFlashcardAppStorage(Path filePath) {
+        this(filePath, 0, false);
+    }
+
+    /**
+     * Creates a {@code JsonFlashcardAppStorage} which keeps up to {@code numberOfBackups} previous versions
+     * of the data file each time it is saved.
+     *
+     * @param isCompact whether to save the data without the whitespace used to make it human-readable.
+     */
+    public JsonFlashcardAppStorage(Path filePath, int numberOfBackups, boolean isCompact) {
         this.filePath = filePath;
+        this.numberOfBackups = Math.max(0, numberOfBackups);
+        this.isCompact = isCompact;
     }
 
     public Path getFlashcardAppFilePath() {
@@ -43,16 +61,34 @@ public class JsonFlashcardAppStorage implements FlashcardAppStorage {
      * @throws DataConversionException if the file is not in the correct format.
      */
     public Optional<ReadOnlyFlashcardApp> readFlashcardApp(Path filePath) throws DataConversionException {
+        return readFlashcardApp(filePath, 0, firstPage -> { });
+    }
+
+    @Override
+    public Optional<ReadOnlyFlashcardApp> readFlashcardApp(int firstPageSize,
+            Consumer<List<Flashcard>> firstPageConsumer) throws DataConversionException {
+        return readFlashcardApp(filePath, firstPageSize, firstPageConsumer);
+    }
+
+    private Optional<ReadOnlyFlashcardApp> readFlashcardApp(Path filePath, int firstPageSize,
+            Consumer<List<Flashcard>> firstPageConsumer) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableFlashcardApp> jsonFlashcardApp = JsonUtil.readJsonFile(
-            filePath, JsonSerializableFlashcardApp.class);
-        if (!jsonFlashcardApp.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonFlashcardApp.get().toModelType());
+        FlashcardAppIoEvent event = new FlashcardAppIoEvent();
+        event.begin();
+        try (InputStream in = Files.newInputStream(filePath)) {
+            ReadOnlyFlashcardApp flashcardApp = StreamingJsonFlashcardAppSerializer.readFlashcardApp(in,
+                    firstPageSize, firstPageConsumer);
+            commitIoEvent(event, FlashcardAppIoEvent.READ, filePath, flashcardApp);
+            return Optional.of(flashcardApp);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -66,6 +102,7 @@ public class JsonFlashcardAppStorage implements FlashcardAppStorage {
 
     /**
      * Similar to {@link #saveFlashcardApp(ReadOnlyFlashcardApp)}.
+     * The data file is replaced atomically, so a crash while saving leaves the previous data intact.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +110,38 @@ public class JsonFlashcardAppStorage implements FlashcardAppStorage {
         requireNonNull(flashcardApp);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableFlashcardApp(flashcardApp), filePath);
+        FileUtil.backUpFile(filePath, numberOfBackups);
+        FlashcardAppIoEvent event = new FlashcardAppIoEvent();
+        event.begin();
+        FileUtil.writeToFileAtomically(filePath,
+            out -> StreamingJsonFlashcardAppSerializer.writeFlashcardApp(flashcardApp, out, isCompact));
+        commitIoEvent(event, FlashcardAppIoEvent.WRITE, filePath, flashcardApp);
+    }
+
+    /**
+     * Commits {@code event} for {@code flashcardApp}, which has just been read from or written to the data file at
+     * {@code filePath}, if the event is being recorded.
+     */
+    private static void commitIoEvent(FlashcardAppIoEvent event, String operation, Path filePath,
+            ReadOnlyFlashcardApp flashcardApp) {
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+
+        long bytes;
+        try {
+            bytes = Files.size(filePath);
+        } catch (IOException e) {
+            bytes = -1;
+        }
+        event.setDetails(operation, filePath.toString(), flashcardApp.getFlashcardList().size(), bytes);
+        event.commit();
+    }
+
+    @Override
+    public void flushFlashcardApp() {
+        // saves are written synchronously, so there are no pending saves to write
     }
 
 }
@@ -0,0 +1,262 @@
+package lingogo.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import lingogo.commons.core.LogsCenter;
+import lingogo.commons.exceptions.DataConversionException;
+import lingogo.commons.exceptions.IllegalValueException;
+import lingogo.model.FlashcardApp;
+import lingogo.model.ReadOnlyFlashcardApp;
+import lingogo.model.flashcard.Flashcard;
+import lingogo.model.flashcard.LanguageType;
+import lingogo.model.flashcard.Phrase;
+
+/**
+ * A class to access FlashcardApp data stored by a {@link BinaryFlashcardAppStorage}, which reads the data file by
+ * memory-mapping it. Saves are written by the {@code BinaryFlashcardAppStorage}.
+ * <p>
+ * The mapped file is copied onto the Java heap in a single bulk copy, without a read call per block, and is
+ * unmapped before it is decoded, so the mapping does not outlive the read. A platform which does not allow a mapped
+ * file to be replaced can then save over the data file straight after it was read. The offset table of the file
+ * locates each record without decoding the ones before it, so the first page of flashcards is passed on as soon as
+ * it has been decoded, before the rest of the file is decoded.
+ */
+public class MappedFlashcardAppStorage implements FlashcardAppStorage {
+
+    static final String MESSAGE_FILE_TOO_LARGE = "Binary flashcard app data file is too large to be mapped.";
+
+    private static final Logger logger = LogsCenter.getLogger(MappedFlashcardAppStorage.class);
+
+    private final BinaryFlashcardAppStorage binaryStorage;
+
+    /**
+     * Creates a {@code MappedFlashcardAppStorage} which reads the data file of {@code binaryStorage}, and saves
+     * through {@code binaryStorage}.
+     */
+    public MappedFlashcardAppStorage(BinaryFlashcardAppStorage binaryStorage) {
+        requireNonNull(binaryStorage);
+        this.binaryStorage = binaryStorage;
+    }
+
+    @Override
+    public Path getFlashcardAppFilePath() {
+        return binaryStorage.getFlashcardAppFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyFlashcardApp> readFlashcardApp() throws DataConversionException {
+        return readFlashcardApp(getFlashcardAppFilePath());
+    }
+
+    /**
+     * Similar to {@link #readFlashcardApp()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyFlashcardApp> readFlashcardApp(Path filePath) throws DataConversionException {
+        return readFlashcardApp(filePath, 0, firstPage -> { });
+    }
+
+    @Override
+    public Optional<ReadOnlyFlashcardApp> readFlashcardApp(int firstPageSize,
+            Consumer<List<Flashcard>> firstPageConsumer) throws DataConversionException {
+        return readFlashcardApp(getFlashcardAppFilePath(), firstPageSize, firstPageConsumer);
+    }
+
+    private Optional<ReadOnlyFlashcardApp> readFlashcardApp(Path filePath, int firstPageSize,
+            Consumer<List<Flashcard>> firstPageConsumer) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalValueException(MESSAGE_FILE_TOO_LARGE);
+            }
+            MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+            try {
+                buffer.put(mapping).flip();
+            } finally {
+                unmap(mapping);
+            }
+            return Optional.of(new MappedFlashcardFile(buffer).decode(firstPageSize, firstPageConsumer));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Unmaps {@code mapping}, which must not be used afterwards. If the running JVM does not allow it, the mapping
+     * is left to be unmapped once it is garbage collected.
+     */
+    private static void unmap(MappedByteBuffer mapping) {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field unsafeField = unsafeClass.getDeclaredField("theUnsafe");
+            unsafeField.setAccessible(true);
+            unsafeClass.getMethod("invokeCleaner", ByteBuffer.class).invoke(unsafeField.get(null), mapping);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            logger.fine("Mapped binary file left to be unmapped by the garbage collector: " + e);
+        }
+    }
+
+    @Override
+    public void saveFlashcardApp(ReadOnlyFlashcardApp flashcardApp) throws IOException {
+        binaryStorage.saveFlashcardApp(flashcardApp);
+    }
+
+    @Override
+    public void saveFlashcardApp(ReadOnlyFlashcardApp flashcardApp, Path filePath) throws IOException {
+        binaryStorage.saveFlashcardApp(flashcardApp, filePath);
+    }
+
+    @Override
+    public void flushFlashcardApp() throws IOException {
+        binaryStorage.flushFlashcardApp();
+    }
+
+    /**
+     * The content of a binary data file, whose header is read when it is created.
+     */
+    private static class MappedFlashcardFile {
+        private final ByteBuffer buffer;
+        private final List<LanguageType> languageTypes = new ArrayList<>();
+        private final int numberOfFlashcards;
+        private final int offsetTablePosition;
+        private final int firstRecordPosition;
+
+        MappedFlashcardFile(ByteBuffer buffer) throws IllegalValueException {
+            this.buffer = buffer;
+            try {
+                ByteBuffer header = buffer.duplicate();
+                if (header.getInt() != BinaryFlashcardAppStorage.MAGIC_NUMBER) {
+                    throw new IllegalValueException(BinaryFlashcardAppStorage.MESSAGE_NOT_BINARY_FLASHCARD_APP);
+                }
+                int version = header.getInt();
+                if (version != BinaryFlashcardAppStorage.FORMAT_VERSION) {
+                    throw new IllegalValueException(
+                            String.format(BinaryFlashcardAppStorage.MESSAGE_UNSUPPORTED_VERSION, version));
+                }
+
+                int numberOfLanguageTypes = readCount(header);
+                for (int i = 0; i < numberOfLanguageTypes; i++) {
+                    String languageType = readString(header);
+                    if (!LanguageType.isValidLanguageType(languageType)) {
+                        throw new IllegalValueException(LanguageType.MESSAGE_CONSTRAINTS);
+                    }
+                    languageTypes.add(LanguageType.of(languageType));
+                }
+
+                numberOfFlashcards = readCount(header);
+                offsetTablePosition = header.position();
+                if ((long) numberOfFlashcards * Long.BYTES > header.remaining()) {
+                    throw new IllegalValueException(BinaryFlashcardAppStorage.MESSAGE_CORRUPTED_FILE);
+                }
+                firstRecordPosition = offsetTablePosition + numberOfFlashcards * Long.BYTES;
+            } catch (BufferUnderflowException e) {
+                throw new IllegalValueException(BinaryFlashcardAppStorage.MESSAGE_CORRUPTED_FILE, e);
+            }
+        }
+
+        /**
+         * Decodes every flashcard in the file, passing the first {@code firstPageSize} flashcards to
+         * {@code firstPageConsumer} before the others are decoded.
+         *
+         * @throws IllegalValueException if a record is corrupted or the file has duplicate flashcards.
+         */
+        FlashcardApp decode(int firstPageSize, Consumer<List<Flashcard>> firstPageConsumer)
+                throws IllegalValueException {
+            List<Flashcard> flashcards = new ArrayList<>(numberOfFlashcards);
+            int pageSize = Math.min(Math.max(0, firstPageSize), numberOfFlashcards);
+            for (int i = 0; i < pageSize; i++) {
+                flashcards.add(decodeFlashcard(i));
+            }
+            if (pageSize > 0) {
+                firstPageConsumer.accept(List.copyOf(flashcards));
+            }
+
+            FlashcardApp flashcardApp = new FlashcardApp();
+            for (int i = 0; i < numberOfFlashcards; i++) {
+                Flashcard flashcard = i < pageSize ? flashcards.get(i) : decodeFlashcard(i);
+                if (flashcardApp.hasFlashcard(flashcard)) {
+                    throw new IllegalValueException(JsonSerializableFlashcardApp.MESSAGE_DUPLICATE_FLASHCARD);
+                }
+                flashcardApp.addFlashcard(flashcard);
+            }
+            return flashcardApp;
+        }
+
+        private Flashcard decodeFlashcard(int index) throws IllegalValueException {
+            try {
+                long recordOffset = buffer.getLong(offsetTablePosition + index * Long.BYTES);
+                if (recordOffset < 0 || recordOffset > buffer.limit() - firstRecordPosition) {
+                    throw new IllegalValueException(BinaryFlashcardAppStorage.MESSAGE_CORRUPTED_FILE);
+                }
+
+                ByteBuffer record = buffer.duplicate();
+                record.position(firstRecordPosition + (int) recordOffset);
+                long id = BinaryFlashcardAppStorage.readId(record.getLong());
+                int languageTypeIndex = record.getInt();
+                if (languageTypeIndex < 0 || languageTypeIndex >= languageTypes.size()) {
+                    throw new IllegalValueException(BinaryFlashcardAppStorage.MESSAGE_CORRUPTED_FILE);
+                }
+                return BinaryFlashcardAppStorage.withId(new Flashcard(languageTypes.get(languageTypeIndex),
+                        readPhrase(record), readPhrase(record)), id);
+            } catch (BufferUnderflowException e) {
+                throw new IllegalValueException(BinaryFlashcardAppStorage.MESSAGE_CORRUPTED_FILE, e);
+            }
+        }
+
+        private static Phrase readPhrase(ByteBuffer record) throws IllegalValueException {
+            String phrase = readString(record);
+            if (!Phrase.isValidPhrase(phrase)) {
+                throw new IllegalValueException(Phrase.MESSAGE_CONSTRAINTS);
+            }
+            return new Phrase(phrase);
+        }
+
+        private static int readCount(ByteBuffer buffer) throws IllegalValueException {
+            int count = buffer.getInt();
+            if (count < 0) {
+                throw new IllegalValueException(BinaryFlashcardAppStorage.MESSAGE_CORRUPTED_FILE);
+            }
+            return count;
+        }
+
+        private static String readString(ByteBuffer buffer) throws IllegalValueException {
+            int length = buffer.getInt();
+            if (length < 0 || length > buffer.remaining()) {
+                throw new IllegalValueException(BinaryFlashcardAppStorage.MESSAGE_CORRUPTED_FILE);
+            }
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
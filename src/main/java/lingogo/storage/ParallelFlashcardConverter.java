@@ -0,0 +1,123 @@
+package lingogo.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import lingogo.commons.exceptions.IllegalValueException;
+import lingogo.model.FlashcardApp;
+import lingogo.model.flashcard.Flashcard;
+
+/**
+ * Converts {@code JsonAdaptedFlashcard}s into a flashcard app, validating and converting them in batches on the
+ * common fork-join pool, so that loading a large data file uses every core.
+ * Each full batch is converted while the flashcards after it are still being added, and is added to the flashcard
+ * app as soon as it and the batches before it have been converted. A batch is released once it has been converted,
+ * and its flashcards once they have been added, so besides the flashcard app only the batches still being converted
+ * are held.
+ * Errors are reported as if the flashcards were converted in order: the first invalid flashcard is reported before
+ * any duplicates. A converter converts the flashcards of one flashcard app.
+ */
+class ParallelFlashcardConverter {
+    static final int BATCH_SIZE = 1024;
+
+    private final FlashcardApp flashcardApp = new FlashcardApp();
+    private final Deque<ConversionTask> conversions = new ArrayDeque<>();
+    private List<JsonAdaptedFlashcard> batch = new ArrayList<>();
+    /** The error of the first invalid flashcard, after which no more flashcards are added. */
+    private IllegalValueException failure;
+    private boolean hasDuplicates;
+
+    /**
+     * Adds {@code flashcard} to be converted, after the flashcards added before it.
+     */
+    void add(JsonAdaptedFlashcard flashcard) {
+        requireNonNull(flashcard);
+        batch.add(flashcard);
+        if (batch.size() == BATCH_SIZE) {
+            ConversionTask conversion = new ConversionTask(batch);
+            ForkJoinPool.commonPool().execute(conversion);
+            conversions.addLast(conversion);
+            batch = new ArrayList<>();
+            while (!conversions.isEmpty() && conversions.peekFirst().isDone()) {
+                addConverted(conversions.pollFirst());
+            }
+        }
+    }
+
+    /**
+     * Returns a flashcard app holding the converted flashcards, in the order they were added.
+     *
+     * @throws IllegalValueException if any flashcard violates the data constraints, or if there are duplicates.
+     */
+    FlashcardApp toFlashcardApp() throws IllegalValueException {
+        // the last batch is converted in this thread, while the batches before it finish
+        ConversionTask lastConversion = new ConversionTask(batch);
+        batch = null;
+        lastConversion.invoke();
+        conversions.addLast(lastConversion);
+
+        while (!conversions.isEmpty()) {
+            addConverted(conversions.pollFirst());
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        if (hasDuplicates) {
+            throw new IllegalValueException(JsonSerializableFlashcardApp.MESSAGE_DUPLICATE_FLASHCARD);
+        }
+        return flashcardApp;
+    }
+
+    /**
+     * Adds the flashcards converted by {@code conversion}, which is the earliest batch not yet added, to the
+     * flashcard app, or records why they cannot be added.
+     */
+    private void addConverted(ConversionTask conversion) {
+        List<Flashcard> converted = conversion.join();
+        if (failure != null) {
+            return;
+        }
+        if (conversion.failure != null) {
+            failure = conversion.failure;
+            return;
+        }
+        // the flashcards are still converted after a duplicate, as an invalid flashcard is reported instead
+        if (!hasDuplicates && flashcardApp.addFlashcards(converted) < converted.size()) {
+            hasDuplicates = true;
+        }
+    }
+
+    /**
+     * Converts a batch of flashcards in order, stopping at the first flashcard which violates the data constraints.
+     */
+    private static class ConversionTask extends RecursiveTask<List<Flashcard>> {
+        private List<JsonAdaptedFlashcard> batch;
+        /** The error of the first invalid flashcard in the batch, which is visible once the task is joined. */
+        private IllegalValueException failure;
+
+        ConversionTask(List<JsonAdaptedFlashcard> batch) {
+            this.batch = batch;
+        }
+
+        @Override
+        protected List<Flashcard> compute() {
+            List<Flashcard> converted = new ArrayList<>(batch.size());
+            try {
+                for (JsonAdaptedFlashcard flashcard : batch) {
+                    converted.add(flashcard.toModelType());
+                }
+            } catch (IllegalValueException e) {
+                failure = e;
+            } finally {
+                batch = null;
+            }
+            return converted;
+        }
+    }
+}
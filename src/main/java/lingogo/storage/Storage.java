@@ -29,4 +29,7 @@ public interface Storage extends FlashcardAppStorage, UserPrefsStorage {
     @Override
     void saveFlashcardApp(ReadOnlyFlashcardApp flashcardApp) throws IOException;
 
+    @Override
+    void flushFlashcardApp() throws IOException;
+
 }
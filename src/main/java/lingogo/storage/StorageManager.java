@@ -2,7 +2,9 @@ package lingogo.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import lingogo.commons.core.LogsCenter;
@@ -10,6 +12,7 @@ import lingogo.commons.exceptions.DataConversionException;
 import lingogo.model.ReadOnlyFlashcardApp;
 import lingogo.model.ReadOnlyUserPrefs;
 import lingogo.model.UserPrefs;
+import lingogo.model.flashcard.Flashcard;
 
 /**
  * Manages storage of FlashcardApp data in local storage.
@@ -65,6 +68,13 @@ public class StorageManager implements Storage {
         return flashcardAppStorage.readFlashcardApp(filePath);
     }
 
+    @Override
+    public Optional<ReadOnlyFlashcardApp> readFlashcardApp(int firstPageSize,
+            Consumer<List<Flashcard>> firstPageConsumer) throws DataConversionException, IOException {
+        logger.fine("Attempting to read data from file: " + flashcardAppStorage.getFlashcardAppFilePath());
+        return flashcardAppStorage.readFlashcardApp(firstPageSize, firstPageConsumer);
+    }
+
     @Override
     public void saveFlashcardApp(ReadOnlyFlashcardApp flashcardApp) throws IOException {
         saveFlashcardApp(flashcardApp, flashcardAppStorage.getFlashcardAppFilePath());
@@ -76,4 +86,16 @@ public class StorageManager implements Storage {
         flashcardAppStorage.saveFlashcardApp(flashcardApp, filePath);
     }
 
+    @Override
+    public void flushFlashcardApp() throws IOException {
+        logger.fine("Attempting to write pending saves to data file");
+        flashcardAppStorage.flushFlashcardApp();
+    }
+
+    @Override
+    public void closeFlashcardApp() throws IOException {
+        logger.fine("Attempting to write pending saves to data file and close it");
+        flashcardAppStorage.closeFlashcardApp();
+    }
+
 }
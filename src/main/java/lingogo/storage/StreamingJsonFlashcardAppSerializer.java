@@ -0,0 +1,191 @@
+package lingogo.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+
+import lingogo.commons.exceptions.IllegalValueException;
+import lingogo.model.FlashcardApp;
+import lingogo.model.ReadOnlyFlashcardApp;
+import lingogo.model.flashcard.Flashcard;
+
+/**
+ * Reads and writes the flashcard app json data file one flashcard at a time, without holding the whole document
+ * in memory. The flashcards read are converted into the model in batches by a {@link ParallelFlashcardConverter}
+ * while the rest of the file is parsed, so only the {@link JsonAdaptedFlashcard}s of the batches still being
+ * converted, and of the first page until it is passed on, are held besides the flashcard app.
+ * The data file has the same format as {@link JsonSerializableFlashcardApp}.
+ */
+class StreamingJsonFlashcardAppSerializer {
+
+    static final String FLASHCARDS_FIELD = "flashcards";
+    static final String ID_FIELD = "id";
+    static final String LANGUAGE_TYPE_FIELD = "languageType";
+    static final String ENGLISH_PHRASE_FIELD = "englishPhrase";
+    static final String FOREIGN_PHRASE_FIELD = "foreignPhrase";
+
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    /**
+     * Reads a flashcard app from {@code in}. Fields other than the flashcards and their phrases are ignored.
+     *
+     * @throws IOException if {@code in} is not a valid json document of the expected structure.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static FlashcardApp readFlashcardApp(InputStream in) throws IOException, IllegalValueException {
+        return readFlashcardApp(in, 0, firstPage -> { });
+    }
+
+    /**
+     * Reads a flashcard app from {@code in} like {@link #readFlashcardApp(InputStream)}, passing the first
+     * {@code firstPageSize} flashcards to {@code firstPageConsumer} once they have been read and converted.
+     * The first page is not passed if the file has fewer flashcards, or if any of them is invalid.
+     */
+    static FlashcardApp readFlashcardApp(InputStream in, int firstPageSize,
+            Consumer<List<Flashcard>> firstPageConsumer) throws IOException, IllegalValueException {
+        requireNonNull(in);
+        requireNonNull(firstPageConsumer);
+
+        ParallelFlashcardConverter converter = new ParallelFlashcardConverter();
+        List<JsonAdaptedFlashcard> firstPage = firstPageSize > 0 ? new ArrayList<>(firstPageSize) : null;
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            expectToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (!FLASHCARDS_FIELD.equals(fieldName) || valueToken == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                expectToken(parser, valueToken, JsonToken.START_ARRAY);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    JsonAdaptedFlashcard flashcard = readFlashcard(parser);
+                    converter.add(flashcard);
+                    if (firstPage != null) {
+                        firstPage.add(flashcard);
+                        if (firstPage.size() == firstPageSize) {
+                            passFirstPage(firstPage, firstPageConsumer);
+                            firstPage = null;
+                        }
+                    }
+                }
+            }
+            expectToken(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+        }
+        return converter.toFlashcardApp();
+    }
+
+    /**
+     * Converts the flashcards of {@code firstPage} and passes them to {@code firstPageConsumer}, unless any of them
+     * is invalid, in which case the error is left to be reported once the whole file has been converted.
+     */
+    private static void passFirstPage(List<JsonAdaptedFlashcard> firstPage,
+            Consumer<List<Flashcard>> firstPageConsumer) {
+        List<Flashcard> flashcards = new ArrayList<>(firstPage.size());
+        for (JsonAdaptedFlashcard flashcard : firstPage) {
+            try {
+                flashcards.add(flashcard.toModelType());
+            } catch (IllegalValueException e) {
+                return;
+            }
+        }
+        firstPageConsumer.accept(flashcards);
+    }
+
+    /**
+     * Reads the flashcard object at the current token of {@code parser}, leaving the parser at its end.
+     */
+    private static JsonAdaptedFlashcard readFlashcard(JsonParser parser) throws IOException {
+        expectToken(parser, parser.getCurrentToken(), JsonToken.START_OBJECT);
+
+        Long id = null;
+        String languageType = null;
+        String englishPhrase = null;
+        String foreignPhrase = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (valueToken.isStructStart()) {
+                parser.skipChildren();
+                continue;
+            }
+
+            String value = parser.getValueAsString();
+            switch (fieldName) {
+            case ID_FIELD:
+                id = valueToken == JsonToken.VALUE_NULL ? null : parser.getValueAsLong();
+                break;
+            case LANGUAGE_TYPE_FIELD:
+                languageType = value;
+                break;
+            case ENGLISH_PHRASE_FIELD:
+                englishPhrase = value;
+                break;
+            case FOREIGN_PHRASE_FIELD:
+                foreignPhrase = value;
+                break;
+            default:
+                // unknown fields are ignored, as with the other json files
+                break;
+            }
+        }
+        expectToken(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+        return new JsonAdaptedFlashcard(id, languageType, englishPhrase, foreignPhrase);
+    }
+
+    private static void expectToken(JsonParser parser, JsonToken actual, JsonToken expected)
+            throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+
+    /**
+     * Writes {@code flashcardApp} to {@code out} as json, without closing {@code out}.
+     *
+     * @param isCompact whether to leave out the whitespace used to make the output human-readable.
+     */
+    static void writeFlashcardApp(ReadOnlyFlashcardApp flashcardApp, OutputStream out, boolean isCompact)
+            throws IOException {
+        requireNonNull(flashcardApp);
+        requireNonNull(out);
+
+        try (JsonGenerator generator = jsonFactory.createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            if (!isCompact) {
+                generator.setPrettyPrinter(new DefaultPrettyPrinter());
+            }
+
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(FLASHCARDS_FIELD);
+            for (Flashcard flashcard : flashcardApp.getFlashcardList()) {
+                generator.writeStartObject();
+                if (flashcard.hasId()) {
+                    generator.writeNumberField(ID_FIELD, flashcard.getId());
+                } else {
+                    generator.writeNullField(ID_FIELD);
+                }
+                generator.writeStringField(LANGUAGE_TYPE_FIELD, flashcard.getLanguageType().value);
+                generator.writeStringField(ENGLISH_PHRASE_FIELD, flashcard.getEnglishPhrase().value);
+                generator.writeStringField(FOREIGN_PHRASE_FIELD, flashcard.getForeignPhrase().value);
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package lingogo.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import lingogo.commons.core.LogsCenter;
+import lingogo.commons.exceptions.DataConversionException;
+import lingogo.model.ReadOnlyFlashcardApp;
+import lingogo.model.flashcard.Flashcard;
+
+/**
+ * A {@code FlashcardAppStorage} which writes saves to another {@code FlashcardAppStorage} on a background thread.
+ * Saves accepted within {@code saveDelayInMillis} of each other are coalesced, so that only the latest
+ * flashcard app is written. A failed background write is retried, waiting twice as long after each failure up to
+ * {@code MAX_RETRY_DELAY_IN_MILLIS}, and is reported as a failed background save by the next call to
+ * {@link #saveFlashcardApp(ReadOnlyFlashcardApp, Path)} or {@link #flushFlashcardApp()}.
+ * The background thread is stopped by {@link #closeFlashcardApp()}.
+ */
+public class WriteBehindFlashcardAppStorage implements FlashcardAppStorage {
+
+    public static final String MESSAGE_BACKGROUND_SAVE_FAILED = "Background save to data file %s failed";
+
+    static final long MIN_RETRY_DELAY_IN_MILLIS = 100;
+    static final long MAX_RETRY_DELAY_IN_MILLIS = 60_000;
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindFlashcardAppStorage.class);
+
+    private final FlashcardAppStorage flashcardAppStorage;
+    private final long saveDelayInMillis;
+    private final ScheduledExecutorService writer;
+
+    // The fields below are guarded by "this"
+    private final Map<Path, ReadOnlyFlashcardApp> pendingSaves = new LinkedHashMap<>();
+    private ScheduledFuture<?> scheduledWrite;
+    private IOException lastWriteError;
+    private long retryDelayInMillis;
+
+    /**
+     * Creates a {@code WriteBehindFlashcardAppStorage} which writes to {@code flashcardAppStorage} at most
+     * {@code saveDelayInMillis} milliseconds after a save is accepted.
+     */
+    public WriteBehindFlashcardAppStorage(FlashcardAppStorage flashcardAppStorage, long saveDelayInMillis) {
+        requireNonNull(flashcardAppStorage);
+        this.flashcardAppStorage = flashcardAppStorage;
+        this.saveDelayInMillis = Math.max(0, saveDelayInMillis);
+        this.retryDelayInMillis = getInitialRetryDelayInMillis();
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "flashcard-app-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Path getFlashcardAppFilePath() {
+        return flashcardAppStorage.getFlashcardAppFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyFlashcardApp> readFlashcardApp() throws DataConversionException, IOException {
+        return readFlashcardApp(getFlashcardAppFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyFlashcardApp> readFlashcardApp(Path filePath) throws DataConversionException, IOException {
+        flushFlashcardApp();
+        return flashcardAppStorage.readFlashcardApp(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyFlashcardApp> readFlashcardApp(int firstPageSize,
+            Consumer<List<Flashcard>> firstPageConsumer) throws DataConversionException, IOException {
+        flushFlashcardApp();
+        return flashcardAppStorage.readFlashcardApp(firstPageSize, firstPageConsumer);
+    }
+
+    @Override
+    public void saveFlashcardApp(ReadOnlyFlashcardApp flashcardApp) throws IOException {
+        saveFlashcardApp(flashcardApp, getFlashcardAppFilePath());
+    }
+
+    /**
+     * Accepts a save of a snapshot of {@code flashcardApp} to {@code filePath}, to be written in the background.
+     * The save is accepted even if an earlier background write failed.
+     *
+     * @throws IOException if an earlier background write failed and has not been retried successfully.
+     */
+    @Override
+    public void saveFlashcardApp(ReadOnlyFlashcardApp flashcardApp, Path filePath) throws IOException {
+        requireNonNull(flashcardApp);
+        requireNonNull(filePath);
+
+        // Flashcards are immutable, so copying the list is enough to isolate the snapshot from later commands
+        ReadOnlyFlashcardApp snapshot = new FlashcardAppSnapshot(flashcardApp);
+        synchronized (this) {
+            pendingSaves.put(filePath, snapshot);
+            if (scheduledWrite == null) {
+                scheduledWrite = writer.schedule(this::writePendingSaves, saveDelayInMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        throwLastWriteError();
+    }
+
+    /**
+     * Blocks until all accepted saves have been written, then flushes the underlying storage.
+     *
+     * @throws IOException if any of the writes failed.
+     */
+    @Override
+    public void flushFlashcardApp() throws IOException {
+        try {
+            writer.submit(this::writePendingSaves).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while writing pending saves", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to write pending saves", e.getCause());
+        }
+        throwLastWriteError();
+        flashcardAppStorage.flushFlashcardApp();
+    }
+
+    /**
+     * Writes all accepted saves, then stops the background thread, dropping any saves which could not be written.
+     *
+     * @throws IOException if any of the writes failed.
+     */
+    @Override
+    public void closeFlashcardApp() throws IOException {
+        try {
+            flushFlashcardApp();
+        } finally {
+            // cancels any retry, as the pending saves have just been written or have failed once more
+            writer.shutdownNow();
+        }
+        flashcardAppStorage.closeFlashcardApp();
+    }
+
+    /**
+     * Writes all pending saves. Only ever runs on the {@code writer} thread.
+     */
+    private void writePendingSaves() {
+        Map<Path, ReadOnlyFlashcardApp> savesToWrite;
+        synchronized (this) {
+            savesToWrite = new LinkedHashMap<>(pendingSaves);
+            pendingSaves.clear();
+            scheduledWrite = null;
+        }
+        if (savesToWrite.isEmpty()) {
+            return;
+        }
+
+        IOException writeError = null;
+        for (Map.Entry<Path, ReadOnlyFlashcardApp> save : savesToWrite.entrySet()) {
+            try {
+                flashcardAppStorage.saveFlashcardApp(save.getValue(), save.getKey());
+            } catch (IOException e) {
+                logger.warning("Failed to write data file " + save.getKey() + ": " + e);
+                writeError = new IOException(String.format(MESSAGE_BACKGROUND_SAVE_FAILED, save.getKey()), e);
+                synchronized (this) {
+                    // keep the failed save for the next write, unless a newer save has been accepted since
+                    pendingSaves.putIfAbsent(save.getKey(), save.getValue());
+                }
+            }
+        }
+
+        synchronized (this) {
+            // a successful retry supersedes the error from an earlier write
+            lastWriteError = writeError;
+            if (writeError == null) {
+                retryDelayInMillis = getInitialRetryDelayInMillis();
+                return;
+            }
+            if (scheduledWrite == null && !writer.isShutdown()) {
+                logger.info("Retrying failed save in " + retryDelayInMillis + " ms");
+                scheduledWrite = writer.schedule(this::writePendingSaves, retryDelayInMillis, TimeUnit.MILLISECONDS);
+            }
+            retryDelayInMillis = Math.min(retryDelayInMillis * 2, MAX_RETRY_DELAY_IN_MILLIS);
+        }
+    }
+
+    private long getInitialRetryDelayInMillis() {
+        return Math.max(saveDelayInMillis, MIN_RETRY_DELAY_IN_MILLIS);
+    }
+
+    private synchronized void throwLastWriteError() throws IOException {
+        if (lastWriteError != null) {
+            IOException e = lastWriteError;
+            lastWriteError = null;
+            throw e;
+        }
+    }
+
+    /**
+     * An immutable copy of the flashcards in a {@code ReadOnlyFlashcardApp}.
+     */
+    private static class FlashcardAppSnapshot implements ReadOnlyFlashcardApp {
+        private final ObservableList<Flashcard> flashcards;
+
+        FlashcardAppSnapshot(ReadOnlyFlashcardApp source) {
+            flashcards = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(source.getFlashcardList()));
+        }
+
+        @Override
+        public ObservableList<Flashcard> getFlashcardList() {
+            return flashcards;
+        }
+    }
+}
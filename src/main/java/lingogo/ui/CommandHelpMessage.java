@@ -19,6 +19,7 @@ import lingogo.logic.commands.ListCommand;
 import lingogo.logic.commands.NextSlideCommand;
 import lingogo.logic.commands.PreviousSlideCommand;
 import lingogo.logic.commands.SlideshowCommand;
+import lingogo.logic.commands.StatsCommand;
 import lingogo.logic.commands.StopSlideshowCommand;
 
 public class CommandHelpMessage extends UiPart<TitledPane> {
@@ -90,6 +91,10 @@ public class CommandHelpMessage extends UiPart<TitledPane> {
             this.setDisplayText(ListCommand.COMMAND_WORD, ListCommand.COMMAND_DESCRIPTION,
                     ListCommand.COMMAND_PARAMETERS, ListCommand.COMMAND_EXAMPLES);
             break;
+        case STATS:
+            this.setDisplayText(StatsCommand.COMMAND_WORD, StatsCommand.COMMAND_DESCRIPTION,
+                    StatsCommand.COMMAND_PARAMETERS, StatsCommand.COMMAND_EXAMPLES);
+            break;
 
         // Slideshow commands
         case ANSWER:
@@ -9,6 +9,7 @@ import javafx.scene.image.Image;
 import javafx.stage.Stage;
 import lingogo.MainApp;
 import lingogo.commons.core.LogsCenter;
+import lingogo.commons.core.StartupProfiler;
 import lingogo.commons.util.StringUtil;
 import lingogo.logic.Logic;
 
@@ -41,9 +42,14 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
-            mainWindow.show(); //This should be called before creating other UI parts
-            mainWindow.fillInnerParts();
+            StartupProfiler startupProfiler = StartupProfiler.getInstance();
+            mainWindow = startupProfiler.profile("Creating main window", () -> new MainWindow(primaryStage, logic));
+            try (StartupProfiler.Phase phase = startupProfiler.startPhase("Showing main window")) {
+                mainWindow.show(); //This should be called before creating other UI parts
+            }
+            try (StartupProfiler.Phase phase = startupProfiler.startPhase("Filling inner parts")) {
+                mainWindow.fillInnerParts();
+            }
 
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
@@ -7,6 +7,7 @@ import java.net.URL;
 
 import javafx.fxml.FXMLLoader;
 import lingogo.MainApp;
+import lingogo.commons.core.StartupProfiler;
 
 /**
  * Represents a distinct part of the UI. e.g. Windows, dialogs, panels, status bars, etc.
@@ -68,7 +69,8 @@ public abstract class UiPart<T> {
         fxmlLoader.setLocation(location);
         fxmlLoader.setController(this);
         fxmlLoader.setRoot(root);
-        try {
+        String fxmlFileName = location.getPath().substring(location.getPath().lastIndexOf('/') + 1);
+        try (StartupProfiler.Phase phase = StartupProfiler.getInstance().startPhase("Loading " + fxmlFileName)) {
             fxmlLoader.load();
         } catch (IOException e) {
             throw new AssertionError(e);
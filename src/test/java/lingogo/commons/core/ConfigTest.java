@@ -11,7 +11,14 @@ public class ConfigTest {
     @Test
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Save delay (ms) : 500\n"
+                + "Number of backups : 0\n"
+                + "Compact data file : false\n"
+                + "Data file format : JSON\n"
+                + "Memory-mapped data file : false\n"
+                + "Journal enabled : false\n"
+                + "Lazy loading enabled : false";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
@@ -0,0 +1,91 @@
+package lingogo.commons.core;
+
+import static lingogo.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import lingogo.commons.core.StartupProfiler.PhaseTiming;
+
+public class StartupProfilerTest {
+    @TempDir
+    public Path testFolder;
+
+    private final StartupProfiler startupProfiler = new StartupProfiler();
+
+    @Test
+    public void startPhase_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> startupProfiler.startPhase(null));
+    }
+
+    @Test
+    public void startPhase_nestedPhases_recordedWithDepths() {
+        try (StartupProfiler.Phase outer = startupProfiler.startPhase("outer")) {
+            startupProfiler.profile("inner", () -> new byte[1024]);
+        }
+        startupProfiler.profile("next", () -> null);
+
+        List<PhaseTiming> phaseTimings = startupProfiler.getPhaseTimings();
+        assertEquals(3, phaseTimings.size());
+        assertPhaseTiming("inner", 1, phaseTimings.get(0));
+        assertPhaseTiming("outer", 0, phaseTimings.get(1));
+        assertPhaseTiming("next", 0, phaseTimings.get(2));
+        assertTrue(phaseTimings.get(1).getWallTimeNanos() >= phaseTimings.get(0).getWallTimeNanos());
+    }
+
+    @Test
+    public void close_closedTwice_recordedOnce() {
+        StartupProfiler.Phase phase = startupProfiler.startPhase("phase");
+        phase.close();
+        phase.close();
+        assertEquals(1, startupProfiler.getPhaseTimings().size());
+    }
+
+    @Test
+    public void finish_phasesAfterFinishing_notRecorded() {
+        startupProfiler.profile("before", () -> null);
+        startupProfiler.finish(null);
+        assertTrue(startupProfiler.isFinished());
+
+        startupProfiler.profile("after", () -> null);
+        assertEquals(1, startupProfiler.getPhaseTimings().size());
+        assertEquals("before", startupProfiler.getPhaseTimings().get(0).getName());
+    }
+
+    @Test
+    public void getSummary_nestedPhases_listedInStartOrder() {
+        try (StartupProfiler.Phase outer = startupProfiler.startPhase("outer")) {
+            startupProfiler.profile("inner", () -> null);
+        }
+
+        String summary = startupProfiler.getSummary();
+        assertTrue(summary.indexOf("\n  outer") < summary.indexOf("\n    inner"));
+    }
+
+    @Test
+    public void finish_jsonFilePath_phasesSaved() throws Exception {
+        Path jsonFilePath = testFolder.resolve("startupProfile.json");
+        startupProfiler.profile("Reading config", () -> null);
+        startupProfiler.finish(jsonFilePath);
+
+        String json = Files.readString(jsonFilePath);
+        assertTrue(json.contains("\"startupTimeMillis\""));
+        assertTrue(json.contains("\"name\" : \"Reading config\""));
+        assertTrue(json.contains("\"wallTimeNanos\""));
+        assertFalse(json.contains("startNanos"));
+    }
+
+    private static void assertPhaseTiming(String expectedName, int expectedDepth, PhaseTiming phaseTiming) {
+        assertEquals(expectedName, phaseTiming.getName());
+        assertEquals(expectedDepth, phaseTiming.getDepth());
+        assertEquals(Thread.currentThread().getName(), phaseTiming.getThreadName());
+        assertTrue(phaseTiming.getWallTimeNanos() >= 0);
+    }
+}
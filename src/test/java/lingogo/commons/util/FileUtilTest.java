@@ -1,13 +1,21 @@
 package lingogo.commons.util;
 
 import static lingogo.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -27,4 +35,43 @@ public class FileUtilTest {
         assertFalse(FileUtil.isValidCsvFileName("supersupersupersupersupersuperlong.csv"));
     }
 
+    @Test
+    public void writeToFileAtomically_missingParentDirectories_createsFile() throws Exception {
+        Path file = testFolder.resolve("nested").resolve("file.txt");
+        FileUtil.writeToFileAtomically(file, "content");
+        assertEquals("content", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeToFileAtomically_existingFile_replacesContentWithoutLeavingTempFile() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old content that is longer");
+        FileUtil.writeToFileAtomically(file, "new content");
+        assertEquals("new content", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(testFolder.resolve("file.txt.tmp")));
+    }
+
+    @Test
+    public void backUpFile_moreVersionsThanMaxBackups_keepsMostRecentBackups() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+
+        // missing file -> nothing to back up
+        FileUtil.backUpFile(file, 2);
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(file, 1)));
+
+        for (int version = 1; version <= 3; version++) {
+            FileUtil.writeToFile(file, "version " + version);
+            FileUtil.backUpFile(file, 2);
+        }
+        assertEquals("version 3", FileUtil.readFromFile(FileUtil.getBackupFilePath(file, 1)));
+        assertEquals("version 2", FileUtil.readFromFile(FileUtil.getBackupFilePath(file, 2)));
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(file, 3)));
+
+        // no backups -> nothing is copied
+        Path otherFile = testFolder.resolve("other.txt");
+        FileUtil.writeToFile(otherFile, "content");
+        FileUtil.backUpFile(otherFile, 0);
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(otherFile, 1)));
+    }
+
 }
@@ -1,10 +1,14 @@
 package lingogo.commons.util;
 
 import static lingogo.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.FileNotFoundException;
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
@@ -123,6 +127,45 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldCase(null));
+    }
+
+    @Test
+    public void foldCase_validInputs_consistentWithEqualsIgnoreCase() {
+        // Strings that are equal ignoring case
+        assertEquals(StringUtil.foldCase("Good Morning"), StringUtil.foldCase("gOOD mORNING"));
+        assertEquals(StringUtil.foldCase("Straße"), StringUtil.foldCase("STRAßE"));
+
+        // Strings without case are unchanged
+        assertEquals("早安", StringUtil.foldCase("早安"));
+        assertEquals("", StringUtil.foldCase(""));
+
+        // Strings that are not equal ignoring case
+        assertNotEquals(StringUtil.foldCase("Good Morning"), StringUtil.foldCase("Good  Morning"));
+    }
+
+    //---------------- Tests for splitWords --------------------------------------
+
+    @Test
+    public void splitWords_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.splitWords(null));
+    }
+
+    @Test
+    public void splitWords_validInputs_sameAsRegexSplitWithoutEmptyWords() {
+        assertEquals(Collections.emptyList(), StringUtil.splitWords(""));
+        assertEquals(Collections.emptyList(), StringUtil.splitWords(" \t\n"));
+        assertEquals(Arrays.asList("Good", "morning"), StringUtil.splitWords("Good morning"));
+        assertEquals(Arrays.asList("Good", "morning"), StringUtil.splitWords("  Good\t\u000B\f\r\nmorning  "));
+
+        // non-breaking spaces are not matched by the regex \\s, so they do not separate words
+        assertEquals(Arrays.asList("a\u00A0b"), StringUtil.splitWords("a\u00A0b"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -0,0 +1,151 @@
+package lingogo.logic;
+
+import static lingogo.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import lingogo.model.FlashcardApp;
+import lingogo.model.Model;
+import lingogo.model.ModelManager;
+import lingogo.model.UserPrefs;
+import lingogo.model.util.SampleDataUtil;
+import lingogo.storage.JsonFlashcardAppStorage;
+import lingogo.testutil.FlashcardBuilder;
+
+public class FlashcardAppHydratorTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonFlashcardAppStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+    /** The tasks given to the model executor, which are run only when a test runs them. */
+    private List<Runnable> modelTasks;
+    private FlashcardAppHydrator hydrator;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(new FlashcardApp(), new UserPrefs());
+        modelTasks = new ArrayList<>();
+        hydrator = new FlashcardAppHydrator(model, task -> {
+            synchronized (modelTasks) {
+                modelTasks.add(task);
+            }
+        });
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new FlashcardAppHydrator(null, Runnable::run));
+        assertThrows(NullPointerException.class, () -> new FlashcardAppHydrator(model, null));
+    }
+
+    @Test
+    public void load_largeFlashcardApp_addedInPages() throws Exception {
+        FlashcardApp flashcardApp = getFlashcardApp(FlashcardAppHydrator.PAGE_SIZE * 2 + 1);
+        JsonFlashcardAppStorage storage = saveFlashcardApp(flashcardApp);
+
+        hydrator.load(storage);
+        modelTasks.get(0).run();
+        assertEquals(flashcardApp.getFlashcardList().subList(0, FlashcardAppHydrator.PAGE_SIZE),
+                model.getFlashcardApp().getFlashcardList());
+        assertFalse(hydrator.isComplete());
+
+        modelTasks.forEach(Runnable::run);
+        assertTrue(hydrator.isComplete());
+        assertEquals(flashcardApp, model.getFlashcardApp());
+        assertFalse(model.hasUnsavedChanges());
+    }
+
+    @Test
+    public void tryCompletion_partlyRead_addsPagesReadWithoutWaiting() throws Exception {
+        FlashcardApp flashcardApp = getFlashcardApp(FlashcardAppHydrator.PAGE_SIZE + 1);
+        JsonFlashcardAppStorage storage = saveFlashcardApp(flashcardApp);
+
+        // nothing has been read yet
+        assertFalse(hydrator.tryCompletion());
+        assertEquals(0, model.getFlashcardApp().getFlashcardList().size());
+
+        hydrator.load(storage);
+        assertTrue(hydrator.tryCompletion());
+        assertEquals(flashcardApp, model.getFlashcardApp());
+        assertFalse(model.hasUnsavedChanges());
+    }
+
+    @Test
+    public void awaitCompletion_interrupted_throwsInterruptedException() {
+        Thread.currentThread().interrupt();
+        assertThrows(InterruptedException.class, hydrator::awaitCompletion);
+        assertFalse(hydrator.isComplete());
+    }
+
+    @Test
+    public void awaitCompletion_loadingInBackground_wholeFlashcardAppAdded() throws Exception {
+        FlashcardApp flashcardApp = getFlashcardApp(FlashcardAppHydrator.PAGE_SIZE * 3);
+        JsonFlashcardAppStorage storage = saveFlashcardApp(flashcardApp);
+
+        hydrator.start(storage);
+        hydrator.awaitCompletion();
+        assertTrue(hydrator.isComplete());
+        assertEquals(flashcardApp, model.getFlashcardApp());
+        assertFalse(model.hasUnsavedChanges());
+
+        // the tasks queued while loading have nothing left to add
+        synchronized (modelTasks) {
+            modelTasks.forEach(Runnable::run);
+        }
+        assertEquals(flashcardApp, model.getFlashcardApp());
+    }
+
+    @Test
+    public void awaitCompletion_missingFile_sampleFlashcardApp() throws Exception {
+        hydrator.load(new JsonFlashcardAppStorage(testFolder.resolve("NonExistentFile.json")));
+        hydrator.awaitCompletion();
+        assertEquals(new FlashcardApp(SampleDataUtil.getSampleFlashcardApp()), model.getFlashcardApp());
+    }
+
+    @Test
+    public void awaitCompletion_invalidFile_emptyFlashcardApp() throws Exception {
+        hydrator.load(new JsonFlashcardAppStorage(TEST_DATA_FOLDER.resolve("notJsonFormatFlashcardApp.json")));
+        hydrator.awaitCompletion();
+        assertEquals(new FlashcardApp(), model.getFlashcardApp());
+    }
+
+    @Test
+    public void awaitCompletion_unsavedChanges_changesKept() throws Exception {
+        FlashcardApp flashcardApp = getFlashcardApp(FlashcardAppHydrator.PAGE_SIZE + 1);
+        JsonFlashcardAppStorage storage = saveFlashcardApp(flashcardApp);
+
+        hydrator.load(storage);
+        modelTasks.get(0).run();
+        model.deleteFlashcard(flashcardApp.getFlashcardList().get(0));
+        hydrator.awaitCompletion();
+        assertEquals(flashcardApp.getFlashcardList().size() - 1, model.getFlashcardApp().getFlashcardList().size());
+        assertTrue(model.hasUnsavedChanges());
+    }
+
+    private JsonFlashcardAppStorage saveFlashcardApp(FlashcardApp flashcardApp) throws Exception {
+        JsonFlashcardAppStorage storage = new JsonFlashcardAppStorage(testFolder.resolve("flashcardApp.json"));
+        storage.saveFlashcardApp(flashcardApp);
+        return storage;
+    }
+
+    private static FlashcardApp getFlashcardApp(int size) {
+        FlashcardApp flashcardApp = new FlashcardApp();
+        for (int i = 0; i < size; i++) {
+            flashcardApp.addFlashcard(new FlashcardBuilder().withEnglishPhrase("Hello " + i)
+                    .withForeignPhrase("你好 " + i).build());
+        }
+        return flashcardApp;
+    }
+}
@@ -1,25 +1,36 @@
 package lingogo.logic;
 
+import static lingogo.commons.core.Messages.MESSAGE_FLASHCARD_APP_LOADING;
 import static lingogo.commons.core.Messages.MESSAGE_INVALID_FLASHCARD_DISPLAYED_INDEX;
 import static lingogo.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static lingogo.logic.commands.CommandTestUtil.CHINESE_PHRASE_DESC_HELLO;
 import static lingogo.logic.commands.CommandTestUtil.ENGLISH_PHRASE_DESC_HELLO;
 import static lingogo.logic.commands.CommandTestUtil.LANGUAGE_TYPE_DESC_CHINESE;
 import static lingogo.testutil.Assert.assertThrows;
+import static lingogo.testutil.TestUtil.recordEvents;
 import static lingogo.testutil.TypicalFlashcards.HELLO_CHINESE_FLASHCARD;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import jdk.jfr.consumer.RecordedEvent;
 import lingogo.logic.commands.AddCommand;
+import lingogo.logic.commands.CommandEnum;
 import lingogo.logic.commands.CommandResult;
 import lingogo.logic.commands.ListCommand;
+import lingogo.logic.commands.StatsCommand;
 import lingogo.logic.commands.exceptions.CommandException;
+import lingogo.logic.metrics.CommandMetrics;
+import lingogo.logic.metrics.CommandMetrics.Measure;
 import lingogo.logic.parser.exceptions.ParseException;
 import lingogo.model.Model;
 import lingogo.model.ModelManager;
@@ -67,6 +78,57 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_readOnlyCommand_flashcardAppNotSaved() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(temporaryFolder.resolve("flashcardApp.json")));
+
+        logic.execute(AddCommand.COMMAND_WORD + LANGUAGE_TYPE_DESC_CHINESE
+                + ENGLISH_PHRASE_DESC_HELLO + CHINESE_PHRASE_DESC_HELLO);
+        assertTrue(Files.exists(temporaryFolder.resolve("flashcardApp.json")));
+        assertFalse(model.hasUnsavedChanges());
+    }
+
+    @Test
+    public void execute_commands_metricsRecorded() throws Exception {
+        LogicManager logicManager = (LogicManager) logic;
+        CommandMetrics commandMetrics = logicManager.getCommandMetrics();
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, commandMetrics.getCount(CommandEnum.LIST, Measure.PARSE_TIME));
+        assertEquals(1, commandMetrics.getCount(CommandEnum.LIST, Measure.EXECUTE_TIME));
+        assertEquals(0, commandMetrics.getCount(CommandEnum.LIST, Measure.SAVE_TIME));
+
+        logic.execute(AddCommand.COMMAND_WORD + LANGUAGE_TYPE_DESC_CHINESE
+                + ENGLISH_PHRASE_DESC_HELLO + CHINESE_PHRASE_DESC_HELLO);
+        assertEquals(1, commandMetrics.getCount(CommandEnum.ADD, Measure.SAVE_TIME));
+
+        // commands which fail to parse are measured up to the failure
+        assertThrows(ParseException.class, () -> logic.execute(AddCommand.COMMAND_WORD));
+        assertEquals(2, commandMetrics.getCount(CommandEnum.ADD, Measure.PARSE_TIME));
+        assertEquals(1, commandMetrics.getCount(CommandEnum.ADD, Measure.EXECUTE_TIME));
+
+        logic.execute(StatsCommand.COMMAND_WORD);
+        assertTrue(commandMetrics.getSummary().contains("add (2 runs)"));
+    }
+
+    @Test
+    public void execute_recordingEvents_eventPerCommand() throws Exception {
+        List<RecordedEvent> events = recordEvents(CommandExecutionEvent.NAME, () -> {
+            logic.execute(AddCommand.COMMAND_WORD + LANGUAGE_TYPE_DESC_CHINESE
+                    + ENGLISH_PHRASE_DESC_HELLO + CHINESE_PHRASE_DESC_HELLO);
+            assertThrows(CommandException.class, () -> logic.execute("delete 9"));
+        });
+
+        assertEquals(2, events.size());
+        assertEquals(AddCommand.COMMAND_WORD, events.get(0).getString("commandWord"));
+        assertEquals(1, events.get(0).getInt("deckSize"));
+        assertEquals(1, events.get(0).getInt("filteredSize"));
+        assertTrue(events.get(0).getBoolean("isSuccessful"));
+        assertEquals("delete", events.get(1).getString("commandWord"));
+        assertFalse(events.get(1).getBoolean("isSuccessful"));
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         // Setup LogicManager with JsonFlashcardAppIoExceptionThrowingStub
@@ -87,6 +149,25 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_flashcardAppLoading_commandsNeedingWholeFlashcardAppRefused() throws Exception {
+        Path flashcardAppFilePath = temporaryFolder.resolve("loadingFlashcardApp.json");
+        StorageManager storage = new StorageManager(new JsonFlashcardAppStorage(flashcardAppFilePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        // the hydrator is never started, so the flashcard app is never loaded
+        FlashcardAppHydrator hydrator = new FlashcardAppHydrator(model, Runnable::run);
+        logic = new LogicManager(model, storage, hydrator);
+
+        String addCommand = AddCommand.COMMAND_WORD + LANGUAGE_TYPE_DESC_CHINESE + ENGLISH_PHRASE_DESC_HELLO
+                + CHINESE_PHRASE_DESC_HELLO;
+        assertCommandException(addCommand, MESSAGE_FLASHCARD_APP_LOADING);
+        assertCommandException(ListCommand.COMMAND_WORD, MESSAGE_FLASHCARD_APP_LOADING);
+        assertFalse(Files.exists(flashcardAppFilePath));
+
+        // commands which do not need the whole flashcard app are not refused
+        logic.execute(StatsCommand.COMMAND_WORD);
+    }
+
     @Test
     public void getFilteredFlashcardList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredFlashcardList().remove(0));
@@ -9,6 +9,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -18,11 +21,13 @@ import lingogo.commons.core.GuiSettings;
 import lingogo.commons.core.Messages;
 import lingogo.logic.commands.exceptions.CommandException;
 import lingogo.model.FlashcardApp;
+import lingogo.model.FlashcardFilterPlan;
 import lingogo.model.Model;
 import lingogo.model.ReadOnlyFlashcardApp;
 import lingogo.model.ReadOnlySlideshowApp;
 import lingogo.model.ReadOnlyUserPrefs;
 import lingogo.model.flashcard.Flashcard;
+import lingogo.model.flashcard.LanguageType;
 import lingogo.testutil.FlashcardBuilder;
 
 public class AddCommandTest {
@@ -126,6 +131,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public int addFlashcards(Collection<Flashcard> flashcards) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setFlashcardApp(ReadOnlyFlashcardApp newData) {
             throw new AssertionError("This method should not be called.");
@@ -136,6 +146,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Set<Flashcard> getFlashcardsOfLanguageType(LanguageType languageType) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasUnsavedChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void markFlashcardAppSaved() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasFlashcard(Flashcard flashcard) {
             throw new AssertionError("This method should not be called.");
@@ -161,6 +186,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void narrowFilteredFlashcardList(FlashcardFilterPlan plan) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void selectFilteredFlashcards(BitSet displayedPositions) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void startSlideshow() {
             throw new AssertionError("This method should not be called.");
@@ -169,4 +169,12 @@ public class CommandTestUtil {
         assertEquals(1, model.getFilteredFlashcardList().size());
     }
 
+    /**
+     * Updates {@code model}'s filtered list to show only {@code flashcards}, in the order of the flashcard app.
+     */
+    public static void showFlashcards(Model model, Flashcard... flashcards) {
+        List<Flashcard> flashcardsToShow = Arrays.asList(flashcards);
+        model.updateFilteredFlashcardList(flashcardsToShow::contains);
+    }
+
 }
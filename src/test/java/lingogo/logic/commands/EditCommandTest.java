@@ -8,6 +8,7 @@ import static lingogo.logic.commands.CommandTestUtil.VALID_ENGLISH_PHRASE_HELLO;
 import static lingogo.logic.commands.CommandTestUtil.assertCommandFailure;
 import static lingogo.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static lingogo.logic.commands.CommandTestUtil.showFlashcardAtIndex;
+import static lingogo.logic.commands.CommandTestUtil.showFlashcards;
 import static lingogo.testutil.TypicalFlashcards.AFTERNOON_CHINESE_FLASHCARD;
 import static lingogo.testutil.TypicalFlashcards.BYE_CHINESE_FLASHCARD;
 import static lingogo.testutil.TypicalFlashcards.NIGHT_CHINESE_FLASHCARD;
@@ -17,7 +18,6 @@ import static lingogo.testutil.TypicalIndexes.INDEX_SECOND_FLASHCARD;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.junit.jupiter.api.Assertions.fail;
 
 import java.util.Arrays;
 import java.util.List;
@@ -32,7 +32,6 @@ import lingogo.model.Model;
 import lingogo.model.ModelManager;
 import lingogo.model.UserPrefs;
 import lingogo.model.flashcard.Flashcard;
-import lingogo.model.flashcard.FlashcardInGivenFlashcardListPredicate;
 import lingogo.testutil.EditFlashcardDescriptorBuilder;
 import lingogo.testutil.FilterBuilderBuilder;
 import lingogo.testutil.FlashcardBuilder;
@@ -182,11 +181,7 @@ public class EditCommandTest {
         FilterCommand filterCommand = new FilterCommand(filterBuilder);
 
         Model expectedModel = new ModelManager(getTypicalFlashcardApp(), new UserPrefs());
-        try {
-            expectedModel.updateFilteredFlashcardList(filterBuilder.buildFilter(model));
-        } catch (Exception e) {
-            fail("Exception not expected");
-        }
+        showFlashcards(expectedModel, AFTERNOON_CHINESE_FLASHCARD, NIGHT_CHINESE_FLASHCARD, BYE_CHINESE_FLASHCARD);
         assertCommandSuccess(filterCommand, model, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(AFTERNOON_CHINESE_FLASHCARD, NIGHT_CHINESE_FLASHCARD, BYE_CHINESE_FLASHCARD),
             model.getFilteredFlashcardList());
@@ -202,7 +197,7 @@ public class EditCommandTest {
 
         List<Flashcard> updatedList = Arrays.asList(AFTERNOON_CHINESE_FLASHCARD, editedFlashcard,
                 BYE_CHINESE_FLASHCARD);
-        expectedModel.updateFilteredFlashcardList(new FlashcardInGivenFlashcardListPredicate(updatedList));
+        showFlashcards(expectedModel, AFTERNOON_CHINESE_FLASHCARD, editedFlashcard, BYE_CHINESE_FLASHCARD);
 
         assertCommandSuccess(editCommand, model, secondExpectedMessage, expectedModel);
         assertEquals(updatedList,
@@ -6,6 +6,7 @@ import static lingogo.logic.commands.CommandTestUtil.VALID_LANGUAGE_TYPE_CHINESE
 import static lingogo.logic.commands.CommandTestUtil.VALID_LANGUAGE_TYPE_TAMIL;
 import static lingogo.logic.commands.CommandTestUtil.assertCommandFailure;
 import static lingogo.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static lingogo.logic.commands.CommandTestUtil.showFlashcards;
 import static lingogo.logic.commands.FilterCommand.FilterBuilder;
 import static lingogo.testutil.TypicalFlashcards.AFTERNOON_CHINESE_FLASHCARD;
 import static lingogo.testutil.TypicalFlashcards.BYE_CHINESE_FLASHCARD;
@@ -100,11 +101,7 @@ public class FilterCommandTest {
         String expectedMessage = String.format(MESSAGE_FLASHCARDS_LISTED_OVERVIEW, 0);
         FilterBuilder filterBuilder = new FilterBuilderBuilder().withLanguageType("Unknown language").build();
         FilterCommand command = new FilterCommand(filterBuilder);
-        try {
-            expectedModel.updateFilteredFlashcardList(filterBuilder.buildFilter(model));
-        } catch (Exception e) {
-            fail("Exception not expected");
-        }
+        showFlashcards(expectedModel);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Collections.emptyList(), model.getFilteredFlashcardList());
     }
@@ -138,11 +135,7 @@ public class FilterCommandTest {
         String expectedMessage = String.format(MESSAGE_FLASHCARDS_LISTED_OVERVIEW, 1);
         FilterBuilder filterBuilder = new FilterBuilderBuilder().withLanguageType("Tamil").build();
         FilterCommand command = new FilterCommand(filterBuilder);
-        try {
-            expectedModel.updateFilteredFlashcardList(filterBuilder.buildFilter(model));
-        } catch (Exception e) {
-            fail("Exception not expected");
-        }
+        showFlashcards(expectedModel, SUNRISE_TAMIL_FLASHCARD);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(SUNRISE_TAMIL_FLASHCARD), model.getFilteredFlashcardList());
     }
@@ -163,11 +156,7 @@ public class FilterCommandTest {
         String expectedMessage = String.format(MESSAGE_FLASHCARDS_LISTED_OVERVIEW, 2);
         FilterBuilder filterBuilder = new FilterBuilderBuilder().withIndexList(1, 2).build();
         FilterCommand command = new FilterCommand(filterBuilder);
-        try {
-            expectedModel.updateFilteredFlashcardList(filterBuilder.buildFilter(model));
-        } catch (Exception e) {
-            fail("Exception not expected");
-        }
+        showFlashcards(expectedModel, AFTERNOON_CHINESE_FLASHCARD, NIGHT_CHINESE_FLASHCARD);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(AFTERNOON_CHINESE_FLASHCARD, NIGHT_CHINESE_FLASHCARD),
                 model.getFilteredFlashcardList());
@@ -178,11 +167,7 @@ public class FilterCommandTest {
         String expectedMessage = String.format(MESSAGE_FLASHCARDS_LISTED_OVERVIEW, 3);
         FilterBuilder filterBuilder = new FilterBuilderBuilder().withRange(2, 4).build();
         FilterCommand command = new FilterCommand(filterBuilder);
-        try {
-            expectedModel.updateFilteredFlashcardList(filterBuilder.buildFilter(model));
-        } catch (Exception e) {
-            fail("Exception not expected");
-        }
+        showFlashcards(expectedModel, NIGHT_CHINESE_FLASHCARD, BYE_CHINESE_FLASHCARD, SORRY_CHINESE_FLASHCARD);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(NIGHT_CHINESE_FLASHCARD, BYE_CHINESE_FLASHCARD, SORRY_CHINESE_FLASHCARD),
                 model.getFilteredFlashcardList());
@@ -196,13 +181,28 @@ public class FilterCommandTest {
         FilterBuilder filterBuilder =
                 new FilterBuilderBuilder().withIndexList(1, 5).withLanguageType("Chinese").withRange(1, 5).build();
         FilterCommand command = new FilterCommand(filterBuilder);
+        showFlashcards(expectedModel, AFTERNOON_CHINESE_FLASHCARD);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(AFTERNOON_CHINESE_FLASHCARD), model.getFilteredFlashcardList());
+    }
+
+    @Test
+    public void execute_rangeOfFoundFlashcards_selectsDisplayedPositions() {
+        FlashcardApp flashcardApp = getTypicalFlashcardApp();
+        flashcardApp.addFlashcard(HAPPY_ANNIVERSARY_CHINESE);
+        flashcardApp.addFlashcard(HAPPY_BIRTHDAY);
+        flashcardApp.addFlashcard(HAPPY_BIRTHDAY_JAPANESE);
+        Model testModel = new ModelManager(flashcardApp, new UserPrefs());
+        testModel.updateFilteredFlashcardList(
+                new EnglishPhraseContainsKeywordsPredicate(Collections.singletonList("happy")));
+
+        FilterBuilder filterBuilder = new FilterBuilderBuilder().withRange(2, 3).build();
         try {
-            expectedModel.updateFilteredFlashcardList(filterBuilder.buildFilter(model));
+            new FilterCommand(filterBuilder).execute(testModel);
         } catch (Exception e) {
             fail("Exception not expected");
         }
-        assertCommandSuccess(command, model, expectedMessage, expectedModel);
-        assertEquals(Arrays.asList(AFTERNOON_CHINESE_FLASHCARD), model.getFilteredFlashcardList());
+        assertEquals(Arrays.asList(HAPPY_BIRTHDAY, HAPPY_BIRTHDAY_JAPANESE), testModel.getFilteredFlashcardList());
     }
 
     @Test
@@ -234,11 +234,7 @@ public class FilterCommandTest {
         FilterBuilder filterBuilder =
                 new FilterBuilderBuilder().withLanguageType("Chinese").build();
         FilterCommand command = new FilterCommand(filterBuilder);
-        try {
-            expectedResultModel.updateFilteredFlashcardList(filterBuilder.buildFilter(testModel));
-        } catch (Exception e) {
-            fail("Exception not expected");
-        }
+        showFlashcards(expectedResultModel, HAPPY_ANNIVERSARY_CHINESE, HAPPY_BIRTHDAY);
 
         // test filter
         assertCommandSuccess(command, testModel, secondExpectedMessage, expectedResultModel);
@@ -2,6 +2,7 @@ package lingogo.logic.commands;
 
 import static lingogo.logic.commands.CommandTestUtil.assertCommandFailure;
 import static lingogo.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static lingogo.logic.commands.CommandTestUtil.showFlashcards;
 import static lingogo.testutil.TypicalFlashcards.AFTERNOON_CHINESE_FLASHCARD;
 import static lingogo.testutil.TypicalFlashcards.NIGHT_CHINESE_FLASHCARD;
 import static lingogo.testutil.TypicalFlashcards.SORRY_CHINESE_FLASHCARD;
@@ -11,8 +12,6 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.List;
-
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -20,7 +19,6 @@ import lingogo.commons.core.Messages;
 import lingogo.model.Model;
 import lingogo.model.ModelManager;
 import lingogo.model.UserPrefs;
-import lingogo.model.flashcard.FlashcardInGivenFlashcardListPredicate;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for ListCommand.
@@ -60,15 +58,13 @@ public class ListCommandTest {
         int seed = 10;
         // With seed = 10, flashcards expected to be selected are:
         // AFTERNOON_CHINESE_FLASHCARD, NIGHT_CHINESE_FLASHCARD and SORRY_CHINESE_FLASHCARD
-        expectedModel.updateFilteredFlashcardList(new FlashcardInGivenFlashcardListPredicate(
-                List.of(AFTERNOON_CHINESE_FLASHCARD, NIGHT_CHINESE_FLASHCARD, SORRY_CHINESE_FLASHCARD)));
+        showFlashcards(expectedModel, AFTERNOON_CHINESE_FLASHCARD, NIGHT_CHINESE_FLASHCARD, SORRY_CHINESE_FLASHCARD);
         assertCommandSuccess(new ListCommand(n, seed), model, expectedMessage, expectedModel);
 
         seed = 9;
         // With seed = 9, flashcards expected to be selected are:
         // NIGHT_CHINESE_FLASHCARD, SORRY_CHINESE_FLASHCARD and SUNRISE_TAMIL_FLASHCARD
-        expectedModel.updateFilteredFlashcardList(new FlashcardInGivenFlashcardListPredicate(
-                List.of(NIGHT_CHINESE_FLASHCARD, SORRY_CHINESE_FLASHCARD, SUNRISE_TAMIL_FLASHCARD)));
+        showFlashcards(expectedModel, NIGHT_CHINESE_FLASHCARD, SORRY_CHINESE_FLASHCARD, SUNRISE_TAMIL_FLASHCARD);
         assertCommandSuccess(new ListCommand(n, seed), model, expectedMessage, expectedModel);
     }
 
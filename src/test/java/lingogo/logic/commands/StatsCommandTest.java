@@ -0,0 +1,72 @@
+package lingogo.logic.commands;
+
+import static lingogo.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import org.junit.jupiter.api.Test;
+
+import lingogo.logic.metrics.CommandMetrics;
+import lingogo.logic.metrics.CommandMetrics.Measure;
+import lingogo.model.Model;
+import lingogo.model.ModelManager;
+
+public class StatsCommandTest {
+
+    private final Model model = new ModelManager();
+    private final Model expectedModel = new ModelManager();
+    private final CommandMetrics commandMetrics = new CommandMetrics();
+
+    @Test
+    public void equals() {
+        StatsCommand statsCommand = new StatsCommand(commandMetrics);
+        StatsCommand exportingStatsCommand = new StatsCommand(commandMetrics, "stats.csv");
+
+        // same object -> returns true
+        assertTrue(statsCommand.equals(statsCommand));
+
+        // same values -> returns true
+        assertTrue(statsCommand.equals(new StatsCommand(commandMetrics)));
+        assertTrue(exportingStatsCommand.equals(new StatsCommand(commandMetrics, "stats.csv")));
+
+        // different file name -> returns false
+        assertFalse(statsCommand.equals(exportingStatsCommand));
+        assertFalse(exportingStatsCommand.equals(new StatsCommand(commandMetrics, "other.csv")));
+
+        // different metrics -> returns false
+        assertFalse(statsCommand.equals(new StatsCommand(new CommandMetrics())));
+
+        // null -> returns false
+        assertFalse(statsCommand.equals(null));
+    }
+
+    @Test
+    public void execute_noCommandsRun_noCommandsMessage() {
+        assertCommandSuccess(new StatsCommand(commandMetrics), model, CommandMetrics.MESSAGE_NO_COMMANDS,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_commandsRun_summaryShown() {
+        commandMetrics.record(CommandEnum.FIND, Measure.EXECUTE_TIME, 1_500_000);
+        assertCommandSuccess(new StatsCommand(commandMetrics), model, commandMetrics.getSummary(), expectedModel);
+    }
+
+    @Test
+    public void execute_fileName_metricsExported() throws Exception {
+        String fileName = "statsCommandTest.csv";
+        File exportedFile = new File("data/" + fileName);
+        commandMetrics.record(CommandEnum.FIND, Measure.EXECUTE_TIME, 1_500_000);
+        try {
+            String expectedMessage = commandMetrics.getSummary() + "\n"
+                    + String.format(StatsCommand.MESSAGE_EXPORTED, fileName);
+            assertCommandSuccess(new StatsCommand(commandMetrics, fileName), model, expectedMessage, expectedModel);
+            assertTrue(Files.readString(exportedFile.toPath()).contains("\"find\",\"EXECUTE_TIME\""));
+        } finally {
+            exportedFile.delete();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package lingogo.logic.metrics;
+
+import static lingogo.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+
+import lingogo.logic.commands.CommandEnum;
+import lingogo.logic.metrics.CommandMetrics.Measure;
+
+public class CommandMetricsTest {
+
+    private final CommandMetrics commandMetrics = new CommandMetrics();
+
+    @Test
+    public void record_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> commandMetrics.record(null, Measure.PARSE_TIME, 1));
+        assertThrows(NullPointerException.class, () -> commandMetrics.record(CommandEnum.ADD, null, 1));
+    }
+
+    @Test
+    public void record_separateCommandsAndMeasures_keptApart() {
+        commandMetrics.record(CommandEnum.ADD, Measure.PARSE_TIME, 5);
+        commandMetrics.record(CommandEnum.ADD, Measure.PARSE_TIME, 7);
+        commandMetrics.record(CommandEnum.ADD, Measure.EXECUTE_TIME, 3);
+        commandMetrics.record(CommandEnum.FIND, Measure.PARSE_TIME, 1);
+
+        assertEquals(2, commandMetrics.getCount(CommandEnum.ADD, Measure.PARSE_TIME));
+        assertEquals(7, commandMetrics.getPercentile(CommandEnum.ADD, Measure.PARSE_TIME, 99));
+        assertEquals(1, commandMetrics.getCount(CommandEnum.ADD, Measure.EXECUTE_TIME));
+        assertEquals(1, commandMetrics.getCount(CommandEnum.FIND, Measure.PARSE_TIME));
+        assertEquals(0, commandMetrics.getCount(CommandEnum.FIND, Measure.SAVE_TIME));
+        assertEquals(0, commandMetrics.getPercentile(CommandEnum.LIST, Measure.PARSE_TIME, 50));
+    }
+
+    @Test
+    public void getSummary_noCommands_noCommandsMessage() {
+        assertEquals(CommandMetrics.MESSAGE_NO_COMMANDS, commandMetrics.getSummary());
+    }
+
+    @Test
+    public void getSummary_commandsRun_linePerCommand() {
+        commandMetrics.record(CommandEnum.ADD, Measure.PARSE_TIME, 2_000_000);
+        commandMetrics.record(CommandEnum.ADD, Measure.ALLOCATED_BYTES, 4096);
+        commandMetrics.record(CommandEnum.LIST, Measure.PARSE_TIME, 1_000_000);
+
+        assertEquals("Command metrics (p50 / p99):\n"
+                + "add (1 runs): parse 2.00 ms / 2.00 ms, allocated 4 KB / 4 KB\n"
+                + "list (1 runs): parse 1.00 ms / 1.00 ms", commandMetrics.getSummary());
+    }
+
+    @Test
+    public void exportTo_commandsRun_rowPerMeasure() throws Exception {
+        commandMetrics.record(CommandEnum.ADD, Measure.PARSE_TIME, 5);
+        commandMetrics.record(CommandEnum.ADD, Measure.SAVE_TIME, 3);
+
+        StringWriter writer = new StringWriter();
+        commandMetrics.exportTo(writer);
+        String csv = writer.toString();
+        assertTrue(csv.startsWith("\"Command\",\"Measure\",\"Count\",\"P50\",\"P99\",\"Max\""), csv);
+        assertTrue(csv.contains("\"add\",\"PARSE_TIME\",\"1\",\"5\",\"5\",\"5\""), csv);
+        assertTrue(csv.contains("\"add\",\"SAVE_TIME\",\"1\",\"3\",\"3\",\"3\""), csv);
+    }
+}
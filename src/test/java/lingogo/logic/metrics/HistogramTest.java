@@ -0,0 +1,50 @@
+package lingogo.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class HistogramTest {
+
+    private final Histogram histogram = new Histogram();
+
+    @Test
+    public void getPercentile_noValues_returnsZero() {
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(50));
+    }
+
+    @Test
+    public void getPercentile_smallValues_exact() {
+        for (int value = 1; value <= 7; value++) {
+            histogram.record(value);
+        }
+        assertEquals(7, histogram.getCount());
+        assertEquals(4, histogram.getPercentile(50));
+        assertEquals(7, histogram.getPercentile(99));
+        assertEquals(1, histogram.getPercentile(0));
+    }
+
+    @Test
+    public void getPercentile_largeValues_withinAnEighth() {
+        for (long value = 1; value <= 1_000_000; value++) {
+            histogram.record(value * 1000);
+        }
+
+        long median = histogram.getPercentile(50);
+        assertTrue(median >= 500_000_000L && median <= 500_000_000L * 9 / 8, String.valueOf(median));
+        long p99 = histogram.getPercentile(99);
+        assertTrue(p99 >= 990_000_000L && p99 <= 990_000_000L * 9 / 8, String.valueOf(p99));
+        assertEquals(1_000_000_000L, histogram.getPercentile(100));
+        assertEquals(1_000_000_000L, histogram.getMax());
+    }
+
+    @Test
+    public void record_extremeValues_recorded() {
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(0, histogram.getPercentile(50));
+        assertEquals(Long.MAX_VALUE, histogram.getPercentile(100));
+    }
+}
@@ -20,6 +20,7 @@ import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -27,6 +28,7 @@ import org.junit.jupiter.api.Test;
 import lingogo.logic.commands.AddCommand;
 import lingogo.logic.commands.AnswerCommand;
 import lingogo.logic.commands.ClearCommand;
+import lingogo.logic.commands.CommandEnum;
 import lingogo.logic.commands.DeleteCommand;
 import lingogo.logic.commands.EditCommand;
 import lingogo.logic.commands.EditCommand.EditFlashcardDescriptor;
@@ -37,6 +39,8 @@ import lingogo.logic.commands.FindCommand;
 import lingogo.logic.commands.HelpCommand;
 import lingogo.logic.commands.ImportCommand;
 import lingogo.logic.commands.ListCommand;
+import lingogo.logic.commands.StatsCommand;
+import lingogo.logic.metrics.CommandMetrics;
 import lingogo.logic.parser.exceptions.ParseException;
 import lingogo.model.flashcard.EnglishPhraseContainsKeywordsPredicate;
 import lingogo.model.flashcard.Flashcard;
@@ -145,6 +149,15 @@ public class FlashcardAppParserTest {
         assertEquals(new ExportCommand(csvFileName), command);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        CommandMetrics commandMetrics = new CommandMetrics();
+        FlashcardAppParser parser = new FlashcardAppParser(commandMetrics);
+        assertEquals(new StatsCommand(commandMetrics), parser.parseCommand(StatsCommand.COMMAND_WORD));
+        assertEquals(new StatsCommand(commandMetrics, "myStats.csv"),
+                parser.parseCommand(StatsCommand.COMMAND_WORD + " myStats.csv"));
+    }
+
     @Test
     public void parseCommand_import() throws Exception {
         File data = new File("data");
@@ -180,4 +193,17 @@ public class FlashcardAppParserTest {
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
     }
+
+    @Test
+    public void splitCommandWord_validInput_commandTypeMatched() throws Exception {
+        FlashcardAppParser.CommandInput commandInput = parser.splitCommandWord("  delete 1 ");
+        assertEquals(DeleteCommand.COMMAND_WORD, commandInput.getCommandWord());
+        assertEquals(Optional.of(CommandEnum.DELETE), commandInput.getCommandType());
+        assertEquals(" 1", commandInput.getArguments());
+
+        FlashcardAppParser.CommandInput unknownCommandInput = parser.splitCommandWord("unknownCommand");
+        assertEquals("unknownCommand", unknownCommandInput.getCommandWord());
+        assertEquals(Optional.empty(), unknownCommandInput.getCommandType());
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand(unknownCommandInput));
+    }
 }
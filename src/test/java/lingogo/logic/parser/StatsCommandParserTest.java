@@ -0,0 +1,32 @@
+package lingogo.logic.parser;
+
+import static lingogo.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static lingogo.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static lingogo.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import lingogo.logic.commands.StatsCommand;
+import lingogo.logic.metrics.CommandMetrics;
+
+public class StatsCommandParserTest {
+
+    private final CommandMetrics commandMetrics = new CommandMetrics();
+    private final StatsCommandParser parser = new StatsCommandParser(commandMetrics);
+
+    @Test
+    public void parse_noArgs_returnsStatsCommand() {
+        assertParseSuccess(parser, "  ", new StatsCommand(commandMetrics));
+    }
+
+    @Test
+    public void parse_validFileName_returnsExportingStatsCommand() {
+        assertParseSuccess(parser, " stats.csv ", new StatsCommand(commandMetrics, "stats.csv"));
+    }
+
+    @Test
+    public void parse_invalidFileName_throwsParseException() {
+        assertParseFailure(parser, "abc",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+    }
+}
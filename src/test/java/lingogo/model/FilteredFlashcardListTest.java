@@ -0,0 +1,218 @@
+package lingogo.model;
+
+import static lingogo.testutil.Assert.assertThrows;
+import static lingogo.testutil.TypicalFlashcards.AFTERNOON_CHINESE_FLASHCARD;
+import static lingogo.testutil.TypicalFlashcards.BYE_CHINESE_FLASHCARD;
+import static lingogo.testutil.TypicalFlashcards.HAPPY_BIRTHDAY_JAPANESE;
+import static lingogo.testutil.TypicalFlashcards.NIGHT_CHINESE_FLASHCARD;
+import static lingogo.testutil.TypicalFlashcards.SORRY_CHINESE_FLASHCARD;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import lingogo.model.flashcard.Flashcard;
+import lingogo.model.flashcard.LanguageType;
+import lingogo.testutil.FlashcardBuilder;
+
+public class FilteredFlashcardListTest {
+
+    private static final Predicate<Flashcard> IS_CHINESE = flashcard ->
+            flashcard.getLanguageType().equals(LanguageType.of("Chinese"));
+
+    private final ObservableList<Flashcard> source = FXCollections.observableArrayList();
+    private FilteredFlashcardList filteredList;
+    private List<Flashcard> mirror;
+
+    @BeforeEach
+    public void setUp() {
+        source.setAll(AFTERNOON_CHINESE_FLASHCARD, HAPPY_BIRTHDAY_JAPANESE, NIGHT_CHINESE_FLASHCARD,
+                BYE_CHINESE_FLASHCARD);
+        filteredList = new FilteredFlashcardList(source);
+        mirror = new ArrayList<>(filteredList);
+        // replays the changes fired by the filtered list, which must leave the mirror equal to the filtered list
+        filteredList.addListener((ListChangeListener<Flashcard>) change -> {
+            while (change.next()) {
+                mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                mirror.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        });
+    }
+
+    @Test
+    public void constructor_showsEveryFlashcard() {
+        assertEquals(source, filteredList);
+    }
+
+    @Test
+    public void setPredicate_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> filteredList.setPredicate(null));
+    }
+
+    @Test
+    public void setPredicate_showsMatchingFlashcards() {
+        filteredList.setPredicate(IS_CHINESE);
+        assertFiltered(AFTERNOON_CHINESE_FLASHCARD, NIGHT_CHINESE_FLASHCARD, BYE_CHINESE_FLASHCARD);
+
+        filteredList.showAll();
+        assertEquals(source, filteredList);
+        assertEquals(source, mirror);
+    }
+
+    @Test
+    public void setPredicate_someFlashcardsHidden_onlyChangedFlashcardsRemoved() {
+        List<List<? extends Flashcard>> removedFlashcards = new ArrayList<>();
+        filteredList.addListener((ListChangeListener<Flashcard>) change -> {
+            while (change.next()) {
+                removedFlashcards.add(change.getRemoved());
+            }
+        });
+
+        filteredList.setPredicate(IS_CHINESE);
+        assertEquals(Collections.singletonList(Collections.singletonList(HAPPY_BIRTHDAY_JAPANESE)), removedFlashcards);
+        assertFiltered(AFTERNOON_CHINESE_FLASHCARD, NIGHT_CHINESE_FLASHCARD, BYE_CHINESE_FLASHCARD);
+
+        // the same flashcards are shown, so no change is fired
+        removedFlashcards.clear();
+        filteredList.setPredicate(flashcard -> flashcard != HAPPY_BIRTHDAY_JAPANESE);
+        assertEquals(Collections.emptyList(), removedFlashcards);
+    }
+
+    @Test
+    public void narrow_predicate_onlyTestsDisplayedFlashcards() {
+        filteredList.setPredicate(IS_CHINESE);
+        List<Flashcard> testedFlashcards = new ArrayList<>();
+        filteredList.narrow(flashcard -> testedFlashcards.add(flashcard) && flashcard != NIGHT_CHINESE_FLASHCARD);
+
+        assertEquals(Arrays.asList(AFTERNOON_CHINESE_FLASHCARD, NIGHT_CHINESE_FLASHCARD, BYE_CHINESE_FLASHCARD),
+                testedFlashcards);
+        assertFiltered(AFTERNOON_CHINESE_FLASHCARD, BYE_CHINESE_FLASHCARD);
+    }
+
+    @Test
+    public void narrow_positions_keepsDisplayedPositions() {
+        filteredList.setPredicate(IS_CHINESE);
+        BitSet positions = new BitSet();
+        positions.set(1);
+        positions.set(2);
+        positions.set(10); // beyond the displayed list
+        filteredList.narrow(positions);
+        assertFiltered(NIGHT_CHINESE_FLASHCARD, BYE_CHINESE_FLASHCARD);
+
+        // flashcards added after positions are selected are not displayed
+        source.add(SORRY_CHINESE_FLASHCARD);
+        assertFiltered(NIGHT_CHINESE_FLASHCARD, BYE_CHINESE_FLASHCARD);
+    }
+
+    @Test
+    public void narrowToSourcePositions_positions_intersectsViewAndTestsAddedFlashcards() {
+        filteredList.setPredicate(flashcard -> flashcard != NIGHT_CHINESE_FLASHCARD);
+        BitSet positions = new BitSet();
+        positions.set(0);
+        positions.set(2);
+        positions.set(3);
+        List<Flashcard> testedFlashcards = new ArrayList<>();
+        filteredList.narrowToSourcePositions(positions, flashcard -> testedFlashcards.add(flashcard)
+                && IS_CHINESE.test(flashcard));
+        assertFiltered(AFTERNOON_CHINESE_FLASHCARD, BYE_CHINESE_FLASHCARD);
+        assertEquals(Collections.emptyList(), testedFlashcards);
+
+        // flashcards added afterwards must match both predicates
+        source.add(SORRY_CHINESE_FLASHCARD);
+        source.add(new FlashcardBuilder().withLanguageType("Japanese").build());
+        source.add(NIGHT_CHINESE_FLASHCARD);
+        assertFiltered(AFTERNOON_CHINESE_FLASHCARD, BYE_CHINESE_FLASHCARD, SORRY_CHINESE_FLASHCARD);
+    }
+
+    @Test
+    public void show_sourcePositions_showsPositionsAndTestsAddedFlashcards() {
+        BitSet positions = new BitSet();
+        positions.set(0);
+        positions.set(3);
+        filteredList.show(positions, IS_CHINESE);
+        assertFiltered(AFTERNOON_CHINESE_FLASHCARD, BYE_CHINESE_FLASHCARD);
+
+        // the view does not share the given positions
+        positions.set(2);
+        assertFiltered(AFTERNOON_CHINESE_FLASHCARD, BYE_CHINESE_FLASHCARD);
+
+        source.add(SORRY_CHINESE_FLASHCARD);
+        source.add(new FlashcardBuilder().withLanguageType("Japanese").build());
+        assertFiltered(AFTERNOON_CHINESE_FLASHCARD, BYE_CHINESE_FLASHCARD, SORRY_CHINESE_FLASHCARD);
+    }
+
+    @Test
+    public void sourceChanged_addedFlashcards_displayedIfMatchingPredicate() {
+        filteredList.setPredicate(IS_CHINESE);
+        Flashcard japaneseFlashcard = new FlashcardBuilder().withLanguageType("Japanese").build();
+        source.addAll(1, Arrays.asList(SORRY_CHINESE_FLASHCARD, japaneseFlashcard));
+        assertFiltered(AFTERNOON_CHINESE_FLASHCARD, SORRY_CHINESE_FLASHCARD, NIGHT_CHINESE_FLASHCARD,
+                BYE_CHINESE_FLASHCARD);
+    }
+
+    @Test
+    public void sourceChanged_removedFlashcards_laterFlashcardsShifted() {
+        filteredList.setPredicate(IS_CHINESE);
+        source.remove(HAPPY_BIRTHDAY_JAPANESE);
+        source.remove(AFTERNOON_CHINESE_FLASHCARD);
+        assertFiltered(NIGHT_CHINESE_FLASHCARD, BYE_CHINESE_FLASHCARD);
+        assertEquals(0, filteredList.getSourceIndex(0));
+        assertEquals(1, filteredList.getViewIndex(1));
+    }
+
+    @Test
+    public void sourceChanged_replacedFlashcard_keepsVisibility() {
+        filteredList.setPredicate(IS_CHINESE);
+        Flashcard editedFlashcard = new FlashcardBuilder().withLanguageType("Japanese").build();
+        source.set(2, editedFlashcard);
+        assertFiltered(AFTERNOON_CHINESE_FLASHCARD, editedFlashcard, BYE_CHINESE_FLASHCARD);
+
+        // a hidden flashcard which is replaced is displayed if its replacement matches the predicate
+        source.set(1, SORRY_CHINESE_FLASHCARD);
+        assertFiltered(AFTERNOON_CHINESE_FLASHCARD, SORRY_CHINESE_FLASHCARD, editedFlashcard, BYE_CHINESE_FLASHCARD);
+    }
+
+    @Test
+    public void sourceChanged_manyFlashcards_positionsShiftedAcrossWords() {
+        List<Flashcard> flashcards = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            flashcards.add(new FlashcardBuilder().withEnglishPhrase("Phrase " + i).build());
+        }
+        source.setAll(flashcards);
+        filteredList.setPredicate(flashcard -> flashcard.getEnglishPhrase().value.endsWith("7"));
+
+        source.remove(3, 70);
+        source.addAll(5, flashcards.subList(190, 200));
+        List<Flashcard> expected = new ArrayList<>(source);
+        expected.removeIf(flashcard -> !flashcard.getEnglishPhrase().value.endsWith("7"));
+        assertEquals(expected, filteredList);
+        assertEquals(expected, mirror);
+        assertEquals(-1, filteredList.getViewIndex(0));
+    }
+
+    @Test
+    public void getSourceIndex_outOfBounds_throwsIndexOutOfBoundsException() {
+        filteredList.setPredicate(IS_CHINESE);
+        assertThrows(IndexOutOfBoundsException.class, () -> filteredList.getSourceIndex(3));
+        assertEquals(Collections.emptyList(), filteredList.subList(3, 3));
+    }
+
+    private void assertFiltered(Flashcard... expectedFlashcards) {
+        List<Flashcard> expected = Arrays.asList(expectedFlashcards);
+        assertEquals(expected, filteredList);
+        assertEquals(expected, mirror);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(i, filteredList.getViewIndex(filteredList.getSourceIndex(i)));
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package lingogo.model;
+
+import static lingogo.testutil.Assert.assertThrows;
+import static lingogo.testutil.TypicalFlashcards.HAPPY_BIRTHDAY_JAPANESE;
+import static lingogo.testutil.TypicalFlashcards.NIGHT_CHINESE_FLASHCARD;
+import static lingogo.testutil.TypicalFlashcards.SUNRISE_TAMIL_FLASHCARD;
+import static lingogo.testutil.TypicalFlashcards.THANK_YOU_CHINESE_FLASHCARD;
+import static lingogo.testutil.TypicalFlashcards.getTypicalFlashcardApp;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import lingogo.model.flashcard.Flashcard;
+import lingogo.model.flashcard.LanguageType;
+
+public class FlashcardFilterPlanTest {
+    private static final LanguageType CHINESE = LanguageType.of("Chinese");
+    private static final LanguageType JAPANESE = LanguageType.of("Japanese");
+
+    private final List<String> calls = new ArrayList<>();
+    private FlashcardApp flashcardApp;
+    private FilteredFlashcardList displayedFlashcards;
+
+    @BeforeEach
+    public void setUp() {
+        // afternoon, night, bye and sorry in Chinese, sunrise in Tamil and happy birthday in Japanese
+        flashcardApp = getTypicalFlashcardApp();
+        flashcardApp.addFlashcard(HAPPY_BIRTHDAY_JAPANESE);
+        displayedFlashcards = new FilteredFlashcardList(flashcardApp.getFlashcardList());
+        displayedFlashcards.setPredicate(flashcard -> !flashcard.equals(NIGHT_CHINESE_FLASHCARD));
+    }
+
+    @Test
+    public void constructor_noFilters_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> new FlashcardFilterPlan(null));
+        assertThrows(IllegalArgumentException.class, () -> new FlashcardFilterPlan(Collections.emptyList()));
+    }
+
+    @Test
+    public void getOrderedFilters_filters_orderedByMaximumMatchCount() {
+        FlashcardFilter languageTypeFilter = FlashcardFilter.ofLanguageType(JAPANESE);
+        FlashcardFilter rangeFilter = FlashcardFilter.ofDisplayedRange(0, 2);
+        FlashcardFilter positionsFilter = FlashcardFilter.ofDisplayedPositions(positions(0, 1, 2, 3));
+        FlashcardFilterPlan plan = new FlashcardFilterPlan(Arrays.asList(positionsFilter, languageTypeFilter,
+                rangeFilter));
+
+        assertEquals(Arrays.asList(languageTypeFilter, rangeFilter, positionsFilter),
+                plan.getOrderedFilters(flashcardApp, displayedFlashcards));
+    }
+
+    @Test
+    public void selectSourcePositions_languageTypeAndRange_keepsDisplayedFlashcardsOfLanguageType() {
+        // the range keeps bye, sorry and sunrise, of which sunrise is not in Chinese
+        FlashcardFilterPlan plan = new FlashcardFilterPlan(Arrays.asList(FlashcardFilter.ofLanguageType(CHINESE),
+                FlashcardFilter.ofDisplayedRange(1, 3)));
+        assertEquals(positions(2, 3), plan.selectSourcePositions(flashcardApp, displayedFlashcards));
+
+        // night is in Chinese but is not displayed
+        plan = new FlashcardFilterPlan(Arrays.asList(FlashcardFilter.ofDisplayedPositions(positions(0, 4)),
+                FlashcardFilter.ofLanguageType(CHINESE)));
+        assertEquals(positions(0), plan.selectSourcePositions(flashcardApp, displayedFlashcards));
+    }
+
+    @Test
+    public void selectSourcePositions_lessSelectiveFilter_onlyTestsSelectedFlashcards() {
+        FlashcardFilterPlan plan = new FlashcardFilterPlan(Arrays.asList(
+                new RecordingFilter("large", 10, positions(0, 2, 3)),
+                new RecordingFilter("small", 1, positions(2))));
+
+        assertEquals(positions(2), plan.selectSourcePositions(flashcardApp, displayedFlashcards));
+        assertEquals(Arrays.asList("small selected", "large tested 2"), calls);
+    }
+
+    @Test
+    public void selectSourcePositions_moreSelectiveFilter_selectedFromIndex() {
+        // the first filter selects three flashcards, more than the second can keep
+        FlashcardFilterPlan plan = new FlashcardFilterPlan(Arrays.asList(
+                new RecordingFilter("first", 0, positions(0, 2, 3)),
+                new RecordingFilter("second", 2, positions(2))));
+        assertEquals(positions(2), plan.selectSourcePositions(flashcardApp, displayedFlashcards));
+        assertEquals(Arrays.asList("first selected", "second selected"), calls);
+    }
+
+    @Test
+    public void selectSourcePositions_noFlashcardSelected_laterFiltersNotApplied() {
+        FlashcardFilterPlan plan = new FlashcardFilterPlan(Arrays.asList(
+                new RecordingFilter("empty", 0, new BitSet()),
+                new RecordingFilter("other", 5, positions(0, 2))));
+
+        assertTrue(plan.selectSourcePositions(flashcardApp, displayedFlashcards).isEmpty());
+        assertEquals(Collections.singletonList("empty selected"), calls);
+    }
+
+    @Test
+    public void keepsAddedFlashcard_filters_keptOnlyIfEveryFilterKeepsIt() {
+        FlashcardFilterPlan plan = new FlashcardFilterPlan(Collections.singletonList(
+                FlashcardFilter.ofLanguageType(CHINESE)));
+        assertTrue(plan.keepsAddedFlashcard(THANK_YOU_CHINESE_FLASHCARD));
+        assertFalse(plan.keepsAddedFlashcard(SUNRISE_TAMIL_FLASHCARD));
+
+        // flashcards selected by their indexes do not include flashcards added later
+        plan = new FlashcardFilterPlan(Arrays.asList(FlashcardFilter.ofLanguageType(CHINESE),
+                FlashcardFilter.ofDisplayedRange(0, 4)));
+        assertFalse(plan.keepsAddedFlashcard(THANK_YOU_CHINESE_FLASHCARD));
+    }
+
+    private static BitSet positions(int... positions) {
+        BitSet bitSet = new BitSet();
+        Arrays.stream(positions).forEach(bitSet::set);
+        return bitSet;
+    }
+
+    /**
+     * A filter keeping the flashcards at fixed source positions, which records when it is applied.
+     */
+    private class RecordingFilter extends FlashcardFilter {
+        private final String name;
+        private final int maximumMatchCount;
+        private final BitSet sourcePositions;
+
+        RecordingFilter(String name, int maximumMatchCount, BitSet sourcePositions) {
+            this.name = name;
+            this.maximumMatchCount = maximumMatchCount;
+            this.sourcePositions = sourcePositions;
+        }
+
+        @Override
+        int getMaximumMatchCount(FlashcardApp flashcardApp, FilteredFlashcardList displayedFlashcards) {
+            return maximumMatchCount;
+        }
+
+        @Override
+        BitSet selectSourcePositions(FlashcardApp flashcardApp, FilteredFlashcardList displayedFlashcards) {
+            calls.add(name + " selected");
+            return (BitSet) sourcePositions.clone();
+        }
+
+        @Override
+        boolean keeps(int sourcePosition, FlashcardApp flashcardApp, FilteredFlashcardList displayedFlashcards) {
+            calls.add(name + " tested " + sourcePosition);
+            return sourcePositions.get(sourcePosition);
+        }
+
+        @Override
+        boolean keepsAddedFlashcard(Flashcard flashcard) {
+            return false;
+        }
+    }
+}
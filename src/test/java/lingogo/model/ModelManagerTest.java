@@ -2,8 +2,10 @@ package lingogo.model;
 
 import static lingogo.model.Model.PREDICATE_SHOW_ALL_FLASHCARDS;
 import static lingogo.testutil.Assert.assertThrows;
+import static lingogo.testutil.TypicalFlashcards.AFTERNOON_CHINESE_FLASHCARD;
 import static lingogo.testutil.TypicalFlashcards.GOOD_MORNING_CHINESE_FLASHCARD;
 import static lingogo.testutil.TypicalFlashcards.HELLO_CHINESE_FLASHCARD;
+import static lingogo.testutil.TypicalFlashcards.getTypicalFlashcardApp;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -11,12 +13,19 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import lingogo.commons.core.GuiSettings;
+import lingogo.model.flashcard.EnglishPhraseContainsKeywordsPredicate;
+import lingogo.model.flashcard.Flashcard;
+import lingogo.model.flashcard.ForeignPhraseContainsKeywordsPredicate;
 import lingogo.model.flashcard.PhraseContainsKeywordsPredicate;
 import lingogo.testutil.FlashcardAppBuilder;
+import lingogo.testutil.FlashcardBuilder;
 
 public class ModelManagerTest {
 
@@ -88,6 +97,88 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasFlashcard(GOOD_MORNING_CHINESE_FLASHCARD));
     }
 
+    @Test
+    public void addFlashcards_nullCollection_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.addFlashcards(null));
+    }
+
+    @Test
+    public void addFlashcards_newAndExistingFlashcards_addsNewFlashcardsAndShowsAll() {
+        modelManager.addFlashcard(GOOD_MORNING_CHINESE_FLASHCARD);
+        modelManager.updateFilteredFlashcardList(unused -> false);
+
+        int numberOfFlashcardsAdded = modelManager.addFlashcards(
+                Arrays.asList(GOOD_MORNING_CHINESE_FLASHCARD, HELLO_CHINESE_FLASHCARD));
+
+        assertEquals(1, numberOfFlashcardsAdded);
+        assertEquals(Arrays.asList(GOOD_MORNING_CHINESE_FLASHCARD, HELLO_CHINESE_FLASHCARD),
+                modelManager.getFilteredFlashcardList());
+    }
+
+    @Test
+    public void addFlashcards_onlyExistingFlashcards_filterUnchanged() {
+        modelManager.addFlashcard(GOOD_MORNING_CHINESE_FLASHCARD);
+        modelManager.updateFilteredFlashcardList(unused -> false);
+
+        assertEquals(0, modelManager.addFlashcards(Arrays.asList(GOOD_MORNING_CHINESE_FLASHCARD)));
+        assertTrue(modelManager.getFilteredFlashcardList().isEmpty());
+    }
+
+    @Test
+    public void hasUnsavedChanges_flashcardAppModified_returnsTrueUntilMarkedSaved() {
+        assertFalse(modelManager.hasUnsavedChanges());
+
+        // filtering does not modify the flashcard app
+        modelManager.updateFilteredFlashcardList(unused -> false);
+        assertFalse(modelManager.hasUnsavedChanges());
+
+        modelManager.addFlashcard(GOOD_MORNING_CHINESE_FLASHCARD);
+        assertTrue(modelManager.hasUnsavedChanges());
+
+        modelManager.markFlashcardAppSaved();
+        assertFalse(modelManager.hasUnsavedChanges());
+    }
+
+    @Test
+    public void updateFilteredFlashcardList_keywordPredicate_sameResultAsScanAfterChanges() {
+        FlashcardApp flashcardApp = getTypicalFlashcardApp();
+        modelManager = new ModelManager(flashcardApp, new UserPrefs());
+        PhraseContainsKeywordsPredicate predicate =
+                new PhraseContainsKeywordsPredicate(Arrays.asList("AFTERNOON", "morning", "早"));
+        modelManager.updateFilteredFlashcardList(predicate);
+        assertEquals(Collections.singletonList(AFTERNOON_CHINESE_FLASHCARD), modelManager.getFilteredFlashcardList());
+
+        modelManager.addFlashcard(GOOD_MORNING_CHINESE_FLASHCARD);
+        modelManager.updateFilteredFlashcardList(predicate);
+        assertEquals(filterByScan(predicate), modelManager.getFilteredFlashcardList());
+
+        Flashcard editedFlashcard = new FlashcardBuilder(AFTERNOON_CHINESE_FLASHCARD).withEnglishPhrase("Noon").build();
+        modelManager.setFlashcard(AFTERNOON_CHINESE_FLASHCARD, editedFlashcard);
+        modelManager.updateFilteredFlashcardList(predicate);
+        assertEquals(filterByScan(predicate), modelManager.getFilteredFlashcardList());
+
+        modelManager.deleteFlashcard(GOOD_MORNING_CHINESE_FLASHCARD);
+        assertEquals(filterByScan(predicate), modelManager.getFilteredFlashcardList());
+
+        EnglishPhraseContainsKeywordsPredicate englishPredicate =
+                new EnglishPhraseContainsKeywordsPredicate(Arrays.asList("noon", "bye"));
+        modelManager.updateFilteredFlashcardList(englishPredicate);
+        assertEquals(filterByScan(englishPredicate), modelManager.getFilteredFlashcardList());
+        assertEquals(2, modelManager.getFilteredFlashcardList().size());
+
+        ForeignPhraseContainsKeywordsPredicate foreignPredicate =
+                new ForeignPhraseContainsKeywordsPredicate(Arrays.asList("见", "晚上"));
+        modelManager.updateFilteredFlashcardList(foreignPredicate);
+        assertEquals(filterByScan(foreignPredicate), modelManager.getFilteredFlashcardList());
+        assertEquals(2, modelManager.getFilteredFlashcardList().size());
+    }
+
+    private List<Flashcard> filterByScan(PhraseContainsKeywordsPredicate predicate) {
+        return modelManager.getFlashcardApp().getFlashcardList().stream()
+                .filter(predicate)
+                .collect(Collectors.toList());
+    }
+
     @Test
     public void getFilteredFlashcardList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredFlashcardList().remove(0));
@@ -1,5 +1,6 @@
 package lingogo.model;
 
+import static lingogo.testutil.TestUtil.recordEvents;
 import static lingogo.testutil.TypicalFlashcards.AFTERNOON_CHINESE_FLASHCARD;
 import static lingogo.testutil.TypicalFlashcards.NIGHT_CHINESE_FLASHCARD;
 import static lingogo.testutil.TypicalFlashcards.getTypicalFlashcardApp;
@@ -9,8 +10,11 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import jdk.jfr.consumer.RecordedEvent;
 import lingogo.model.flashcard.Flashcard;
 import lingogo.model.slideshow.exceptions.InvalidSlideshowStartException;
 import lingogo.model.slideshow.exceptions.InvalidSlideshowStopException;
@@ -148,4 +152,28 @@ public class SlideshowAppTest {
         other.nextFlashcard();
         assertNotEquals(slideshowApp, other);
     }
+
+    @Test
+    public void transitions_recordingEvents_eventPerTransition() throws Exception {
+        int slideshowSize = flashcardApp.getFlashcardList().size();
+        List<RecordedEvent> events = recordEvents(SlideshowTransitionEvent.NAME, () -> {
+            slideshowApp.start();
+            slideshowApp.nextFlashcard();
+            slideshowApp.previousFlashcard();
+            slideshowApp.stop();
+        });
+
+        assertEquals(4, events.size());
+        assertTransitionEvent(SlideshowTransitionEvent.START, 1, slideshowSize, events.get(0));
+        assertTransitionEvent(SlideshowTransitionEvent.NEXT, 2, slideshowSize, events.get(1));
+        assertTransitionEvent(SlideshowTransitionEvent.PREVIOUS, 1, slideshowSize, events.get(2));
+        assertTransitionEvent(SlideshowTransitionEvent.STOP, 0, slideshowSize, events.get(3));
+    }
+
+    private static void assertTransitionEvent(String expectedTransition, int expectedSlideNumber,
+            int expectedSlideshowSize, RecordedEvent event) {
+        assertEquals(expectedTransition, event.getString("transition"));
+        assertEquals(expectedSlideNumber, event.getInt("slideNumber"));
+        assertEquals(expectedSlideshowSize, event.getInt("slideshowSize"));
+    }
 }
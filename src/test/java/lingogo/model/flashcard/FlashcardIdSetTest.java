@@ -0,0 +1,51 @@
+package lingogo.model.flashcard;
+
+import static lingogo.testutil.Assert.assertThrows;
+import static lingogo.testutil.TypicalFlashcards.GOOD_MORNING_CHINESE_FLASHCARD;
+import static lingogo.testutil.TypicalFlashcards.HELLO_CHINESE_FLASHCARD;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+public class FlashcardIdSetTest {
+    private final FlashcardIdSet flashcardIdSet = new FlashcardIdSet();
+
+    @Test
+    public void add_flashcardWithoutId_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, FlashcardIdSet.MESSAGE_FLASHCARD_WITHOUT_ID, () ->
+                flashcardIdSet.add(HELLO_CHINESE_FLASHCARD));
+    }
+
+    @Test
+    public void add_flashcardAlreadyInSet_returnsFalse() {
+        Flashcard flashcard = HELLO_CHINESE_FLASHCARD.withId(1);
+        assertTrue(flashcardIdSet.add(flashcard));
+        assertFalse(flashcardIdSet.add(flashcard));
+        assertFalse(flashcardIdSet.add(HELLO_CHINESE_FLASHCARD.withId(1)));
+        assertEquals(1, flashcardIdSet.size());
+    }
+
+    @Test
+    public void add_otherFlashcardWithSameId_replacesFlashcard() {
+        Flashcard flashcard = GOOD_MORNING_CHINESE_FLASHCARD.withId(1);
+        flashcardIdSet.add(HELLO_CHINESE_FLASHCARD.withId(1));
+        assertTrue(flashcardIdSet.add(flashcard));
+        assertEquals(Collections.singleton(flashcard), flashcardIdSet);
+        assertFalse(flashcardIdSet.contains(HELLO_CHINESE_FLASHCARD.withId(1)));
+    }
+
+    @Test
+    public void containsAndRemove_flashcardWithoutId_returnsFalse() {
+        flashcardIdSet.add(HELLO_CHINESE_FLASHCARD.withId(1));
+        assertFalse(flashcardIdSet.contains(HELLO_CHINESE_FLASHCARD));
+        assertFalse(flashcardIdSet.remove(HELLO_CHINESE_FLASHCARD));
+        assertFalse(flashcardIdSet.contains(HELLO_CHINESE_FLASHCARD.withId(2)));
+
+        assertTrue(flashcardIdSet.remove(HELLO_CHINESE_FLASHCARD.withId(1)));
+        assertTrue(flashcardIdSet.isEmpty());
+    }
+}
@@ -0,0 +1,78 @@
+package lingogo.model.flashcard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import lingogo.testutil.FlashcardBuilder;
+
+public class FlashcardPositionsTest {
+    private final FlashcardPositions positions = new FlashcardPositions();
+
+    @Test
+    public void positionOf_flashcardNotInList_returnsMinusOne() {
+        assertEquals(-1, positions.positionOf(1));
+        assertEquals(-1, positions.remove(1));
+        assertFalse(positions.contains(1));
+    }
+
+    @Test
+    public void remove_flashcards_laterPositionsShifted() {
+        List<Flashcard> flashcards = buildFlashcards(100);
+        flashcards.forEach(positions::append);
+
+        assertEquals(10, positions.remove(11));
+        assertEquals(0, positions.remove(1));
+        assertEquals(97, positions.remove(100));
+        assertFalse(positions.contains(11));
+        assertEquals(0, positions.positionOf(2));
+        assertEquals(9, positions.positionOf(12));
+        assertEquals(96, positions.positionOf(99));
+    }
+
+    @Test
+    public void append_afterRemovals_positionAfterRemainingFlashcards() {
+        List<Flashcard> flashcards = buildFlashcards(40);
+        // appends beyond the initial capacity after some flashcards are removed
+        flashcards.subList(0, 10).forEach(positions::append);
+        positions.remove(3);
+        positions.remove(5);
+        flashcards.subList(10, 40).forEach(positions::append);
+
+        assertEquals(7, positions.positionOf(10));
+        assertEquals(37, positions.positionOf(40));
+    }
+
+    @Test
+    public void needsCompaction_mostSlotsTombstones_returnsTrue() {
+        List<Flashcard> flashcards = buildFlashcards(200);
+        flashcards.forEach(positions::append);
+        for (long id = 1; id <= 100; id++) {
+            positions.remove(id);
+        }
+        assertFalse(positions.needsCompaction());
+        positions.remove(101);
+        assertTrue(positions.needsCompaction());
+
+        positions.reset(flashcards.subList(101, 200));
+        assertFalse(positions.needsCompaction());
+        assertEquals(0, positions.positionOf(102));
+        assertEquals(98, positions.positionOf(200));
+    }
+
+    /**
+     * Returns {@code count} flashcards with the ids 1 to {@code count}.
+     */
+    private static List<Flashcard> buildFlashcards(int count) {
+        List<Flashcard> flashcards = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            flashcards.add(new FlashcardBuilder().withEnglishPhrase("Phrase " + i).build().withId(i));
+        }
+        return flashcards;
+    }
+}
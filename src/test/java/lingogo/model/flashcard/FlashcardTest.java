@@ -6,11 +6,16 @@ import static lingogo.logic.commands.CommandTestUtil.VALID_ENGLISH_PHRASE_GOOD_M
 import static lingogo.logic.commands.CommandTestUtil.VALID_ENGLISH_PHRASE_HELLO;
 import static lingogo.logic.commands.CommandTestUtil.VALID_LANGUAGE_TYPE_CHINESE;
 import static lingogo.logic.commands.CommandTestUtil.VALID_LANGUAGE_TYPE_TAMIL;
+import static lingogo.testutil.Assert.assertThrows;
 import static lingogo.testutil.TypicalFlashcards.GOOD_MORNING_CHINESE_FLASHCARD;
 import static lingogo.testutil.TypicalFlashcards.HELLO_CHINESE_FLASHCARD;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Objects;
+
 import org.junit.jupiter.api.Test;
 
 import lingogo.testutil.FlashcardBuilder;
@@ -113,4 +118,40 @@ public class FlashcardTest {
             .withForeignPhrase(VALID_CHINESE_PHRASE_HELLO).build();
         assertFalse(GOOD_MORNING_CHINESE_FLASHCARD.equals(editedGoodMorning));
     }
+
+    @Test
+    public void constructor_languageType_holdsCanonicalLanguageType() {
+        Flashcard flashcard = new Flashcard(new LanguageType("chinese"), new Phrase(VALID_ENGLISH_PHRASE_HELLO),
+                new Phrase(VALID_CHINESE_PHRASE_HELLO));
+        assertSame(LanguageType.of(VALID_LANGUAGE_TYPE_CHINESE), flashcard.getLanguageType());
+    }
+
+    @Test
+    public void hashCode_equalFlashcards_equalHashCodes() {
+        Flashcard flashcard = new FlashcardBuilder(HELLO_CHINESE_FLASHCARD).build();
+        assertEquals(Objects.hash(flashcard.getLanguageType(), flashcard.getEnglishPhrase(),
+                flashcard.getForeignPhrase()), flashcard.hashCode());
+        // the cached hash code is returned again
+        assertEquals(HELLO_CHINESE_FLASHCARD.hashCode(), flashcard.hashCode());
+        assertEquals(flashcard.hashCode(), flashcard.getFlippedFlashcard().hashCode());
+    }
+
+    @Test
+    public void withId() {
+        Flashcard flashcardWithId = HELLO_CHINESE_FLASHCARD.withId(5);
+        assertFalse(HELLO_CHINESE_FLASHCARD.hasId());
+        assertTrue(flashcardWithId.hasId());
+        assertEquals(5, flashcardWithId.getId());
+
+        // ids are not compared
+        assertEquals(HELLO_CHINESE_FLASHCARD, flashcardWithId);
+        assertEquals(HELLO_CHINESE_FLASHCARD.hashCode(), flashcardWithId.hashCode());
+
+        // copies keep the id
+        assertEquals(5, new Flashcard(flashcardWithId).getId());
+        assertEquals(5, flashcardWithId.getFlippedFlashcard().getId());
+
+        assertThrows(IllegalArgumentException.class, () -> HELLO_CHINESE_FLASHCARD.withId(Flashcard.UNASSIGNED_ID));
+        assertThrows(IllegalArgumentException.class, () -> HELLO_CHINESE_FLASHCARD.withId(-1));
+    }
 }
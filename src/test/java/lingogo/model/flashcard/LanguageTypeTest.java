@@ -3,6 +3,8 @@ package lingogo.model.flashcard;
 import static lingogo.testutil.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -25,6 +27,35 @@ public class LanguageTypeTest {
         assertEquals(l.value, "Bahasa Melayu");
     }
 
+    @Test
+    public void constructor_extraSpaces_collapsed() {
+        assertEquals("Bahasa Melayu", new LanguageType("bahasa   MELAYU ").value);
+    }
+
+    @Test
+    public void of_sameLanguageType_returnsSameInstance() {
+        LanguageType languageType = LanguageType.of("Chinese");
+        assertSame(languageType, LanguageType.of("Chinese"));
+        assertSame(languageType, LanguageType.of("chinese"));
+        assertSame(languageType, LanguageType.of("CHINESE"));
+        assertEquals(new LanguageType("Chinese"), languageType);
+        assertNotSame(languageType, LanguageType.of("Japanese"));
+    }
+
+    @Test
+    public void intern_equalLanguageTypes_returnsSameInstance() {
+        LanguageType languageType = new LanguageType("korean");
+        assertSame(languageType.intern(), new LanguageType("KOREAN").intern());
+        assertSame(LanguageType.of("Korean"), languageType.intern());
+        assertNotSame(LanguageType.of("Japanese"), languageType.intern());
+    }
+
+    @Test
+    public void of_invalidLanguageType_throwsException() {
+        assertThrows(NullPointerException.class, () -> LanguageType.of(null));
+        assertThrows(IllegalArgumentException.class, () -> LanguageType.of(" Chinese"));
+    }
+
     @Test
     public void isValidLanguageType() {
         // null language type
@@ -36,6 +67,9 @@ public class LanguageTypeTest {
         assertFalse(LanguageType.isValidLanguageType("English\n")); // non alphabet not allowed
         assertFalse(LanguageType.isValidLanguageType(" English")); // preceding whitespace
         assertFalse(LanguageType.isValidLanguageType(":English")); // preceding non-alphabet
+        assertFalse(LanguageType.isValidLanguageType("Engl1sh")); // digits not allowed
+        assertFalse(LanguageType.isValidLanguageType("Français")); // non-ASCII letters not allowed
+        assertFalse(LanguageType.isValidLanguageType("Scottish\tGaelic")); // only spaces separate words
         assertFalse(LanguageType.isValidLanguageType(
                 "eeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeee")); // longer than 50 characters
 
@@ -0,0 +1,107 @@
+package lingogo.model.flashcard;
+
+import static lingogo.testutil.Assert.assertThrows;
+import static lingogo.testutil.TypicalFlashcards.GOOD_MORNING_CHINESE_FLASHCARD;
+import static lingogo.testutil.TypicalFlashcards.HAPPY_ANNIVERSARY_CHINESE;
+import static lingogo.testutil.TypicalFlashcards.HAPPY_BIRTHDAY;
+import static lingogo.testutil.TypicalFlashcards.HELLO_CHINESE_FLASHCARD;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import lingogo.testutil.FlashcardBuilder;
+
+public class PhraseIndexTest {
+    private final UniqueFlashcardList uniqueFlashcardList = new UniqueFlashcardList();
+    private final PhraseIndex phraseIndex = uniqueFlashcardList.getPhraseIndex();
+
+    @Test
+    public void getFlashcardsWithEnglishWord_wordInPhrases_returnsFlashcardsIgnoringCase() {
+        uniqueFlashcardList.setFlashcards(Arrays.asList(HAPPY_BIRTHDAY, HAPPY_ANNIVERSARY_CHINESE,
+                GOOD_MORNING_CHINESE_FLASHCARD));
+        assertEquals(new HashSet<>(Arrays.asList(HAPPY_BIRTHDAY, HAPPY_ANNIVERSARY_CHINESE)),
+                phraseIndex.getFlashcardsWithEnglishWord(" hAPPY "));
+        assertEquals(Collections.singleton(GOOD_MORNING_CHINESE_FLASHCARD),
+                phraseIndex.getFlashcardsWithEnglishWord("morning"));
+
+        // full word match is required
+        assertTrue(phraseIndex.getFlashcardsWithEnglishWord("Happ").isEmpty());
+    }
+
+    @Test
+    public void getFlashcardsWithForeignSubstring_substringOfPhrases_returnsFlashcards() {
+        uniqueFlashcardList.setFlashcards(Arrays.asList(HAPPY_BIRTHDAY, HAPPY_ANNIVERSARY_CHINESE,
+                GOOD_MORNING_CHINESE_FLASHCARD, HELLO_CHINESE_FLASHCARD));
+
+        // single characters
+        assertEquals(Collections.singleton(GOOD_MORNING_CHINESE_FLASHCARD),
+                phraseIndex.getFlashcardsWithForeignSubstring("早"));
+        assertEquals(new HashSet<>(Arrays.asList(HAPPY_BIRTHDAY, HAPPY_ANNIVERSARY_CHINESE)),
+                phraseIndex.getFlashcardsWithForeignSubstring("快"));
+
+        // longer substrings
+        assertEquals(new HashSet<>(Arrays.asList(HAPPY_BIRTHDAY, HAPPY_ANNIVERSARY_CHINESE)),
+                phraseIndex.getFlashcardsWithForeignSubstring("快乐"));
+        assertEquals(Collections.singleton(HAPPY_BIRTHDAY), phraseIndex.getFlashcardsWithForeignSubstring("生日快乐"));
+
+        // characters which are not in any phrase
+        assertTrue(phraseIndex.getFlashcardsWithForeignSubstring("晚").isEmpty());
+        assertTrue(phraseIndex.getFlashcardsWithForeignSubstring("日生").isEmpty());
+    }
+
+    @Test
+    public void getFlashcardsWithForeignSubstring_allBigramsPresentButNotSubstring_returnsEmptySet() {
+        Flashcard flashcard = new FlashcardBuilder().withForeignPhrase("abxbc").build();
+        uniqueFlashcardList.add(flashcard);
+
+        // "abc" has the bigrams "ab" and "bc", which are both in "abxbc"
+        assertTrue(phraseIndex.getFlashcardsWithForeignSubstring("abc").isEmpty());
+        assertEquals(1, phraseIndex.getFlashcardsWithForeignSubstring("bxb").size());
+    }
+
+    @Test
+    public void getFlashcardsWithForeignSubstring_flashcardRemoved_returnsEmptySet() {
+        uniqueFlashcardList.add(HELLO_CHINESE_FLASHCARD);
+        String foreignPhrase = HELLO_CHINESE_FLASHCARD.getForeignPhrase().value;
+        assertEquals(Collections.singleton(HELLO_CHINESE_FLASHCARD),
+                phraseIndex.getFlashcardsWithForeignSubstring(foreignPhrase));
+
+        uniqueFlashcardList.remove(HELLO_CHINESE_FLASHCARD);
+        assertTrue(phraseIndex.getFlashcardsWithForeignSubstring(foreignPhrase).isEmpty());
+    }
+
+    @Test
+    public void getFlashcardsWithForeignSubstring_invalidSubstring_throwsException() {
+        assertThrows(NullPointerException.class, () -> phraseIndex.getFlashcardsWithForeignSubstring(null));
+        assertThrows(IllegalArgumentException.class, () -> phraseIndex.getFlashcardsWithForeignSubstring(""));
+    }
+
+    @Test
+    public void getMatchingFlashcards_singleWordKeywords_returnsUnionOfPostings() {
+        uniqueFlashcardList.setFlashcards(Arrays.asList(HAPPY_BIRTHDAY, HAPPY_ANNIVERSARY_CHINESE,
+                GOOD_MORNING_CHINESE_FLASHCARD, HELLO_CHINESE_FLASHCARD));
+        PhraseContainsKeywordsPredicate predicate =
+                new PhraseContainsKeywordsPredicate(Arrays.asList("MORNING", "生日", "hello"));
+        assertEquals(Optional.of(new HashSet<>(Arrays.asList(HAPPY_BIRTHDAY, GOOD_MORNING_CHINESE_FLASHCARD,
+                HELLO_CHINESE_FLASHCARD))), predicate.getMatchingFlashcards(phraseIndex));
+
+        assertEquals(Optional.of(Collections.singleton(GOOD_MORNING_CHINESE_FLASHCARD)),
+                new EnglishPhraseContainsKeywordsPredicate(Arrays.asList("morning", "生日"))
+                        .getMatchingFlashcards(phraseIndex));
+        assertEquals(Optional.of(Collections.singleton(HAPPY_BIRTHDAY)),
+                new ForeignPhraseContainsKeywordsPredicate(Arrays.asList("morning", "生日"))
+                        .getMatchingFlashcards(phraseIndex));
+    }
+
+    @Test
+    public void getMatchingFlashcards_keywordNotSingleWord_returnsEmptyOptional() {
+        assertEquals(Optional.empty(), new PhraseContainsKeywordsPredicate(Arrays.asList("good morning"))
+                .getMatchingFlashcards(phraseIndex));
+    }
+}
@@ -1,9 +1,12 @@
 package lingogo.model.flashcard;
 
 import static lingogo.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
 public class PhraseTest {
@@ -38,6 +41,8 @@ public class PhraseTest {
         assertFalse(Phrase.isValidPhrase(" ")); // spaces only
         assertFalse(Phrase.isValidPhrase("Good\nMorning")); // new line not allowed
         assertFalse(Phrase.isValidPhrase(" Good Morning")); // preceding whitespace
+        assertFalse(Phrase.isValidPhrase("\tGood Morning")); // preceding tab
+        assertFalse(Phrase.isValidPhrase("\rGood Morning")); // preceding carriage return
         assertFalse(Phrase.isValidPhrase("aaaaaaaaaaaaaaaaaaaa"
                 + "aaaaaaaaaaaaaaaaaaaa"
                 + "aaaaaaaaaaaaaaaaaaaa"
@@ -54,6 +59,7 @@ public class PhraseTest {
         assertTrue(Phrase.isValidPhrase("Good Morning?")); // punctuation: question mark
         assertTrue(Phrase.isValidPhrase("Good_Morning")); // punctuation: underscore
         assertTrue(Phrase.isValidPhrase("Non-stop")); // punctuation: dash
+        assertTrue(Phrase.isValidPhrase("Good\tMorning ")); // whitespace other than new lines after the start
         assertTrue(Phrase.isValidPhrase("This valid string is exactly 50 characters long :D")); // long phrase
 
         // valid Unicode character phrases
@@ -67,6 +73,32 @@ public class PhraseTest {
         assertTrue(Phrase.isValidPhrase("தண்ணீர்")); //Tamil
     }
 
+    @Test
+    public void matchesIgnoringCase() {
+        Phrase phrase = new Phrase("Good Morning");
+        assertTrue(phrase.matchesIgnoringCase(new Phrase("GOOD morning  ")));
+        assertTrue(phrase.matchesIgnoringCase(phrase));
+        assertFalse(phrase.matchesIgnoringCase(new Phrase("Good  Morning")));
+        assertFalse(phrase.matchesIgnoringCase(new Phrase("Good Morning!")));
+        assertTrue(new Phrase("\u0001早安\t").matchesIgnoringCase(new Phrase("早安")));
+        assertThrows(NullPointerException.class, () -> phrase.matchesIgnoringCase(null));
+    }
+
+    @Test
+    public void getFoldedValue() {
+        assertEquals("good morning", new Phrase("Good MORNING  ").getFoldedValue());
+        assertEquals(new Phrase("GOOD morning").getFoldedValue(), new Phrase("good Morning ").getFoldedValue());
+        assertEquals("早安", new Phrase("早安").getFoldedValue());
+    }
+
+    @Test
+    public void getFoldedWords() {
+        Phrase phrase = new Phrase("Good  MORNING\tto you");
+        assertEquals(Arrays.asList("good", "morning", "to", "you"), phrase.getFoldedWords());
+        assertEquals(phrase.getFoldedWords(), phrase.getFoldedWords());
+        assertThrows(UnsupportedOperationException.class, () -> phrase.getFoldedWords().add("again"));
+    }
+
     @Test
     public void equals() {
         String value = "Good Morning";
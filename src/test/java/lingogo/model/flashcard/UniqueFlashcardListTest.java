@@ -1,6 +1,7 @@
 package lingogo.model.flashcard;
 
 import static lingogo.logic.commands.CommandTestUtil.VALID_CHINESE_PHRASE_HELLO;
+import static lingogo.testutil.TypicalFlashcards.AFTERNOON_CHINESE_FLASHCARD;
 import static lingogo.testutil.TypicalFlashcards.GOOD_MORNING_CHINESE_FLASHCARD;
 import static lingogo.testutil.TypicalFlashcards.HELLO_CHINESE_FLASHCARD;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -8,12 +9,18 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import lingogo.model.flashcard.exceptions.DuplicateFlashcardException;
 import lingogo.model.flashcard.exceptions.FlashcardNotFoundException;
 import lingogo.testutil.FlashcardBuilder;
@@ -45,6 +52,23 @@ public class UniqueFlashcardListTest {
         assertTrue(uniqueFlashcardList.contains(editedFlashcard));
     }
 
+    @Test
+    public void contains_flashcardWithDifferentCaseEnglishPhraseInList_returnsTrue() {
+        uniqueFlashcardList.add(GOOD_MORNING_CHINESE_FLASHCARD);
+        Flashcard editedFlashcard = new FlashcardBuilder(GOOD_MORNING_CHINESE_FLASHCARD)
+                .withEnglishPhrase(GOOD_MORNING_CHINESE_FLASHCARD.getEnglishPhrase().value.toUpperCase() + " ")
+                .build();
+        assertTrue(uniqueFlashcardList.contains(editedFlashcard));
+    }
+
+    @Test
+    public void contains_flashcardWithDifferentForeignPhraseInList_returnsFalse() {
+        uniqueFlashcardList.add(GOOD_MORNING_CHINESE_FLASHCARD);
+        Flashcard editedFlashcard = new FlashcardBuilder(GOOD_MORNING_CHINESE_FLASHCARD)
+                .withForeignPhrase(VALID_CHINESE_PHRASE_HELLO).build();
+        assertFalse(uniqueFlashcardList.contains(editedFlashcard));
+    }
+
     @Test
     public void add_nullFlashcard_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueFlashcardList.add(null));
@@ -56,6 +80,39 @@ public class UniqueFlashcardListTest {
         assertThrows(DuplicateFlashcardException.class, () -> uniqueFlashcardList.add(GOOD_MORNING_CHINESE_FLASHCARD));
     }
 
+    @Test
+    public void addAll_nullCollection_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueFlashcardList.addAll(null));
+    }
+
+    @Test
+    public void addAll_collectionWithNullFlashcard_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueFlashcardList
+                .addAll(Arrays.asList(GOOD_MORNING_CHINESE_FLASHCARD, null)));
+    }
+
+    @Test
+    public void addAll_existingAndDuplicateFlashcards_addsOnlyNewFlashcards() {
+        uniqueFlashcardList.add(GOOD_MORNING_CHINESE_FLASHCARD);
+        int numberOfFlashcardsAdded = uniqueFlashcardList.addAll(Arrays.asList(GOOD_MORNING_CHINESE_FLASHCARD,
+                HELLO_CHINESE_FLASHCARD, HELLO_CHINESE_FLASHCARD));
+
+        assertEquals(1, numberOfFlashcardsAdded);
+        UniqueFlashcardList expectedUniqueFlashcardList = new UniqueFlashcardList();
+        expectedUniqueFlashcardList.add(GOOD_MORNING_CHINESE_FLASHCARD);
+        expectedUniqueFlashcardList.add(HELLO_CHINESE_FLASHCARD);
+        assertEquals(expectedUniqueFlashcardList, uniqueFlashcardList);
+    }
+
+    @Test
+    public void addAll_newFlashcards_firesSingleChangeEvent() {
+        List<Integer> changeCount = new ArrayList<>();
+        uniqueFlashcardList.asUnmodifiableObservableList().addListener((ListChangeListener<Flashcard>) change ->
+                changeCount.add(1));
+        uniqueFlashcardList.addAll(Arrays.asList(GOOD_MORNING_CHINESE_FLASHCARD, HELLO_CHINESE_FLASHCARD));
+        assertEquals(1, changeCount.size());
+    }
+
     @Test
     public void setFlashcard_nullTargetFlashcard_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueFlashcardList
@@ -103,6 +160,14 @@ public class UniqueFlashcardListTest {
         assertEquals(expectedUniqueFlashcardList, uniqueFlashcardList);
     }
 
+    @Test
+    public void setFlashcard_editedFlashcardHasDifferentIdentity_updatesContains() {
+        uniqueFlashcardList.add(GOOD_MORNING_CHINESE_FLASHCARD);
+        uniqueFlashcardList.setFlashcard(GOOD_MORNING_CHINESE_FLASHCARD, HELLO_CHINESE_FLASHCARD);
+        assertFalse(uniqueFlashcardList.contains(GOOD_MORNING_CHINESE_FLASHCARD));
+        assertTrue(uniqueFlashcardList.contains(HELLO_CHINESE_FLASHCARD));
+    }
+
     @Test
     public void setFlashcard_editedFlashcardHasNonUniqueIdentity_throwsDuplicateFlashcardException() {
         uniqueFlashcardList.add(GOOD_MORNING_CHINESE_FLASHCARD);
@@ -130,6 +195,15 @@ public class UniqueFlashcardListTest {
         assertEquals(expectedUniqueFlashcardList, uniqueFlashcardList);
     }
 
+    @Test
+    public void remove_existingFlashcard_canBeAddedAgain() {
+        uniqueFlashcardList.add(GOOD_MORNING_CHINESE_FLASHCARD);
+        uniqueFlashcardList.remove(GOOD_MORNING_CHINESE_FLASHCARD);
+        assertFalse(uniqueFlashcardList.contains(GOOD_MORNING_CHINESE_FLASHCARD));
+        uniqueFlashcardList.add(GOOD_MORNING_CHINESE_FLASHCARD);
+        assertTrue(uniqueFlashcardList.contains(GOOD_MORNING_CHINESE_FLASHCARD));
+    }
+
 
     @Test
     public void setFlashcards_nullUniqueFlashcardList_throwsNullPointerException() {
@@ -162,6 +236,14 @@ public class UniqueFlashcardListTest {
         assertEquals(expectedUniqueFlashcardList, uniqueFlashcardList);
     }
 
+    @Test
+    public void setFlashcards_list_replacesContainedFlashcards() {
+        uniqueFlashcardList.add(GOOD_MORNING_CHINESE_FLASHCARD);
+        uniqueFlashcardList.setFlashcards(Collections.singletonList(HELLO_CHINESE_FLASHCARD));
+        assertFalse(uniqueFlashcardList.contains(GOOD_MORNING_CHINESE_FLASHCARD));
+        assertTrue(uniqueFlashcardList.contains(HELLO_CHINESE_FLASHCARD));
+    }
+
     @Test
     public void setFlashcards_listWithDuplicateFlashcards_throwsDuplicateFlashcardException() {
         List<Flashcard> listWithDuplicateFlashcards = Arrays.asList(GOOD_MORNING_CHINESE_FLASHCARD,
@@ -170,9 +252,179 @@ public class UniqueFlashcardListTest {
                 .setFlashcards(listWithDuplicateFlashcards));
     }
 
+    @Test
+    public void setFlashcards_listWithDuplicateFlashcards_leavesListUnchanged() {
+        uniqueFlashcardList.add(HELLO_CHINESE_FLASHCARD);
+        List<Flashcard> listWithDuplicateFlashcards = Arrays.asList(GOOD_MORNING_CHINESE_FLASHCARD,
+                GOOD_MORNING_CHINESE_FLASHCARD);
+        assertThrows(DuplicateFlashcardException.class, () -> uniqueFlashcardList
+                .setFlashcards(listWithDuplicateFlashcards));
+        assertTrue(uniqueFlashcardList.contains(HELLO_CHINESE_FLASHCARD));
+        assertFalse(uniqueFlashcardList.contains(GOOD_MORNING_CHINESE_FLASHCARD));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
             -> uniqueFlashcardList.asUnmodifiableObservableList().remove(0));
     }
+
+    @Test
+    public void iterator_remove_throwsUnsupportedOperationException() {
+        uniqueFlashcardList.add(GOOD_MORNING_CHINESE_FLASHCARD);
+        Iterator<Flashcard> iterator = uniqueFlashcardList.iterator();
+        iterator.next();
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+
+    @Test
+    public void getPhraseIndex_listModified_indexKeptUpToDate() {
+        uniqueFlashcardList.add(GOOD_MORNING_CHINESE_FLASHCARD);
+        PhraseIndex phraseIndex = uniqueFlashcardList.getPhraseIndex();
+        assertEquals(Collections.singleton(GOOD_MORNING_CHINESE_FLASHCARD),
+                phraseIndex.getFlashcardsWithEnglishWord("MORNING"));
+
+        uniqueFlashcardList.add(HELLO_CHINESE_FLASHCARD);
+        assertEquals(Collections.singleton(HELLO_CHINESE_FLASHCARD), phraseIndex.getFlashcardsWithEnglishWord("hello"));
+
+        Flashcard editedFlashcard = new FlashcardBuilder(GOOD_MORNING_CHINESE_FLASHCARD)
+                .withEnglishPhrase("Good night").build();
+        uniqueFlashcardList.setFlashcard(GOOD_MORNING_CHINESE_FLASHCARD, editedFlashcard);
+        assertTrue(phraseIndex.getFlashcardsWithEnglishWord("morning").isEmpty());
+        assertEquals(Collections.singleton(editedFlashcard), phraseIndex.getFlashcardsWithEnglishWord("night"));
+
+        uniqueFlashcardList.remove(HELLO_CHINESE_FLASHCARD);
+        assertTrue(phraseIndex.getFlashcardsWithEnglishWord("hello").isEmpty());
+
+        uniqueFlashcardList.setFlashcards(Collections.singletonList(HELLO_CHINESE_FLASHCARD));
+        assertTrue(phraseIndex.getFlashcardsWithEnglishWord("good").isEmpty());
+        assertEquals(Collections.singleton(HELLO_CHINESE_FLASHCARD), phraseIndex.getFlashcardsWithEnglishWord("hello"));
+    }
+
+    @Test
+    public void getPhraseIndex_listenerOfList_seesUpdatedIndex() {
+        PhraseIndex phraseIndex = uniqueFlashcardList.getPhraseIndex();
+        List<Boolean> isIndexedWhenAdded = new ArrayList<>();
+        uniqueFlashcardList.asUnmodifiableObservableList().addListener((ListChangeListener<Flashcard>) change -> {
+            while (change.next()) {
+                change.getAddedSubList().forEach(flashcard -> isIndexedWhenAdded.add(
+                        phraseIndex.getFlashcardsWithEnglishWord("hello").contains(flashcard)));
+            }
+        });
+
+        uniqueFlashcardList.add(HELLO_CHINESE_FLASHCARD);
+        assertEquals(Collections.singletonList(true), isIndexedWhenAdded);
+    }
+
+    @Test
+    public void getPositionsOf_flashcardsInList_returnsPositionsAfterRemovals() {
+        uniqueFlashcardList.setFlashcards(Arrays.asList(HELLO_CHINESE_FLASHCARD, GOOD_MORNING_CHINESE_FLASHCARD,
+                AFTERNOON_CHINESE_FLASHCARD));
+        uniqueFlashcardList.remove(HELLO_CHINESE_FLASHCARD);
+        List<Flashcard> flashcards = uniqueFlashcardList.asUnmodifiableObservableList();
+
+        BitSet expectedPositions = new BitSet();
+        expectedPositions.set(1);
+        assertEquals(expectedPositions, uniqueFlashcardList.getPositionsOf(
+                uniqueFlashcardList.getPhraseIndex().getFlashcardsWithEnglishWord("afternoon")));
+        expectedPositions.set(0);
+        assertEquals(expectedPositions, uniqueFlashcardList.getPositionsOf(flashcards));
+    }
+
+    @Test
+    public void getFlashcardsOfLanguageType_listModified_viewKeptUpToDate() {
+        Flashcard tamilFlashcard = new FlashcardBuilder(HELLO_CHINESE_FLASHCARD).withLanguageType("Tamil").build();
+        Set<Flashcard> chineseFlashcards = uniqueFlashcardList.getFlashcardsOfLanguageType(new LanguageType("chinese"));
+        assertTrue(chineseFlashcards.isEmpty());
+
+        uniqueFlashcardList.add(GOOD_MORNING_CHINESE_FLASHCARD);
+        uniqueFlashcardList.addAll(Arrays.asList(HELLO_CHINESE_FLASHCARD, tamilFlashcard));
+        assertEquals(new HashSet<>(Arrays.asList(GOOD_MORNING_CHINESE_FLASHCARD, HELLO_CHINESE_FLASHCARD)),
+                chineseFlashcards);
+        assertEquals(Collections.singleton(tamilFlashcard),
+                uniqueFlashcardList.getFlashcardsOfLanguageType(new LanguageType("Tamil")));
+
+        Flashcard editedFlashcard = new FlashcardBuilder(HELLO_CHINESE_FLASHCARD).withLanguageType("Japanese").build();
+        uniqueFlashcardList.setFlashcard(HELLO_CHINESE_FLASHCARD, editedFlashcard);
+        assertEquals(Collections.singleton(GOOD_MORNING_CHINESE_FLASHCARD), chineseFlashcards);
+
+        uniqueFlashcardList.remove(GOOD_MORNING_CHINESE_FLASHCARD);
+        assertTrue(chineseFlashcards.isEmpty());
+
+        uniqueFlashcardList.setFlashcards(Collections.singletonList(HELLO_CHINESE_FLASHCARD));
+        assertEquals(Collections.singleton(HELLO_CHINESE_FLASHCARD), chineseFlashcards);
+        assertTrue(uniqueFlashcardList.getFlashcardsOfLanguageType(new LanguageType("Japanese")).isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> chineseFlashcards.remove(HELLO_CHINESE_FLASHCARD));
+    }
+
+    @Test
+    public void add_flashcards_assignedUniqueIds() {
+        uniqueFlashcardList.add(GOOD_MORNING_CHINESE_FLASHCARD.withId(7));
+        uniqueFlashcardList.add(HELLO_CHINESE_FLASHCARD.withId(7));
+        Flashcard tamilFlashcard = new FlashcardBuilder(HELLO_CHINESE_FLASHCARD).withLanguageType("Tamil").build();
+        uniqueFlashcardList.addAll(Collections.singletonList(tamilFlashcard));
+
+        List<Flashcard> flashcards = uniqueFlashcardList.asUnmodifiableObservableList();
+        // an unused id is kept, and flashcards without an id or with a used id are given new ids
+        assertEquals(7, flashcards.get(0).getId());
+        assertEquals(8, flashcards.get(1).getId());
+        assertEquals(9, flashcards.get(2).getId());
+    }
+
+    @Test
+    public void setFlashcard_editedFlashcard_keepsIdOfTarget() {
+        uniqueFlashcardList.add(GOOD_MORNING_CHINESE_FLASHCARD);
+        uniqueFlashcardList.add(HELLO_CHINESE_FLASHCARD);
+        Flashcard target = uniqueFlashcardList.asUnmodifiableObservableList().get(1);
+        Flashcard editedFlashcard = new FlashcardBuilder(HELLO_CHINESE_FLASHCARD).withLanguageType("Tamil").build();
+
+        uniqueFlashcardList.setFlashcard(target, editedFlashcard);
+        Flashcard storedFlashcard = uniqueFlashcardList.asUnmodifiableObservableList().get(1);
+        assertEquals(editedFlashcard, storedFlashcard);
+        assertEquals(target.getId(), storedFlashcard.getId());
+
+        uniqueFlashcardList.remove(storedFlashcard);
+        assertEquals(Collections.singletonList(GOOD_MORNING_CHINESE_FLASHCARD),
+                uniqueFlashcardList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setFlashcards_list_keepsUniqueIds() {
+        uniqueFlashcardList.setFlashcards(Arrays.asList(HELLO_CHINESE_FLASHCARD,
+                GOOD_MORNING_CHINESE_FLASHCARD.withId(3), new FlashcardBuilder().withEnglishPhrase("Bye").build()
+                        .withId(3)));
+        List<Flashcard> flashcards = uniqueFlashcardList.asUnmodifiableObservableList();
+        assertEquals(4, flashcards.get(0).getId());
+        assertEquals(3, flashcards.get(1).getId());
+        assertEquals(5, flashcards.get(2).getId());
+
+        uniqueFlashcardList.add(new FlashcardBuilder().withEnglishPhrase("Thank you").build());
+        assertEquals(6, flashcards.get(3).getId());
+    }
+
+    @Test
+    public void remove_manyFlashcards_laterFlashcardsStillFound() {
+        List<Flashcard> expected = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            expected.add(new FlashcardBuilder().withEnglishPhrase("Phrase " + i).build());
+        }
+        uniqueFlashcardList.addAll(expected);
+
+        // removes enough flashcards from the front and middle of the list for its positions to be compacted
+        for (int i = 0; i < 200; i++) {
+            Flashcard toRemove = expected.remove(i % 3 == 0 ? 0 : expected.size() / 2);
+            uniqueFlashcardList.remove(toRemove);
+        }
+        Flashcard target = expected.get(expected.size() - 1);
+        Flashcard editedFlashcard = new FlashcardBuilder(target).withEnglishPhrase("Edited").build();
+        uniqueFlashcardList.setFlashcard(target, editedFlashcard);
+        expected.set(expected.size() - 1, editedFlashcard);
+        assertEquals(expected, uniqueFlashcardList.asUnmodifiableObservableList());
+
+        for (Flashcard flashcard : new ArrayList<>(expected)) {
+            uniqueFlashcardList.remove(flashcard);
+            expected.remove(flashcard);
+            assertEquals(expected, uniqueFlashcardList.asUnmodifiableObservableList());
+        }
+    }
 }
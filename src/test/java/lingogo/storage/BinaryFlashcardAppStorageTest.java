@@ -0,0 +1,179 @@
+package lingogo.storage;
+
+import static lingogo.testutil.Assert.assertThrows;
+import static lingogo.testutil.TestUtil.getFlashcardIds;
+import static lingogo.testutil.TypicalFlashcards.AFTERNOON_CHINESE_FLASHCARD;
+import static lingogo.testutil.TypicalFlashcards.HAPPY_BIRTHDAY;
+import static lingogo.testutil.TypicalFlashcards.THANK_YOU_CHINESE_FLASHCARD;
+import static lingogo.testutil.TypicalFlashcards.getTypicalFlashcardApp;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import lingogo.commons.exceptions.DataConversionException;
+import lingogo.model.FlashcardApp;
+import lingogo.model.ReadOnlyFlashcardApp;
+import lingogo.model.flashcard.Flashcard;
+
+public class BinaryFlashcardAppStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void toBinaryFilePath() {
+        assertEquals(Paths.get("data", "flashcardapp.bin"),
+                BinaryFlashcardAppStorage.toBinaryFilePath(Paths.get("data", "flashcardapp.json")));
+        assertEquals(Paths.get("flashcardapp.bin"),
+                BinaryFlashcardAppStorage.toBinaryFilePath(Paths.get("flashcardapp")));
+    }
+
+    @Test
+    public void readFlashcardApp_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryFlashcardAppStorage(testFolder.resolve("data.bin")).readFlashcardApp(null));
+    }
+
+    @Test
+    public void readFlashcardApp_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryFlashcardAppStorage(testFolder.resolve("NonExistentFile.bin")).readFlashcardApp()
+                .isPresent());
+    }
+
+    @Test
+    public void readAndSaveFlashcardApp_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempFlashcardApp.bin");
+        FlashcardApp original = getTypicalFlashcardApp();
+        BinaryFlashcardAppStorage binaryFlashcardAppStorage = new BinaryFlashcardAppStorage(filePath);
+
+        // Save in new file and read back
+        binaryFlashcardAppStorage.saveFlashcardApp(original, filePath);
+        ReadOnlyFlashcardApp readBack = binaryFlashcardAppStorage.readFlashcardApp(filePath).get();
+        assertEquals(original, new FlashcardApp(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addFlashcard(THANK_YOU_CHINESE_FLASHCARD);
+        original.removeFlashcard(AFTERNOON_CHINESE_FLASHCARD);
+        binaryFlashcardAppStorage.saveFlashcardApp(original, filePath);
+        readBack = binaryFlashcardAppStorage.readFlashcardApp(filePath).get();
+        assertEquals(original, new FlashcardApp(readBack));
+
+        // Save and read without specifying file path
+        original.addFlashcard(HAPPY_BIRTHDAY);
+        binaryFlashcardAppStorage.saveFlashcardApp(original);
+        readBack = binaryFlashcardAppStorage.readFlashcardApp().get();
+        assertEquals(original, new FlashcardApp(readBack));
+    }
+
+    @Test
+    public void readFlashcardApp_sameLanguageType_sharesLanguageTypeInstance() throws Exception {
+        Path filePath = testFolder.resolve("TempFlashcardApp.bin");
+        BinaryFlashcardAppStorage binaryFlashcardAppStorage = new BinaryFlashcardAppStorage(filePath);
+        binaryFlashcardAppStorage.saveFlashcardApp(getTypicalFlashcardApp());
+
+        ReadOnlyFlashcardApp readBack = binaryFlashcardAppStorage.readFlashcardApp().get();
+        Flashcard first = readBack.getFlashcardList().get(0);
+        Flashcard second = readBack.getFlashcardList().get(1);
+        assertEquals(first.getLanguageType(), second.getLanguageType());
+        assertSame(first.getLanguageType(), second.getLanguageType());
+    }
+
+    @Test
+    public void readFlashcardApp_binaryFileSmallerThanJson() throws Exception {
+        Path binaryFilePath = testFolder.resolve("TempFlashcardApp.bin");
+        Path jsonFilePath = testFolder.resolve("TempFlashcardApp.json");
+        new BinaryFlashcardAppStorage(binaryFilePath).saveFlashcardApp(getTypicalFlashcardApp());
+        new JsonFlashcardAppStorage(jsonFilePath, 0, true).saveFlashcardApp(getTypicalFlashcardApp());
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readFlashcardApp_notBinaryFormat_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempFlashcardApp.bin");
+        new JsonFlashcardAppStorage(filePath).saveFlashcardApp(getTypicalFlashcardApp());
+        assertThrows(DataConversionException.class, () -> new BinaryFlashcardAppStorage(filePath).readFlashcardApp());
+    }
+
+    @Test
+    public void readFlashcardApp_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempFlashcardApp.bin");
+        BinaryFlashcardAppStorage binaryFlashcardAppStorage = new BinaryFlashcardAppStorage(filePath);
+        binaryFlashcardAppStorage.saveFlashcardApp(getTypicalFlashcardApp());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+        assertThrows(DataConversionException.class, binaryFlashcardAppStorage::readFlashcardApp);
+    }
+
+    @Test
+    public void readFlashcardApp_invalidValues_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempFlashcardApp.bin");
+
+        // language type index out of range
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(bytes);
+        data.writeInt(BinaryFlashcardAppStorage.MAGIC_NUMBER);
+        data.writeInt(BinaryFlashcardAppStorage.FORMAT_VERSION);
+        data.writeInt(0);
+        data.writeInt(1);
+        data.writeInt(0);
+        Files.write(filePath, bytes.toByteArray());
+        assertThrows(DataConversionException.class, () -> new BinaryFlashcardAppStorage(filePath).readFlashcardApp());
+
+        // unsupported version
+        bytes.reset();
+        data.writeInt(BinaryFlashcardAppStorage.MAGIC_NUMBER);
+        data.writeInt(BinaryFlashcardAppStorage.FORMAT_VERSION + 1);
+        Files.write(filePath, bytes.toByteArray());
+        assertThrows(DataConversionException.class, () -> new BinaryFlashcardAppStorage(filePath).readFlashcardApp());
+    }
+
+    @Test
+    public void readFlashcardApp_savedFlashcardApp_keepsIds() throws Exception {
+        Path filePath = testFolder.resolve("TempFlashcardApp.bin");
+        FlashcardApp original = getTypicalFlashcardApp();
+        original.removeFlashcard(AFTERNOON_CHINESE_FLASHCARD);
+        original.addFlashcard(THANK_YOU_CHINESE_FLASHCARD);
+        new BinaryFlashcardAppStorage(filePath).saveFlashcardApp(original);
+
+        ReadOnlyFlashcardApp readBack = new BinaryFlashcardAppStorage(filePath).readFlashcardApp().get();
+        assertEquals(getFlashcardIds(original), getFlashcardIds(readBack));
+        assertEquals(getFlashcardIds(original),
+                getFlashcardIds(new MappedFlashcardAppStorage(new BinaryFlashcardAppStorage(filePath))
+                        .readFlashcardApp().get()));
+    }
+
+    @Test
+    public void getUtf8Length() {
+        for (String value : Arrays.asList("", "Hello", "caf\u00e9", "\u4f60\u597d", "\ud83d\ude00!", "\ud83d")) {
+            assertEquals(value.getBytes(StandardCharsets.UTF_8).length,
+                    BinaryFlashcardAppStorage.getUtf8Length(value));
+        }
+    }
+
+    @Test
+    public void saveFlashcardApp_nullFlashcardApp_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryFlashcardAppStorage(testFolder.resolve("data.bin")).saveFlashcardApp(null));
+    }
+
+    @Test
+    public void saveFlashcardApp_nullFilePath_throwsNullPointerException() {
+        BinaryFlashcardAppStorage binaryFlashcardAppStorage =
+                new BinaryFlashcardAppStorage(testFolder.resolve("data.bin"));
+        assertThrows(NullPointerException.class, () ->
+                binaryFlashcardAppStorage.saveFlashcardApp(new FlashcardApp(), null));
+    }
+}
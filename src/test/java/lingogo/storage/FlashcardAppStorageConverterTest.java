@@ -0,0 +1,97 @@
+package lingogo.storage;
+
+import static lingogo.testutil.Assert.assertThrows;
+import static lingogo.testutil.TypicalFlashcards.HAPPY_BIRTHDAY;
+import static lingogo.testutil.TypicalFlashcards.getTypicalFlashcardApp;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import lingogo.model.FlashcardApp;
+
+public class FlashcardAppStorageConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private JsonFlashcardAppStorage jsonStorage;
+    private BinaryFlashcardAppStorage binaryStorage;
+
+    @BeforeEach
+    public void setUp() {
+        jsonStorage = new JsonFlashcardAppStorage(testFolder.resolve("flashcardapp.json"));
+        binaryStorage = new BinaryFlashcardAppStorage(testFolder.resolve("flashcardapp.bin"));
+    }
+
+    @Test
+    public void convertIfOutdated_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> FlashcardAppStorageConverter.convertIfOutdated(null,
+                binaryStorage));
+        assertThrows(NullPointerException.class, () -> FlashcardAppStorageConverter.convertIfOutdated(jsonStorage,
+                null));
+    }
+
+    @Test
+    public void convertIfOutdated_missingSource_notConverted() throws Exception {
+        assertFalse(FlashcardAppStorageConverter.convertIfOutdated(jsonStorage, binaryStorage));
+        assertFalse(Files.exists(binaryStorage.getFlashcardAppFilePath()));
+    }
+
+    @Test
+    public void convertIfOutdated_jsonToBinaryAndBack_lossless() throws Exception {
+        FlashcardApp original = getTypicalFlashcardApp();
+        jsonStorage.saveFlashcardApp(original);
+        String originalJson = new String(Files.readAllBytes(jsonStorage.getFlashcardAppFilePath()), "UTF-8");
+
+        assertTrue(FlashcardAppStorageConverter.convertIfOutdated(jsonStorage, binaryStorage));
+        assertEquals(original, new FlashcardApp(binaryStorage.readFlashcardApp().get()));
+
+        Files.delete(jsonStorage.getFlashcardAppFilePath());
+        assertTrue(FlashcardAppStorageConverter.convertIfOutdated(binaryStorage, jsonStorage));
+        assertEquals(originalJson, new String(Files.readAllBytes(jsonStorage.getFlashcardAppFilePath()), "UTF-8"));
+    }
+
+    @Test
+    public void convertIfOutdated_targetOlderThanSource_converted() throws Exception {
+        FlashcardApp original = getTypicalFlashcardApp();
+        binaryStorage.saveFlashcardApp(original);
+        original.addFlashcard(HAPPY_BIRTHDAY);
+        jsonStorage.saveFlashcardApp(original);
+
+        // target up to date -> not converted
+        Files.setLastModifiedTime(binaryStorage.getFlashcardAppFilePath(), FileTime.fromMillis(2000));
+        Files.setLastModifiedTime(jsonStorage.getFlashcardAppFilePath(), FileTime.fromMillis(1000));
+        assertFalse(FlashcardAppStorageConverter.convertIfOutdated(jsonStorage, binaryStorage));
+
+        // target outdated -> converted
+        Files.setLastModifiedTime(binaryStorage.getFlashcardAppFilePath(), FileTime.fromMillis(1000));
+        Files.setLastModifiedTime(jsonStorage.getFlashcardAppFilePath(), FileTime.fromMillis(2000));
+        assertTrue(FlashcardAppStorageConverter.convertIfOutdated(jsonStorage, binaryStorage));
+        assertEquals(original, new FlashcardApp(binaryStorage.readFlashcardApp().get()));
+    }
+
+    @Test
+    public void convertIfOutdated_journaledSource_convertedWithJournalReplayed() throws Exception {
+        JournalFlashcardAppStorage journaledJsonStorage = new JournalFlashcardAppStorage(jsonStorage);
+        FlashcardApp original = getTypicalFlashcardApp();
+        journaledJsonStorage.saveFlashcardApp(original);
+        binaryStorage.saveFlashcardApp(original);
+        original.addFlashcard(HAPPY_BIRTHDAY);
+        journaledJsonStorage.saveFlashcardApp(original);
+
+        // only the journal is newer than the target
+        Files.setLastModifiedTime(jsonStorage.getFlashcardAppFilePath(), FileTime.fromMillis(1000));
+        Files.setLastModifiedTime(binaryStorage.getFlashcardAppFilePath(), FileTime.fromMillis(2000));
+        Files.setLastModifiedTime(journaledJsonStorage.getJournalFilePath(), FileTime.fromMillis(3000));
+        assertTrue(FlashcardAppStorageConverter.convertIfOutdated(journaledJsonStorage, binaryStorage));
+        assertEquals(original, new FlashcardApp(binaryStorage.readFlashcardApp().get()));
+    }
+}
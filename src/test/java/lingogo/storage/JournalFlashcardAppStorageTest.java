@@ -0,0 +1,252 @@
+package lingogo.storage;
+
+import static lingogo.testutil.Assert.assertThrows;
+import static lingogo.testutil.TestUtil.getFlashcardIds;
+import static lingogo.testutil.TypicalFlashcards.BYE_CHINESE_FLASHCARD;
+import static lingogo.testutil.TypicalFlashcards.HAPPY_BIRTHDAY;
+import static lingogo.testutil.TypicalFlashcards.HELLO_CHINESE_FLASHCARD;
+import static lingogo.testutil.TypicalFlashcards.THANK_YOU_CHINESE_FLASHCARD;
+import static lingogo.testutil.TypicalFlashcards.getTypicalFlashcardApp;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import lingogo.model.FlashcardApp;
+import lingogo.model.ReadOnlyFlashcardApp;
+import lingogo.model.flashcard.Flashcard;
+
+public class JournalFlashcardAppStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private JsonFlashcardAppStorage snapshotStorage;
+    private JournalFlashcardAppStorage journalStorage;
+
+    @BeforeEach
+    public void setUp() {
+        snapshotStorage = new JsonFlashcardAppStorage(testFolder.resolve("flashcardapp.json"));
+        journalStorage = new JournalFlashcardAppStorage(snapshotStorage);
+    }
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournalFlashcardAppStorage(null));
+    }
+
+    @Test
+    public void toJournalFilePath() {
+        assertEquals(testFolder.resolve("flashcardapp.json.journal"), journalStorage.getJournalFilePath());
+    }
+
+    @Test
+    public void saveFlashcardApp_firstSave_writesDataFileAndEmptyJournal() throws Exception {
+        FlashcardApp original = getTypicalFlashcardApp();
+        journalStorage.saveFlashcardApp(original);
+
+        assertEquals(original, new FlashcardApp(snapshotStorage.readFlashcardApp().get()));
+        assertEquals(JournalFlashcardAppStorage.HEADER_SIZE, Files.size(journalStorage.getJournalFilePath()));
+    }
+
+    @Test
+    public void saveFlashcardApp_changes_appendedToJournalAndReplayed() throws Exception {
+        FlashcardApp flashcardApp = getTypicalFlashcardApp();
+        journalStorage.saveFlashcardApp(flashcardApp);
+        byte[] dataFileContent = Files.readAllBytes(snapshotStorage.getFlashcardAppFilePath());
+
+        // add
+        flashcardApp.addFlashcard(HELLO_CHINESE_FLASHCARD);
+        journalStorage.saveFlashcardApp(flashcardApp);
+        // edit
+        flashcardApp.setFlashcard(BYE_CHINESE_FLASHCARD, THANK_YOU_CHINESE_FLASHCARD);
+        journalStorage.saveFlashcardApp(flashcardApp);
+        // delete
+        flashcardApp.removeFlashcard(flashcardApp.getFlashcardList().get(0));
+        journalStorage.saveFlashcardApp(flashcardApp);
+        // unchanged
+        long journalSize = Files.size(journalStorage.getJournalFilePath());
+        journalStorage.saveFlashcardApp(flashcardApp);
+        assertEquals(journalSize, Files.size(journalStorage.getJournalFilePath()));
+
+        // the data file is not rewritten
+        assertEquals(new String(dataFileContent, "UTF-8"),
+                new String(Files.readAllBytes(snapshotStorage.getFlashcardAppFilePath()), "UTF-8"));
+
+        JournalFlashcardAppStorage reopenedStorage = new JournalFlashcardAppStorage(snapshotStorage);
+        FlashcardApp readBack = new FlashcardApp(reopenedStorage.readFlashcardApp().get());
+        assertEquals(flashcardApp, readBack);
+
+        // clear, after reopening
+        reopenedStorage.saveFlashcardApp(new FlashcardApp());
+        assertEquals(new FlashcardApp(),
+                new FlashcardApp(new JournalFlashcardAppStorage(snapshotStorage).readFlashcardApp().get()));
+    }
+
+    @Test
+    public void flushFlashcardApp_journaledChanges_compactedIntoDataFile() throws Exception {
+        FlashcardApp flashcardApp = getTypicalFlashcardApp();
+        journalStorage.saveFlashcardApp(flashcardApp);
+        flashcardApp.addFlashcard(HAPPY_BIRTHDAY);
+        journalStorage.saveFlashcardApp(flashcardApp);
+        assertTrue(Files.size(journalStorage.getJournalFilePath()) > JournalFlashcardAppStorage.HEADER_SIZE);
+
+        journalStorage.flushFlashcardApp();
+        assertEquals(JournalFlashcardAppStorage.HEADER_SIZE, Files.size(journalStorage.getJournalFilePath()));
+        assertEquals(flashcardApp, new FlashcardApp(snapshotStorage.readFlashcardApp().get()));
+        assertEquals(flashcardApp,
+                new FlashcardApp(new JournalFlashcardAppStorage(snapshotStorage).readFlashcardApp().get()));
+    }
+
+    @Test
+    public void readFlashcardApp_journaledChanges_keepIds() throws Exception {
+        FlashcardApp flashcardApp = getTypicalFlashcardApp();
+        journalStorage.saveFlashcardApp(flashcardApp);
+
+        // a flashcard which is deleted and added again is given a new id
+        Flashcard firstFlashcard = flashcardApp.getFlashcardList().get(0);
+        flashcardApp.removeFlashcard(firstFlashcard);
+        flashcardApp.addFlashcard(firstFlashcard);
+        flashcardApp.setFlashcard(BYE_CHINESE_FLASHCARD, THANK_YOU_CHINESE_FLASHCARD);
+        journalStorage.saveFlashcardApp(flashcardApp);
+
+        ReadOnlyFlashcardApp readBack = new JournalFlashcardAppStorage(snapshotStorage).readFlashcardApp().get();
+        assertEquals(getFlashcardIds(flashcardApp), getFlashcardIds(readBack));
+    }
+
+    @Test
+    public void readFlashcardApp_incompleteRecord_discarded() throws Exception {
+        FlashcardApp flashcardApp = getTypicalFlashcardApp();
+        journalStorage.saveFlashcardApp(flashcardApp);
+        flashcardApp.addFlashcard(HAPPY_BIRTHDAY);
+        journalStorage.saveFlashcardApp(flashcardApp);
+        long journalSize = Files.size(journalStorage.getJournalFilePath());
+
+        // simulate a crash while appending a record
+        Files.write(journalStorage.getJournalFilePath(), new byte[] {0, 0, 0, 40, 1, 2, 3},
+                StandardOpenOption.APPEND);
+
+        JournalFlashcardAppStorage reopenedStorage = new JournalFlashcardAppStorage(snapshotStorage);
+        assertEquals(flashcardApp, new FlashcardApp(reopenedStorage.readFlashcardApp().get()));
+        assertEquals(journalSize, Files.size(journalStorage.getJournalFilePath()));
+
+        // new records are appended after the last complete record
+        flashcardApp.addFlashcard(HELLO_CHINESE_FLASHCARD);
+        reopenedStorage.saveFlashcardApp(flashcardApp);
+        assertEquals(flashcardApp,
+                new FlashcardApp(new JournalFlashcardAppStorage(snapshotStorage).readFlashcardApp().get()));
+    }
+
+    @Test
+    public void readFlashcardApp_dataFileReplacedAfterJournal_journalIgnored() throws Exception {
+        FlashcardApp flashcardApp = getTypicalFlashcardApp();
+        journalStorage.saveFlashcardApp(flashcardApp);
+        flashcardApp.addFlashcard(HAPPY_BIRTHDAY);
+        journalStorage.saveFlashcardApp(flashcardApp);
+
+        // e.g. a compaction which was interrupted after the data file was saved
+        FlashcardApp replacement = new FlashcardApp();
+        replacement.addFlashcard(HELLO_CHINESE_FLASHCARD);
+        snapshotStorage.saveFlashcardApp(replacement);
+
+        JournalFlashcardAppStorage reopenedStorage = new JournalFlashcardAppStorage(snapshotStorage);
+        assertEquals(replacement, new FlashcardApp(reopenedStorage.readFlashcardApp().get()));
+
+        // the next save starts a new journal for the replaced data file
+        replacement.addFlashcard(HAPPY_BIRTHDAY);
+        reopenedStorage.saveFlashcardApp(replacement);
+        assertEquals(replacement,
+                new FlashcardApp(new JournalFlashcardAppStorage(snapshotStorage).readFlashcardApp().get()));
+    }
+
+    @Test
+    public void flushFlashcardApp_interruptedBeforeDataFileSaved_journalReplayedOverOldDataFile() throws Exception {
+        FailingSnapshotStorage failingStorage = new FailingSnapshotStorage(snapshotStorage.getFlashcardAppFilePath());
+        JournalFlashcardAppStorage storage = new JournalFlashcardAppStorage(failingStorage);
+        FlashcardApp flashcardApp = getTypicalFlashcardApp();
+        storage.saveFlashcardApp(flashcardApp);
+        flashcardApp.addFlashcard(HAPPY_BIRTHDAY);
+        storage.saveFlashcardApp(flashcardApp);
+
+        failingStorage.isSaveFailing = true;
+        assertThrows(IOException.class, storage::flushFlashcardApp);
+        assertEquals(getTypicalFlashcardApp(), new FlashcardApp(snapshotStorage.readFlashcardApp().get()));
+        assertEquals(flashcardApp,
+                new FlashcardApp(new JournalFlashcardAppStorage(snapshotStorage).readFlashcardApp().get()));
+    }
+
+    @Test
+    public void flushFlashcardApp_interruptedAfterDataFileSaved_journalReplayedOverNewDataFile() throws Exception {
+        FailingSnapshotStorage failingStorage = new FailingSnapshotStorage(snapshotStorage.getFlashcardAppFilePath());
+        JournalFlashcardAppStorage storage = new JournalFlashcardAppStorage(failingStorage);
+        FlashcardApp flashcardApp = getTypicalFlashcardApp();
+        storage.saveFlashcardApp(flashcardApp);
+        flashcardApp.addFlashcard(HAPPY_BIRTHDAY);
+        storage.saveFlashcardApp(flashcardApp);
+
+        // the data file holds every change, but the journal has not been emptied
+        failingStorage.isFailingAfterSave = true;
+        assertThrows(IOException.class, storage::flushFlashcardApp);
+        assertEquals(flashcardApp, new FlashcardApp(snapshotStorage.readFlashcardApp().get()));
+        JournalFlashcardAppStorage reopenedStorage = new JournalFlashcardAppStorage(snapshotStorage);
+        assertEquals(flashcardApp, new FlashcardApp(reopenedStorage.readFlashcardApp().get()));
+
+        // changes are journaled after the journal left behind
+        flashcardApp.addFlashcard(HELLO_CHINESE_FLASHCARD);
+        reopenedStorage.saveFlashcardApp(flashcardApp);
+        assertEquals(flashcardApp,
+                new FlashcardApp(new JournalFlashcardAppStorage(snapshotStorage).readFlashcardApp().get()));
+    }
+
+    @Test
+    public void readFlashcardApp_missingFiles_emptyResult() throws Exception {
+        assertFalse(journalStorage.readFlashcardApp().isPresent());
+    }
+
+    @Test
+    public void saveFlashcardApp_otherFilePath_notJournaled() throws Exception {
+        Path otherFilePath = testFolder.resolve("other.json");
+        journalStorage.saveFlashcardApp(getTypicalFlashcardApp(), otherFilePath);
+
+        assertEquals(getTypicalFlashcardApp(), new FlashcardApp(journalStorage.readFlashcardApp(otherFilePath).get()));
+        assertFalse(Files.exists(JournalFlashcardAppStorage.toJournalFilePath(otherFilePath)));
+        assertFalse(Files.exists(journalStorage.getJournalFilePath()));
+    }
+
+    @Test
+    public void saveFlashcardApp_nullFlashcardApp_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> journalStorage.saveFlashcardApp(null));
+    }
+
+    /**
+     * A {@code JsonFlashcardAppStorage} which can fail before or after saving, as if the app crashed during a
+     * compaction.
+     */
+    private static class FailingSnapshotStorage extends JsonFlashcardAppStorage {
+        private boolean isSaveFailing;
+        private boolean isFailingAfterSave;
+
+        private FailingSnapshotStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveFlashcardApp(ReadOnlyFlashcardApp flashcardApp, Path filePath) throws IOException {
+            if (isSaveFailing) {
+                throw new IOException("dummy exception");
+            }
+            super.saveFlashcardApp(flashcardApp, filePath);
+            if (isFailingAfterSave) {
+                throw new IOException("dummy exception");
+            }
+        }
+    }
+}
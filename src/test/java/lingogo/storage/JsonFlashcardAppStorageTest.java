@@ -1,23 +1,33 @@
 package lingogo.storage;
 
 import static lingogo.testutil.Assert.assertThrows;
+import static lingogo.testutil.TestUtil.getFlashcardIds;
+import static lingogo.testutil.TestUtil.recordEvents;
 import static lingogo.testutil.TypicalFlashcards.AFTERNOON_CHINESE_FLASHCARD;
 import static lingogo.testutil.TypicalFlashcards.HAPPY_BIRTHDAY;
 import static lingogo.testutil.TypicalFlashcards.THANK_YOU_CHINESE_FLASHCARD;
 import static lingogo.testutil.TypicalFlashcards.getTypicalFlashcardApp;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import jdk.jfr.consumer.RecordedEvent;
 import lingogo.commons.exceptions.DataConversionException;
+import lingogo.commons.util.FileUtil;
 import lingogo.model.FlashcardApp;
 import lingogo.model.ReadOnlyFlashcardApp;
+import lingogo.model.flashcard.Flashcard;
 
 public class JsonFlashcardAppStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonFlashcardAppStorageTest");
@@ -87,6 +97,82 @@ public class JsonFlashcardAppStorageTest {
 
     }
 
+    @Test
+    public void readFlashcardApp_savedFlashcardApp_keepsIds() throws Exception {
+        Path filePath = testFolder.resolve("TempFlashcardApp.json");
+        FlashcardApp original = getTypicalFlashcardApp();
+        original.removeFlashcard(AFTERNOON_CHINESE_FLASHCARD);
+        original.addFlashcard(THANK_YOU_CHINESE_FLASHCARD);
+        new JsonFlashcardAppStorage(filePath).saveFlashcardApp(original);
+
+        ReadOnlyFlashcardApp readBack = new JsonFlashcardAppStorage(filePath).readFlashcardApp().get();
+        assertEquals(getFlashcardIds(original), getFlashcardIds(readBack));
+    }
+
+    @Test
+    public void readFlashcardApp_firstPage_passedBeforeWholeFlashcardApp() throws Exception {
+        Path filePath = testFolder.resolve("TempFlashcardApp.json");
+        FlashcardApp original = getTypicalFlashcardApp();
+        JsonFlashcardAppStorage jsonFlashcardAppStorage = new JsonFlashcardAppStorage(filePath);
+        jsonFlashcardAppStorage.saveFlashcardApp(original);
+
+        List<List<Flashcard>> firstPages = new ArrayList<>();
+        ReadOnlyFlashcardApp readBack = jsonFlashcardAppStorage.readFlashcardApp(2, firstPages::add).get();
+        assertEquals(List.of(original.getFlashcardList().subList(0, 2)), firstPages);
+        assertEquals(original, new FlashcardApp(readBack));
+
+        // fewer flashcards than the first page -> no first page
+        firstPages.clear();
+        int size = original.getFlashcardList().size();
+        jsonFlashcardAppStorage.readFlashcardApp(size + 1, firstPages::add);
+        assertTrue(firstPages.isEmpty());
+    }
+
+    @Test
+    public void readAndSaveFlashcardApp_recordingEvents_eventPerFileAccess() throws Exception {
+        Path filePath = testFolder.resolve("TempFlashcardApp.json");
+        FlashcardApp original = getTypicalFlashcardApp();
+        JsonFlashcardAppStorage jsonFlashcardAppStorage = new JsonFlashcardAppStorage(filePath);
+
+        List<RecordedEvent> events = recordEvents(FlashcardAppIoEvent.NAME, () -> {
+            jsonFlashcardAppStorage.saveFlashcardApp(original);
+            jsonFlashcardAppStorage.readFlashcardApp();
+        });
+
+        assertEquals(2, events.size());
+        assertEquals(FlashcardAppIoEvent.WRITE, events.get(0).getString("operation"));
+        assertEquals(FlashcardAppIoEvent.READ, events.get(1).getString("operation"));
+        for (RecordedEvent event : events) {
+            assertEquals(filePath.toString(), event.getString("filePath"));
+            assertEquals(original.getFlashcardList().size(), event.getInt("deckSize"));
+            assertEquals(Files.size(filePath), event.getLong("bytes"));
+        }
+    }
+
+    @Test
+    public void saveFlashcardApp_withBackups_keepsPreviousVersions() throws Exception {
+        Path filePath = testFolder.resolve("TempFlashcardApp.json");
+        FlashcardApp original = getTypicalFlashcardApp();
+        JsonFlashcardAppStorage jsonFlashcardAppStorage = new JsonFlashcardAppStorage(filePath, 1, false);
+
+        // first save -> no previous version to back up
+        jsonFlashcardAppStorage.saveFlashcardApp(original);
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(filePath, 1)));
+        FlashcardApp firstVersion = new FlashcardApp(original);
+
+        original.addFlashcard(THANK_YOU_CHINESE_FLASHCARD);
+        jsonFlashcardAppStorage.saveFlashcardApp(original);
+        assertEquals(firstVersion, new FlashcardApp(
+                jsonFlashcardAppStorage.readFlashcardApp(FileUtil.getBackupFilePath(filePath, 1)).get()));
+        assertEquals(original, new FlashcardApp(jsonFlashcardAppStorage.readFlashcardApp().get()));
+
+        // no temporary files are left behind
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(2, files.count());
+        }
+        assertTrue(Files.exists(filePath));
+    }
+
     @Test
     public void saveFlashcardApp_nullFlashcardApp_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveFlashcardApp(null, "SomeFile.json"));
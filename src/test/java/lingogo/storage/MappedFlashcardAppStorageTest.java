@@ -0,0 +1,140 @@
+package lingogo.storage;
+
+import static lingogo.testutil.Assert.assertThrows;
+import static lingogo.testutil.TypicalFlashcards.getTypicalFlashcardApp;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import lingogo.commons.exceptions.DataConversionException;
+import lingogo.model.FlashcardApp;
+import lingogo.model.ReadOnlyFlashcardApp;
+import lingogo.model.flashcard.Flashcard;
+
+public class MappedFlashcardAppStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private MappedFlashcardAppStorage mappedFlashcardAppStorage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("flashcardapp.bin");
+        mappedFlashcardAppStorage = new MappedFlashcardAppStorage(new BinaryFlashcardAppStorage(filePath));
+    }
+
+    @Test
+    public void readFlashcardApp_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> mappedFlashcardAppStorage.readFlashcardApp(null));
+    }
+
+    @Test
+    public void readFlashcardApp_missingFile_emptyResult() throws Exception {
+        assertFalse(mappedFlashcardAppStorage.readFlashcardApp().isPresent());
+    }
+
+    @Test
+    public void readFlashcardApp_savedByBinaryStorage_success() throws Exception {
+        FlashcardApp original = getTypicalFlashcardApp();
+        new BinaryFlashcardAppStorage(filePath).saveFlashcardApp(original);
+
+        ReadOnlyFlashcardApp readBack = mappedFlashcardAppStorage.readFlashcardApp().get();
+        assertEquals(original, new FlashcardApp(readBack));
+    }
+
+    @Test
+    public void readFlashcardApp_firstPage_passedBeforeRest() throws Exception {
+        FlashcardApp original = getTypicalFlashcardApp();
+        new BinaryFlashcardAppStorage(filePath).saveFlashcardApp(original);
+
+        List<List<Flashcard>> firstPages = new ArrayList<>();
+        ReadOnlyFlashcardApp readBack = mappedFlashcardAppStorage.readFlashcardApp(2, firstPages::add).get();
+        assertEquals(List.of(original.getFlashcardList().subList(0, 2)), firstPages);
+        assertEquals(original, new FlashcardApp(readBack));
+
+        // the first page of a smaller flashcard app is the whole flashcard app
+        firstPages.clear();
+        mappedFlashcardAppStorage.readFlashcardApp(original.getFlashcardList().size() + 1, firstPages::add);
+        assertEquals(List.of(original.getFlashcardList()), firstPages);
+    }
+
+    @Test
+    public void saveFlashcardApp_afterRead_dataFileReplaced() throws Exception {
+        new BinaryFlashcardAppStorage(filePath).saveFlashcardApp(getTypicalFlashcardApp());
+        ReadOnlyFlashcardApp readBack = mappedFlashcardAppStorage.readFlashcardApp().get();
+
+        // the flashcards read do not depend on the data file they were read from
+        mappedFlashcardAppStorage.saveFlashcardApp(new FlashcardApp());
+        assertEquals(getTypicalFlashcardApp(), new FlashcardApp(readBack));
+        assertEquals(new FlashcardApp(), new FlashcardApp(mappedFlashcardAppStorage.readFlashcardApp().get()));
+    }
+
+    @Test
+    public void saveFlashcardApp_savedThroughBinaryStorage_success() throws Exception {
+        FlashcardApp original = getTypicalFlashcardApp();
+        mappedFlashcardAppStorage.saveFlashcardApp(original);
+        assertEquals(original, new FlashcardApp(new BinaryFlashcardAppStorage(filePath).readFlashcardApp().get()));
+        assertEquals(original, new FlashcardApp(mappedFlashcardAppStorage.readFlashcardApp().get()));
+    }
+
+    @Test
+    public void readFlashcardApp_emptyFlashcardApp_success() throws Exception {
+        new BinaryFlashcardAppStorage(filePath).saveFlashcardApp(new FlashcardApp());
+        assertEquals(new FlashcardApp(), new FlashcardApp(mappedFlashcardAppStorage.readFlashcardApp().get()));
+    }
+
+    @Test
+    public void readFlashcardApp_invalidFile_throwsDataConversionException() throws Exception {
+        // not a binary data file
+        new JsonFlashcardAppStorage(filePath).saveFlashcardApp(getTypicalFlashcardApp());
+        assertThrows(DataConversionException.class, mappedFlashcardAppStorage::readFlashcardApp);
+
+        // unsupported version
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(bytes);
+        data.writeInt(BinaryFlashcardAppStorage.MAGIC_NUMBER);
+        data.writeInt(BinaryFlashcardAppStorage.FORMAT_VERSION + 1);
+        data.writeInt(0);
+        data.writeInt(0);
+        Files.write(filePath, bytes.toByteArray());
+        assertThrows(DataConversionException.class, mappedFlashcardAppStorage::readFlashcardApp);
+
+        // offset table cut short
+        bytes.reset();
+        data.writeInt(BinaryFlashcardAppStorage.MAGIC_NUMBER);
+        data.writeInt(BinaryFlashcardAppStorage.FORMAT_VERSION);
+        data.writeInt(0);
+        data.writeInt(2);
+        data.writeLong(0);
+        Files.write(filePath, bytes.toByteArray());
+        assertThrows(DataConversionException.class, mappedFlashcardAppStorage::readFlashcardApp);
+    }
+
+    @Test
+    public void readFlashcardApp_corruptedRecord_throwsDataConversionException() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(bytes);
+        data.writeInt(BinaryFlashcardAppStorage.MAGIC_NUMBER);
+        data.writeInt(BinaryFlashcardAppStorage.FORMAT_VERSION);
+        data.writeInt(0);
+        data.writeInt(1);
+        data.writeLong(0);
+        data.writeLong(1); // id
+        data.writeInt(0); // no language types, so index 0 is out of range
+        Files.write(filePath, bytes.toByteArray());
+
+        assertThrows(DataConversionException.class, mappedFlashcardAppStorage::readFlashcardApp);
+    }
+}
@@ -0,0 +1,79 @@
+package lingogo.storage;
+
+import static lingogo.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import lingogo.commons.exceptions.IllegalValueException;
+import lingogo.model.flashcard.Flashcard;
+import lingogo.model.flashcard.Phrase;
+import lingogo.testutil.FlashcardBuilder;
+
+public class ParallelFlashcardConverterTest {
+    /** Enough flashcards to fill several batches, and part of another. */
+    private static final int NUMBER_OF_FLASHCARDS = 3 * ParallelFlashcardConverter.BATCH_SIZE + 10;
+
+    private final ParallelFlashcardConverter converter = new ParallelFlashcardConverter();
+
+    @Test
+    public void toFlashcardApp_noFlashcards_emptyFlashcardApp() throws Exception {
+        assertEquals(0, converter.toFlashcardApp().getFlashcardList().size());
+    }
+
+    @Test
+    public void toFlashcardApp_manyFlashcards_keepsOrderAndIds() throws Exception {
+        List<Flashcard> flashcards = buildFlashcards();
+        flashcards.forEach(flashcard -> converter.add(new JsonAdaptedFlashcard(flashcard)));
+
+        List<Flashcard> converted = converter.toFlashcardApp().getFlashcardList();
+        assertEquals(flashcards, converted);
+        for (int i = 0; i < flashcards.size(); i++) {
+            assertEquals(flashcards.get(i).getId(), converted.get(i).getId());
+        }
+    }
+
+    @Test
+    public void toFlashcardApp_duplicatesInDifferentBatches_throwsIllegalValueException() {
+        List<Flashcard> flashcards = buildFlashcards();
+        flashcards.forEach(flashcard -> converter.add(new JsonAdaptedFlashcard(flashcard)));
+        converter.add(new JsonAdaptedFlashcard(flashcards.get(0)));
+        assertThrows(IllegalValueException.class, JsonSerializableFlashcardApp.MESSAGE_DUPLICATE_FLASHCARD,
+                converter::toFlashcardApp);
+    }
+
+    @Test
+    public void toFlashcardApp_duplicatesInSameBatch_throwsIllegalValueException() {
+        List<Flashcard> flashcards = buildFlashcards();
+        converter.add(new JsonAdaptedFlashcard(flashcards.get(0)));
+        converter.add(new JsonAdaptedFlashcard(flashcards.get(0)));
+        flashcards.forEach(flashcard -> converter.add(new JsonAdaptedFlashcard(flashcard)));
+        assertThrows(IllegalValueException.class, JsonSerializableFlashcardApp.MESSAGE_DUPLICATE_FLASHCARD,
+                converter::toFlashcardApp);
+    }
+
+    @Test
+    public void toFlashcardApp_invalidFlashcardAfterDuplicate_throwsFirstError() {
+        List<Flashcard> flashcards = buildFlashcards();
+        converter.add(new JsonAdaptedFlashcard(flashcards.get(0)));
+        flashcards.forEach(flashcard -> converter.add(new JsonAdaptedFlashcard(flashcard)));
+        converter.add(new JsonAdaptedFlashcard("Chinese", " ", "你好"));
+        converter.add(new JsonAdaptedFlashcard("Chinese", "Hello", " "));
+        assertThrows(IllegalValueException.class, Phrase.MESSAGE_CONSTRAINTS, converter::toFlashcardApp);
+    }
+
+    /**
+     * Returns {@code NUMBER_OF_FLASHCARDS} distinct flashcards with ids, in no particular order of id.
+     */
+    private static List<Flashcard> buildFlashcards() {
+        List<Flashcard> flashcards = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_FLASHCARDS; i++) {
+            flashcards.add(new FlashcardBuilder().withEnglishPhrase("Phrase " + i).build()
+                    .withId((i * 7L) % NUMBER_OF_FLASHCARDS + 1));
+        }
+        return flashcards;
+    }
+}
@@ -0,0 +1,118 @@
+package lingogo.storage;
+
+import static lingogo.testutil.Assert.assertThrows;
+import static lingogo.testutil.TypicalFlashcards.getTypicalFlashcardApp;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import lingogo.commons.exceptions.IllegalValueException;
+import lingogo.commons.util.JsonUtil;
+import lingogo.model.FlashcardApp;
+
+public class StreamingJsonFlashcardAppSerializerTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableFlashcardAppTest");
+    private static final Path TYPICAL_FLASHCARDS_FILE = TEST_DATA_FOLDER.resolve("typicalFlashcardsFlashcardApp.json");
+    private static final Path INVALID_FLASHCARD_FILE = TEST_DATA_FOLDER.resolve("invalidFlashcardFlashcardApp.json");
+    private static final Path DUPLICATE_FLASHCARD_FILE = TEST_DATA_FOLDER.resolve("duplicateFlashcardFlashcardApp"
+        + ".json");
+
+    @Test
+    public void readFlashcardApp_typicalFlashcardsFile_success() throws Exception {
+        try (InputStream in = Files.newInputStream(TYPICAL_FLASHCARDS_FILE)) {
+            assertEquals(getTypicalFlashcardApp(), StreamingJsonFlashcardAppSerializer.readFlashcardApp(in));
+        }
+    }
+
+    @Test
+    public void readFlashcardApp_invalidFlashcardFile_throwsIllegalValueException() throws Exception {
+        try (InputStream in = Files.newInputStream(INVALID_FLASHCARD_FILE)) {
+            assertThrows(IllegalValueException.class, () -> StreamingJsonFlashcardAppSerializer.readFlashcardApp(in));
+        }
+    }
+
+    @Test
+    public void readFlashcardApp_duplicateFlashcards_throwsIllegalValueException() throws Exception {
+        try (InputStream in = Files.newInputStream(DUPLICATE_FLASHCARD_FILE)) {
+            assertThrows(IllegalValueException.class, JsonSerializableFlashcardApp.MESSAGE_DUPLICATE_FLASHCARD, () ->
+                    StreamingJsonFlashcardAppSerializer.readFlashcardApp(in));
+        }
+    }
+
+    @Test
+    public void readFlashcardApp_unknownFields_ignored() throws Exception {
+        String json = "{ \"version\": 2, \"flashcards\": [ { \"languageType\": \"Chinese\", \"tags\": [ \"a\" ],"
+                + " \"englishPhrase\": \"Hello\", \"foreignPhrase\": \"你好\", \"extra\": { \"a\": 1 } } ] }";
+        FlashcardApp flashcardApp = readFromString(json);
+        assertEquals(1, flashcardApp.getFlashcardList().size());
+        assertEquals("你好", flashcardApp.getFlashcardList().get(0).getForeignPhrase().value);
+    }
+
+    @Test
+    public void readFlashcardApp_missingFlashcards_emptyFlashcardApp() throws Exception {
+        assertEquals(new FlashcardApp(), readFromString("{}"));
+        assertEquals(new FlashcardApp(), readFromString("{ \"flashcards\": null }"));
+    }
+
+    @Test
+    public void readFlashcardApp_unexpectedStructure_throwsIoException() {
+        assertThrows(IOException.class, () -> readFromString(""));
+        assertThrows(IOException.class, () -> readFromString("[]"));
+        assertThrows(IOException.class, () -> readFromString("{ \"flashcards\": {} }"));
+        assertThrows(IOException.class, () -> readFromString("{ \"flashcards\": [ \"Hello\" ] }"));
+        assertThrows(IOException.class, () -> readFromString("{ \"flashcards\": [ {"));
+    }
+
+    @Test
+    public void readFlashcardApp_missingField_throwsIllegalValueException() {
+        String json = "{ \"flashcards\": [ { \"languageType\": \"Chinese\", \"englishPhrase\": \"Hello\" } ] }";
+        assertThrows(IllegalValueException.class, () -> readFromString(json));
+    }
+
+    @Test
+    public void writeFlashcardApp_notCompact_sameAsObjectMapperOutput() throws Exception {
+        FlashcardApp original = getTypicalFlashcardApp();
+        String expected = JsonUtil.toJsonString(new JsonSerializableFlashcardApp(original));
+        assertEquals(expected, writeToString(original, false));
+    }
+
+    @Test
+    public void writeFlashcardApp_compact_noWhitespaceAndReadsBack() throws Exception {
+        FlashcardApp original = getTypicalFlashcardApp();
+        String compactJson = writeToString(original, true);
+        assertFalse(compactJson.contains("\n"));
+        assertTrue(compactJson.length() < writeToString(original, false).length());
+        assertEquals(original, readFromString(compactJson));
+    }
+
+    @Test
+    public void writeFlashcardApp_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                StreamingJsonFlashcardAppSerializer.writeFlashcardApp(null, new ByteArrayOutputStream(), false));
+        assertThrows(NullPointerException.class, () ->
+                StreamingJsonFlashcardAppSerializer.writeFlashcardApp(new FlashcardApp(), null, false));
+    }
+
+    private static FlashcardApp readFromString(String json) throws Exception {
+        return StreamingJsonFlashcardAppSerializer.readFlashcardApp(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String writeToString(FlashcardApp flashcardApp, boolean isCompact) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StreamingJsonFlashcardAppSerializer.writeFlashcardApp(flashcardApp, out, isCompact);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,173 @@
+package lingogo.storage;
+
+import static lingogo.testutil.Assert.assertThrows;
+import static lingogo.testutil.TypicalFlashcards.HELLO_CHINESE_FLASHCARD;
+import static lingogo.testutil.TypicalFlashcards.getTypicalFlashcardApp;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import lingogo.model.FlashcardApp;
+import lingogo.model.ReadOnlyFlashcardApp;
+
+public class WriteBehindFlashcardAppStorageTest {
+    private static final long LONG_SAVE_DELAY_IN_MILLIS = 60_000;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WriteBehindFlashcardAppStorage(null, 0));
+    }
+
+    @Test
+    public void saveFlashcardApp_nullFlashcardApp_throwsNullPointerException() {
+        WriteBehindFlashcardAppStorage storage = new WriteBehindFlashcardAppStorage(
+                new JsonFlashcardAppStorage(testFolder.resolve("data.json")), LONG_SAVE_DELAY_IN_MILLIS);
+        assertThrows(NullPointerException.class, () -> storage.saveFlashcardApp(null));
+    }
+
+    @Test
+    public void flushFlashcardApp_multipleSavesWithinDelay_writesLatestSnapshotOnce() throws Exception {
+        RecordingFlashcardAppStorage recordingStorage = new RecordingFlashcardAppStorage(testFolder.resolve("a.json"));
+        WriteBehindFlashcardAppStorage storage =
+                new WriteBehindFlashcardAppStorage(recordingStorage, LONG_SAVE_DELAY_IN_MILLIS);
+
+        FlashcardApp flashcardApp = getTypicalFlashcardApp();
+        storage.saveFlashcardApp(flashcardApp);
+        flashcardApp.addFlashcard(HELLO_CHINESE_FLASHCARD);
+        storage.saveFlashcardApp(flashcardApp);
+        FlashcardApp expected = new FlashcardApp(flashcardApp);
+
+        // modifications after the last save are not written
+        flashcardApp.removeFlashcard(HELLO_CHINESE_FLASHCARD);
+        assertEquals(0, recordingStorage.savedFlashcardApps.size());
+
+        storage.flushFlashcardApp();
+        assertEquals(1, recordingStorage.savedFlashcardApps.size());
+        assertEquals(expected, new FlashcardApp(recordingStorage.savedFlashcardApps.get(0)));
+
+        // the underlying storage is flushed as well
+        assertEquals(1, recordingStorage.numberOfFlushes);
+    }
+
+    @Test
+    public void readFlashcardApp_pendingSave_returnsSavedData() throws Exception {
+        WriteBehindFlashcardAppStorage storage = new WriteBehindFlashcardAppStorage(
+                new JsonFlashcardAppStorage(testFolder.resolve("data.json")), LONG_SAVE_DELAY_IN_MILLIS);
+        FlashcardApp original = getTypicalFlashcardApp();
+        storage.saveFlashcardApp(original);
+        assertEquals(original, new FlashcardApp(storage.readFlashcardApp().get()));
+    }
+
+    @Test
+    public void flushFlashcardApp_writeFails_throwsIoExceptionUntilRetrySucceeds() throws Exception {
+        RecordingFlashcardAppStorage recordingStorage = new RecordingFlashcardAppStorage(testFolder.resolve("a.json"));
+        recordingStorage.isFailing = true;
+        WriteBehindFlashcardAppStorage storage =
+                new WriteBehindFlashcardAppStorage(recordingStorage, LONG_SAVE_DELAY_IN_MILLIS);
+
+        storage.saveFlashcardApp(getTypicalFlashcardApp());
+        assertThrows(IOException.class, storage::flushFlashcardApp);
+
+        // the failed save is retried by the next flush
+        recordingStorage.isFailing = false;
+        storage.flushFlashcardApp();
+        assertEquals(new FlashcardApp(getTypicalFlashcardApp()),
+                new FlashcardApp(recordingStorage.savedFlashcardApps.get(0)));
+    }
+
+    @Test
+    public void saveFlashcardApp_writeFails_retriedWithoutFlush() throws Exception {
+        RecordingFlashcardAppStorage recordingStorage = new RecordingFlashcardAppStorage(testFolder.resolve("a.json"));
+        recordingStorage.isFailing = true;
+        WriteBehindFlashcardAppStorage storage = new WriteBehindFlashcardAppStorage(recordingStorage, 0);
+
+        storage.saveFlashcardApp(getTypicalFlashcardApp());
+        waitUntil(() -> recordingStorage.numberOfFailures >= 2);
+        recordingStorage.isFailing = false;
+        waitUntil(() -> !recordingStorage.savedFlashcardApps.isEmpty());
+        assertEquals(new FlashcardApp(getTypicalFlashcardApp()),
+                new FlashcardApp(recordingStorage.savedFlashcardApps.get(0)));
+    }
+
+    @Test
+    public void saveFlashcardApp_earlierWriteFailed_acceptsSaveAndReportsBackgroundSaveFailure() throws Exception {
+        Path filePath = testFolder.resolve("a.json");
+        RecordingFlashcardAppStorage recordingStorage = new RecordingFlashcardAppStorage(filePath);
+        recordingStorage.isFailing = true;
+        WriteBehindFlashcardAppStorage storage = new WriteBehindFlashcardAppStorage(recordingStorage, 0);
+
+        storage.saveFlashcardApp(getTypicalFlashcardApp());
+        waitUntil(() -> recordingStorage.numberOfFailures >= 1);
+        FlashcardApp flashcardApp = getTypicalFlashcardApp();
+        flashcardApp.addFlashcard(HELLO_CHINESE_FLASHCARD);
+        assertThrows(IOException.class, String.format(WriteBehindFlashcardAppStorage.MESSAGE_BACKGROUND_SAVE_FAILED,
+                filePath), () -> storage.saveFlashcardApp(flashcardApp));
+
+        // the save which reported the failure is the one written once the storage recovers
+        recordingStorage.isFailing = false;
+        storage.flushFlashcardApp();
+        assertEquals(flashcardApp, new FlashcardApp(
+                recordingStorage.savedFlashcardApps.get(recordingStorage.savedFlashcardApps.size() - 1)));
+    }
+
+    @Test
+    public void closeFlashcardApp_pendingSave_writesSaveAndStopsWriter() throws Exception {
+        RecordingFlashcardAppStorage recordingStorage = new RecordingFlashcardAppStorage(testFolder.resolve("a.json"));
+        WriteBehindFlashcardAppStorage storage =
+                new WriteBehindFlashcardAppStorage(recordingStorage, LONG_SAVE_DELAY_IN_MILLIS);
+
+        storage.saveFlashcardApp(getTypicalFlashcardApp());
+        storage.closeFlashcardApp();
+        assertEquals(1, recordingStorage.savedFlashcardApps.size());
+        assertThrows(RejectedExecutionException.class, () -> storage.saveFlashcardApp(getTypicalFlashcardApp()));
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Timed out waiting for the background writer");
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * A {@code JsonFlashcardAppStorage} which records the flashcard apps it is asked to save instead of
+     * writing them to disk.
+     */
+    private static class RecordingFlashcardAppStorage extends JsonFlashcardAppStorage {
+        private final List<ReadOnlyFlashcardApp> savedFlashcardApps = new CopyOnWriteArrayList<>();
+        private volatile boolean isFailing;
+        private volatile int numberOfFailures;
+        private int numberOfFlushes;
+
+        private RecordingFlashcardAppStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveFlashcardApp(ReadOnlyFlashcardApp flashcardApp, Path filePath) throws IOException {
+            if (isFailing) {
+                numberOfFailures++;
+                throw new IOException("dummy exception");
+            }
+            savedFlashcardApps.add(flashcardApp);
+        }
+
+        @Override
+        public void flushFlashcardApp() {
+            numberOfFlushes++;
+        }
+    }
+}
@@ -4,9 +4,15 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import lingogo.commons.core.index.Index;
 import lingogo.model.Model;
+import lingogo.model.ReadOnlyFlashcardApp;
 import lingogo.model.flashcard.Flashcard;
 
 /**
@@ -52,4 +58,40 @@ public class TestUtil {
     public static Flashcard getFlashcard(Model model, Index index) {
         return model.getFilteredFlashcardList().get(index.getZeroBased());
     }
+
+    /**
+     * Returns the ids of the flashcards in {@code flashcardApp}, in order.
+     */
+    public static List<Long> getFlashcardIds(ReadOnlyFlashcardApp flashcardApp) {
+        return flashcardApp.getFlashcardList().stream().map(Flashcard::getId).collect(Collectors.toList());
+    }
+
+    /**
+     * Runs {@code action} while recording the Java Flight Recorder event named {@code eventName}, and returns the
+     * events recorded, in the order they were committed.
+     */
+    public static List<RecordedEvent> recordEvents(String eventName, ThrowingRunnable action) throws Exception {
+        Path recordingFile = Files.createTempFile("lingogo", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(recordingFile);
+            return RecordingFile.readAllEvents(recordingFile).stream()
+                    .filter(event -> event.getEventType().getName().equals(eventName))
+                    .sorted((first, second) -> first.getEndTime().compareTo(second.getEndTime()))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(recordingFile);
+        }
+    }
+
+    /**
+     * Represents an action which may throw an exception.
+     */
+    @FunctionalInterface
+    public interface ThrowingRunnable {
+        void run() throws Exception;
+    }
 }